@@ -0,0 +1,126 @@
+package team.nine.booknutsbackend.benchmark;
+
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.Comment;
+import team.nine.booknutsbackend.domain.Follow;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.domain.reaction.Heart;
+import team.nine.booknutsbackend.domain.reaction.Nuts;
+import team.nine.booknutsbackend.domain.series.Series;
+import team.nine.booknutsbackend.domain.series.SeriesBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//벤치마크용 가짜 엔티티 (DB 없이 메모리에서 생성)
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long userId) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setLoginId("user" + userId);
+        user.setPassword("password");
+        user.setUsername("user" + userId);
+        user.setNickname("nickname" + userId);
+        user.setEmail("user" + userId + "@naver.com");
+        return user;
+    }
+
+    public static Board board(long boardId, User writer) {
+        Board board = new Board();
+        board.setBoardId(boardId);
+        board.setTitle("boardTitle" + boardId);
+        board.setContent("boardContent");
+        board.setBookTitle("bookTitle");
+        board.setBookAuthor("bookAuthor");
+        board.setBookImgUrl("bookImgUrl");
+        board.setBookGenre("bookGenre");
+        board.setUser(writer);
+        board.setNutsCnt((int) (boardId % 100));
+        board.setHeartCnt((int) (boardId % 50));
+        return board;
+    }
+
+    //팔로잉/팔로워, 넛츠/좋아요 목록이 큰 유저
+    public static User heavyUser(long userId, int followCount, int reactionCount) {
+        User user = user(userId);
+        User other = user(userId + 1);
+
+        List<Follow> followers = new ArrayList<>(followCount);
+        List<Follow> followings = new ArrayList<>(followCount);
+        for (int i = 0; i < followCount; i++) {
+            User target = user(userId + 2 + i);
+            followers.add(new Follow((long) i, target, user));
+            followings.add(new Follow((long) (followCount + i), user, target));
+        }
+        user.setFollowers(followers);
+        user.setFollowings(followings);
+
+        List<Nuts> nutsList = new ArrayList<>(reactionCount);
+        List<Heart> hearts = new ArrayList<>(reactionCount);
+        for (int i = 0; i < reactionCount; i++) {
+            Board board = board(i, other);
+            nutsList.add(new Nuts((long) i, user, board));
+            hearts.add(new Heart((long) i, user, board));
+        }
+        user.setNutsList(nutsList);
+        user.setHearts(hearts);
+        return user;
+    }
+
+    public static Series series(int boardCount) {
+        Series series = new Series();
+        series.setSeriesId(1L);
+        series.setTitle("seriesTitle");
+        series.setContent("seriesContent");
+
+        User writer = user(1L);
+        List<SeriesBoard> seriesBoardList = new ArrayList<>(boardCount);
+        for (int i = 0; i < boardCount; i++) {
+            SeriesBoard seriesBoard = new SeriesBoard();
+            seriesBoard.setSeries(series);
+            seriesBoard.setBoard(board(i, writer));
+            seriesBoardList.add(seriesBoard);
+        }
+        series.setSeriesBoardList(seriesBoardList);
+        return series;
+    }
+
+    //부모 댓글마다 대댓글 replyCount개 (아이디순)
+    public static List<Comment> comments(int parentCount, int replyCount) {
+        Board board = board(1L, user(1L));
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) writers.add(user(i));
+
+        List<Comment> parents = new ArrayList<>(parentCount);
+        List<Comment> comments = new ArrayList<>(parentCount * (replyCount + 1));
+        long commentId = 1;
+        for (int i = 0; i < parentCount; i++) {
+            Comment parent = comment(commentId++, writers.get(i % 50), null, board);
+            parents.add(parent);
+            comments.add(parent);
+        }
+        for (int r = 0; r < replyCount; r++) {
+            for (Comment parent : parents) {
+                comments.add(comment(commentId, writers.get((int) (commentId % 50)), parent, board));
+                commentId++;
+            }
+        }
+        return comments;
+    }
+
+    private static Comment comment(long commentId, User writer, Comment parent, Board board) {
+        Comment comment = new Comment();
+        comment.setCommentId(commentId);
+        comment.setContent("comment" + commentId);
+        comment.setCreatedDate(String.format("2022-06-01 %02d:%02d:%02d", commentId / 3600, commentId / 60 % 60, commentId % 60));
+        comment.setUser(writer);
+        comment.setParent(parent);
+        comment.setBoard(board);
+        return comment;
+    }
+
+}
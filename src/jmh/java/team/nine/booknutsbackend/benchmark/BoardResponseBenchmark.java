@@ -0,0 +1,49 @@
+package team.nine.booknutsbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.dto.ViewerContext;
+import team.nine.booknutsbackend.dto.response.BoardResponse;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//게시글 목록 한 페이지(20개)의 BoardResponse 변환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardResponseBenchmark {
+
+    @Param({"0", "10000"})
+    int reactionCount; //현재 유저가 반응한 게시글 수
+
+    private List<Board> boards;
+    private ViewerContext viewerContext;
+
+    @Setup
+    public void setup() {
+        List<User> writers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) writers.add(BenchmarkFixtures.user(i));
+
+        boards = new ArrayList<>();
+        for (int i = 0; i < 20; i++) boards.add(BenchmarkFixtures.board(reactionCount + i, writers.get(i)));
+
+        Set<Long> reacted = new HashSet<>();
+        for (long i = 0; i < reactionCount; i++) reacted.add(i * 2);
+        viewerContext = new ViewerContext(0L, reacted, reacted, reacted);
+    }
+
+    @Benchmark
+    public List<BoardResponse> boardResponsePage() {
+        List<BoardResponse> boardResponseList = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            boardResponseList.add(BoardResponse.boardResponse(board, viewerContext));
+        }
+        return boardResponseList;
+    }
+
+}
@@ -0,0 +1,34 @@
+package team.nine.booknutsbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import team.nine.booknutsbackend.domain.Comment;
+import team.nine.booknutsbackend.dto.response.CommentResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//게시글 댓글 목록의 트리 구성 (CommentService.getCommentList의 조회 이후 단계)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CommentTreeBenchmark {
+
+    @Param({"50", "2000"})
+    int parentCount;
+
+    private List<Comment> parents;
+    private List<Comment> children;
+
+    @Setup
+    public void setup() {
+        List<Comment> comments = BenchmarkFixtures.comments(parentCount, 2);
+        parents = comments.stream().filter(comment -> comment.getParent() == null).toList();
+        children = comments.stream().filter(comment -> comment.getParent() != null).toList();
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentTree() {
+        return CommentResponse.commentResponseList(parents, children);
+    }
+
+}
@@ -0,0 +1,74 @@
+package team.nine.booknutsbackend.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import team.nine.booknutsbackend.config.JwtAuthenticationFilter;
+import team.nine.booknutsbackend.config.JwtTokenProvider;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.interceptor.JWTAuthInterceptor;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+//인증이 필요한 요청 하나의 JWT 처리 비용 (필터 + 인터셉터)
+//parsePerCall: 필터에서 2번, 인터셉터에서 1번 서명 검증하던 이전 방식
+//filterChain: 요청 단위 claim 캐시 + 검증된 토큰 LRU 캐시를 사용하는 현재 방식
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtFilterChainBenchmark {
+
+    private String secretKey;
+    private String token;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private JWTAuthInterceptor interceptor;
+
+    @Setup
+    public void setup() {
+        jwtTokenProvider = new JwtTokenProvider(username -> {
+            throw new UnsupportedOperationException();
+        });
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+        interceptor = new JWTAuthInterceptor(jwtTokenProvider);
+        secretKey = Base64.getEncoder().encodeToString("booknutssecret".getBytes());
+
+        User user = BenchmarkFixtures.user(1);
+        user.setRoles(Collections.singletonList("ROLE_USER"));
+        user.setEnabled(true);
+        token = jwtTokenProvider.createAccessToken(user);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object parsePerCall() {
+        Claims validated = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody(); //필터 validateToken
+        Claims authenticated = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody(); //필터 getAuthetication
+        SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthetication(authenticated));
+        Claims intercepted = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody(); //인터셉터 validateToken
+        return validated.getExpiration().getTime() + intercepted.getExpiration().getTime();
+    }
+
+    @Benchmark
+    public Object filterChain() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/list/0");
+        request.addHeader("X-AUTH-TOKEN", token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return interceptor.preHandle(request, response, null);
+    }
+
+}
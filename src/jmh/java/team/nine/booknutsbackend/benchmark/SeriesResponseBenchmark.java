@@ -0,0 +1,30 @@
+package team.nine.booknutsbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import team.nine.booknutsbackend.domain.series.Series;
+import team.nine.booknutsbackend.dto.response.SeriesResponse;
+
+import java.util.concurrent.TimeUnit;
+
+//시리즈 목록 조회 (시리즈 게시글의 넛츠 수 합계)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SeriesResponseBenchmark {
+
+    @Param({"10", "1000"})
+    int boardCount;
+
+    private Series series;
+
+    @Setup
+    public void setup() {
+        series = BenchmarkFixtures.series(boardCount);
+    }
+
+    @Benchmark
+    public SeriesResponse seriesResponse() {
+        return SeriesResponse.seriesResponse(series);
+    }
+
+}
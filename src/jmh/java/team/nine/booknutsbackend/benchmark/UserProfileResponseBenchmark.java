@@ -0,0 +1,32 @@
+package team.nine.booknutsbackend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.dto.response.UserProfileResponse;
+
+import java.util.concurrent.TimeUnit;
+
+//프로필 조회 (현재 유저의 팔로잉 목록 선형 탐색)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserProfileResponseBenchmark {
+
+    @Param({"100", "10000"})
+    int followCount;
+
+    private User curUser;
+    private User targetUser;
+
+    @Setup
+    public void setup() {
+        curUser = BenchmarkFixtures.heavyUser(1L, followCount, 1000);
+        targetUser = BenchmarkFixtures.heavyUser(1_000_000L, followCount, 1000);
+    }
+
+    @Benchmark
+    public UserProfileResponse userProfileResponse() {
+        return UserProfileResponse.userProfileResponse(curUser, targetUser);
+    }
+
+}
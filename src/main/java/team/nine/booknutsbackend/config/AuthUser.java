@@ -0,0 +1,47 @@
+package team.nine.booknutsbackend.config;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import team.nine.booknutsbackend.domain.User;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//access token의 claim으로 만든 인증 유저 (요청마다 User 엔티티를 조회하지 않음)
+@Getter
+public class AuthUser implements Principal {
+
+    private final Long userId;
+    private final String email;
+    private final List<String> roles;
+    private final boolean enabled;
+
+    public AuthUser(Long userId, String email, List<String> roles, boolean enabled) {
+        this.userId = userId;
+        this.email = email;
+        this.roles = roles == null ? new ArrayList<>() : roles;
+        this.enabled = enabled;
+    }
+
+    public static AuthUser authUser(User user) {
+        List<String> roles = user.getRoles() == null ? new ArrayList<>() : new ArrayList<>(user.getRoles());
+        return new AuthUser(user.getUserId(), user.getEmail(), roles, user.isEnabled());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+    }
+
+    //기존 컨트롤러의 principal.getName() (= 이메일) 유지
+    @Override
+    public String getName() {
+        return email;
+    }
+
+}
@@ -0,0 +1,51 @@
+package team.nine.booknutsbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import team.nine.booknutsbackend.debate.DebateEventBus;
+import team.nine.booknutsbackend.debate.DebateEventDispatcher;
+import team.nine.booknutsbackend.debate.LocalDebateEventBus;
+import team.nine.booknutsbackend.debate.RedisDebateEventBus;
+
+import java.util.concurrent.Executors;
+
+//debate.event-bus=redis 이면 Redis pub/sub으로 모든 서버에 전달, local 이면 이 서버에만
+@Configuration
+public class DebateEventConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "debate.event-bus", havingValue = "local", matchIfMissing = true)
+    public DebateEventBus localDebateEventBus(DebateEventDispatcher dispatcher) {
+        return new LocalDebateEventBus(dispatcher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "debate.event-bus", havingValue = "redis")
+    public RedisDebateEventBus redisDebateEventBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                                   DebateEventDispatcher dispatcher) {
+        return new RedisDebateEventBus(redisTemplate, objectMapper, dispatcher);
+    }
+
+    //이벤트 순서를 지키기 위해 한 스레드에서 수신 처리
+    @Bean
+    @ConditionalOnProperty(name = "debate.event-bus", havingValue = "redis")
+    public RedisMessageListenerContainer debateEventListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      RedisDebateEventBus redisDebateEventBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "debate-event-listener");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        container.addMessageListener(redisDebateEventBus, new ChannelTopic(RedisDebateEventBus.CHANNEL));
+        return container;
+    }
+
+}
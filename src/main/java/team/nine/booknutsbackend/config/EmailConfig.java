@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import team.nine.booknutsbackend.mail.EmailOutbox;
 
 import java.util.Properties;
 
@@ -28,6 +29,18 @@ public class EmailConfig {
     @Value("${AdminMail.password}")
     private String password;
 
+    //발송 대기열 설정
+    @Value("${mail.outbox.capacity:1000}")
+    private int outboxCapacity;
+    @Value("${mail.outbox.workers:2}")
+    private int outboxWorkers;
+    @Value("${mail.outbox.batch-size:20}")
+    private int outboxBatchSize;
+    @Value("${mail.outbox.max-attempts:3}")
+    private int outboxMaxAttempts;
+    @Value("${mail.outbox.backoff-millis:1000}")
+    private long outboxBackoffMillis;
+
     @Bean
     public JavaMailSender javaMailService() {
         JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
@@ -40,6 +53,12 @@ public class EmailConfig {
         return javaMailSender;
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public EmailOutbox emailOutbox(JavaMailSender javaMailSender) {
+        return new EmailOutbox(javaMailSender, id, outboxCapacity, outboxWorkers,
+                outboxBatchSize, outboxMaxAttempts, outboxBackoffMillis);
+    }
+
     private Properties getMailProperties() {
         Properties pt = new Properties();
         pt.put("mail.smtp.socketFactory.port", socketPort);
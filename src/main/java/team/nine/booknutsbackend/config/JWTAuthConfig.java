@@ -2,21 +2,32 @@ package team.nine.booknutsbackend.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import team.nine.booknutsbackend.interceptor.JWTAuthInterceptor;
+import team.nine.booknutsbackend.resolver.CurrentUserArgumentResolver;
+
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
 public class JWTAuthConfig implements WebMvcConfigurer {
 
     private final JWTAuthInterceptor jwtAuthInterceptor;
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(jwtAuthInterceptor)
                 .addPathPatterns("/**")
-                .excludePathPatterns("/auth/**"); //예외 처리할 주소
+                .excludePathPatterns("/auth/**", "/ws/**"); //예외 처리할 주소 (WebSocket은 STOMP CONNECT에서 인증)
+    }
+
+    //@CurrentUser 파라미터에 현재 유저 주입
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
     }
 
-}
\ No newline at end of file
+}
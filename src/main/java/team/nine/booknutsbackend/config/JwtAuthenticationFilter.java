@@ -1,5 +1,6 @@
 package team.nine.booknutsbackend.config;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,13 +21,14 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
-        String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
 
-        //토큰이 유효할 경우
+        //토큰이 유효할 경우 (파싱한 claim은 요청에 저장되어 인터셉터에서 재사용)
         try {
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthetication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            Claims claims = jwtTokenProvider.resolveToken(httpRequest) != null ? jwtTokenProvider.resolveClaims(httpRequest) : null;
+            if (claims != null) {
+                Authentication authentication = jwtTokenProvider.getAuthetication(claims);
+                if (authentication != null) SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (InvalidTokenException e) {
             e.printStackTrace();
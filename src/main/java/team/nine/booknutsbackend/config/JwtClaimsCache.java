@@ -0,0 +1,69 @@
+package team.nine.booknutsbackend.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//서명 검증이 끝난 토큰의 claim 캐시 (토큰 SHA-256 digest -> claim, 만료 시각)
+//최근에 사용된 토큰만 maxSize개까지 유지 (LRU), 토큰이 만료되면 캐시에서도 제외
+public class JwtClaimsCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+
+    public JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > JwtClaimsCache.this.maxSize;
+            }
+        };
+    }
+
+    //만료되지 않은 캐시가 있으면 claim 반환, 없으면 null
+    public Claims get(String token) {
+        String digest = JwtTokenProvider.digest(token);
+        synchronized (entries) {
+            Entry entry = entries.get(digest);
+            if (entry == null) return null;
+            if (entry.expireAt <= System.currentTimeMillis()) {
+                entries.remove(digest);
+                return null;
+            }
+            return entry.claims;
+        }
+    }
+
+    public void put(String token, Claims claims) {
+        if (maxSize <= 0 || claims.getExpiration() == null) return;
+        String digest = JwtTokenProvider.digest(token);
+        synchronized (entries) {
+            entries.put(digest, new Entry(claims, claims.getExpiration().getTime()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static class Entry {
+        private final Claims claims;
+        private final long expireAt;
+
+        private Entry(Claims claims, long expireAt) {
+            this.claims = claims;
+            this.expireAt = expireAt;
+        }
+    }
+
+}
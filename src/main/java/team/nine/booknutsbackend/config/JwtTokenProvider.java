@@ -1,18 +1,25 @@
 package team.nine.booknutsbackend.config;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.DefaultClaims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.exception.user.InvalidTokenException;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Component
@@ -23,6 +30,17 @@ public class JwtTokenProvider {
     private long accessTokenValidTime = 30 * 60 * 1000L; //30분
     private long refreshTokenValidTime = 30 * 24 * 60 * 60 * 1000L; //30일 (한 달)
 
+    private static final String USER_ID = "userId";
+    private static final String ROLES = "roles";
+    private static final String ENABLED = "enabled";
+
+    //요청 단위 claim 캐시 (필터, 인터셉터가 같은 요청의 토큰을 다시 파싱하지 않음)
+    private static final String CLAIMS_ATTRIBUTE = JwtTokenProvider.class.getName() + ".CLAIMS";
+    private static final Claims EXPIRED = new DefaultClaims(); //만료된 토큰 표시
+
+    //서명 검증이 끝난 토큰 캐시 (토큰 만료 시까지 재검증 X)
+    private final JwtClaimsCache claimsCache = new JwtClaimsCache(10000);
+
     private final UserDetailsService userDetailsService;
 
     @PostConstruct
@@ -30,16 +48,25 @@ public class JwtTokenProvider {
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
     }
 
-    public String createAccessToken(String email) {
-        return createToken(email, accessTokenValidTime);
+    //access token에는 인증에 필요한 유저 정보(userId, roles, enabled)를 함께 담음
+    public String createAccessToken(User user) {
+        Claims claims = Jwts.claims().setSubject(user.getEmail());
+        claims.put(USER_ID, user.getUserId());
+        claims.put(ROLES, user.getRoles() == null ? new ArrayList<>() : new ArrayList<>(user.getRoles()));
+        claims.put(ENABLED, user.isEnabled());
+        return createToken(claims, accessTokenValidTime);
+    }
+
+    public long getRefreshTokenValidTime() {
+        return refreshTokenValidTime;
     }
 
+    //같은 시각에 발급되어도 기기마다 다른 토큰이 되도록 jti 추가
     public String createRefreshToken(String email) {
-        return createToken(email, refreshTokenValidTime);
+        return createToken(Jwts.claims().setSubject(email).setId(UUID.randomUUID().toString()), refreshTokenValidTime);
     }
 
-    public String createToken(String email, Long tokenValidTime) {
-        Claims claims = Jwts.claims().setSubject(email);
+    public String createToken(Claims claims, Long tokenValidTime) {
         Date now = new Date();
         return Jwts.builder()
                 .setClaims(claims)
@@ -51,13 +78,33 @@ public class JwtTokenProvider {
 
     //JWT 토큰에서 인증 정보 조회
     public Authentication getAuthetication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserPk(token));
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return getAuthetication(getClaims(token));
+    }
+
+    //userId claim이 있으면 DB 조회 없이 claim으로 인증, 없는 이전 토큰은 DB에서 조회
+    public Authentication getAuthetication(Claims claims) {
+        AuthUser authUser;
+        if (claims.get(USER_ID) != null) {
+            authUser = new AuthUser(((Number) claims.get(USER_ID)).longValue(), claims.getSubject(),
+                    getRoles(claims), !Boolean.FALSE.equals(claims.get(ENABLED)));
+        } else {
+            authUser = AuthUser.authUser((User) userDetailsService.loadUserByUsername(claims.getSubject()));
+        }
+
+        if (!authUser.isEnabled()) return null;
+        return new UsernamePasswordAuthenticationToken(authUser, "", authUser.getAuthorities());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getRoles(Claims claims) {
+        Object roles = claims.get(ROLES);
+        if (roles instanceof List) return new ArrayList<>((List<String>) roles);
+        return new ArrayList<>();
     }
 
     //토큰에서 회원 정보 추출
     public String getUserPk(String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+        return getClaims(token).getSubject();
     }
 
     //Request의 Header에서 token 값을 가져온다 => "X-AUTH-TOKEN" : "TOKEN값"
@@ -65,23 +112,56 @@ public class JwtTokenProvider {
         return request.getHeader("X-AUTH-TOKEN");
     }
 
+    //요청 토큰의 claim 조회 (요청당 한 번만 파싱, 만료된 토큰이면 null)
+    public Claims resolveClaims(HttpServletRequest request) throws InvalidTokenException {
+        Object cached = request.getAttribute(CLAIMS_ATTRIBUTE);
+        if (cached == null) {
+            cached = parseClaims(resolveToken(request));
+            request.setAttribute(CLAIMS_ATTRIBUTE, cached);
+        }
+        return cached == EXPIRED ? null : (Claims) cached;
+    }
+
     //토큰의 유효성 체크
     public boolean validateToken(String jwtToken) throws InvalidTokenException {
+        return parseClaims(jwtToken) != EXPIRED;
+    }
+
+    //토큰의 만료 일자 확인
+    public Long getValidTime(String jwtToken) {
+        Date now = new Date();
+        return getClaims(jwtToken).getExpiration().getTime() - now.getTime();
+    }
+
+    //만료된 토큰은 EXPIRED, 위조되었거나 형식이 잘못된 토큰은 예외
+    private Claims parseClaims(String jwtToken) throws InvalidTokenException {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(jwtToken);
-            return !claims.getBody().getExpiration().before(new Date());
+            return getClaims(jwtToken);
         } catch (ExpiredJwtException e) {
-            return false;
+            return EXPIRED;
         } catch (Exception e) {
             throw new InvalidTokenException();
         }
     }
 
-    //토큰의 만료 일자 확인
-    public Long getValidTime(String jwtToken) {
-        Date now = new Date();
-        Jws<Claims> claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(jwtToken);
-        return claims.getBody().getExpiration().getTime() - now.getTime();
+    //서명 검증은 캐시에 없는 토큰에 대해서만 수행
+    private Claims getClaims(String jwtToken) {
+        Claims claims = claimsCache.get(jwtToken);
+        if (claims != null) return claims;
+
+        claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(jwtToken).getBody();
+        claimsCache.put(jwtToken, claims);
+        return claims;
+    }
+
+    //토큰 원문 대신 저장, 조회 key로 사용하는 SHA-256 digest
+    public static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package team.nine.booknutsbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import team.nine.booknutsbackend.ratelimit.*;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "rate-limit")
+    public RateLimitProperties rateLimitProperties() {
+        return new RateLimitProperties();
+    }
+
+    //기본은 서버 간 공유(redis), rate-limit.store=local 이면 서버 메모리 (서버마다 따로 세므로 서버 한 대일 때만)
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties rateLimitProperties, RedisTemplate<String, String> redisTemplate) {
+        if ("local".equals(rateLimitProperties.getStore())) return new LocalRateLimiter(64, 1024);
+        return new RedisRateLimiter(redisTemplate);
+    }
+
+    //Spring Security 필터 체인보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties rateLimitProperties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+}
@@ -0,0 +1,44 @@
+package team.nine.booknutsbackend.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class S3Config {
+
+    //이 크기 이상의 파일은 part로 나눠 병렬 업로드 (multipart upload)
+    @Value("${cloud.aws.s3.multipart-threshold:16777216}")
+    private long multipartThreshold;
+    @Value("${cloud.aws.s3.part-size:8388608}")
+    private long partSize;
+    @Value("${cloud.aws.s3.upload-threads:8}")
+    private int uploadThreads;
+
+    private TransferManager transferManager;
+
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(partSize)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+                .withShutDownThreadPools(true)
+                .build();
+        return transferManager;
+    }
+
+    //S3 client(AmazonS3)는 spring-cloud-aws가 관리하므로 종료 시 업로드 스레드만 정리
+    @PreDestroy
+    public void shutdownTransferManager() {
+        if (transferManager != null) transferManager.shutdownNow(false);
+    }
+
+}
@@ -0,0 +1,51 @@
+package team.nine.booknutsbackend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import team.nine.booknutsbackend.search.LocalSearchIndexBus;
+import team.nine.booknutsbackend.search.RedisSearchIndexBus;
+import team.nine.booknutsbackend.search.SearchIndex;
+import team.nine.booknutsbackend.search.SearchIndexBus;
+
+import java.util.concurrent.Executors;
+
+//search.index-bus=redis 이면 Redis pub/sub으로 모든 서버의 색인에 반영, local 이면 이 서버에만
+@Configuration
+public class SearchIndexConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "search.index-bus", havingValue = "local", matchIfMissing = true)
+    public SearchIndexBus localSearchIndexBus(SearchIndex searchIndex) {
+        return new LocalSearchIndexBus(searchIndex);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "search.index-bus", havingValue = "redis")
+    public RedisSearchIndexBus redisSearchIndexBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                                   SearchIndex searchIndex) {
+        return new RedisSearchIndexBus(redisTemplate, objectMapper, searchIndex);
+    }
+
+    //같은 문서의 변경 순서를 지키기 위해 한 스레드에서 수신 처리
+    @Bean
+    @ConditionalOnProperty(name = "search.index-bus", havingValue = "redis")
+    public RedisMessageListenerContainer searchIndexListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      RedisSearchIndexBus redisSearchIndexBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-listener");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        container.addMessageListener(redisSearchIndexBus, new ChannelTopic(RedisSearchIndexBus.CHANNEL));
+        return container;
+    }
+
+}
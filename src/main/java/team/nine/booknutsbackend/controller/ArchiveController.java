@@ -8,13 +8,14 @@ import org.springframework.web.multipart.MultipartFile;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.archive.Archive;
 import team.nine.booknutsbackend.dto.request.ArchiveRequest;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
 import team.nine.booknutsbackend.dto.response.ArchiveResponse;
-import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.dto.response.BoardListResponse;
+import team.nine.booknutsbackend.resolver.CurrentUser;
 import team.nine.booknutsbackend.service.ArchiveService;
 import team.nine.booknutsbackend.service.UserService;
 
 import javax.validation.Valid;
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,23 +39,20 @@ public class ArchiveController {
     @PostMapping("/create")
     public ResponseEntity<ArchiveResponse> createArchive(@RequestPart(value = "file", required = false) MultipartFile file,
                                                          @RequestPart(value = "archive") @Valid ArchiveRequest archiveRequest,
-                                                         Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+                                                         @CurrentUser User user) {
         Archive newArchive = archiveService.createArchive(file, ArchiveRequest.archiveRequest(archiveRequest, user));
         return new ResponseEntity<>(ArchiveResponse.archiveResponse(newArchive), HttpStatus.CREATED);
     }
 
     //특정 아카이브 내의 게시글 조회
     @GetMapping("/{archiveId}")
-    public ResponseEntity<List<BoardResponse>> getArchiveBoards(@PathVariable Long archiveId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
-        return new ResponseEntity<>(archiveService.getArchiveBoards(archiveId, user), HttpStatus.OK);
+    public ResponseEntity<BoardListResponse> getArchiveBoards(@PathVariable Long archiveId, @ModelAttribute CursorRequest cursorRequest, @CurrentUser User user) {
+        return new ResponseEntity<>(archiveService.getArchiveBoards(archiveId, user, cursorRequest), HttpStatus.OK);
     }
 
     //아카이브에 게시글 추가
     @PatchMapping("/add/{archiveId}/{boardId}")
-    public ResponseEntity<Object> addPostToArchive(@PathVariable Long archiveId, @PathVariable Long boardId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> addPostToArchive(@PathVariable Long archiveId, @PathVariable Long boardId, @CurrentUser User user) {
         archiveService.addPostToArchive(archiveId, boardId, user);
 
         Map<String, String> map = new HashMap<>();
@@ -64,8 +62,7 @@ public class ArchiveController {
 
     //아카이브 삭제
     @DeleteMapping("/{archiveId}")
-    public ResponseEntity<Object> deleteArchive(@PathVariable Long archiveId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> deleteArchive(@PathVariable Long archiveId, @CurrentUser User user) {
         archiveService.deleteArchive(archiveId, user);
 
         Map<String, String> map = new HashMap<>();
@@ -75,8 +72,7 @@ public class ArchiveController {
 
     //아카이브 내의 게시글 삭제
     @DeleteMapping("/{archiveId}/{boardId}")
-    public ResponseEntity<Object> deleteArchivePost(@PathVariable Long archiveId, @PathVariable Long boardId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> deleteArchivePost(@PathVariable Long archiveId, @PathVariable Long boardId, @CurrentUser User user) {
         archiveService.deleteArchivePost(archiveId, boardId, user);
 
         Map<String, String> map = new HashMap<>();
@@ -86,8 +82,7 @@ public class ArchiveController {
 
     //아카이브 수정
     @PatchMapping("/{archiveId}")
-    public ResponseEntity<ArchiveResponse> updateArchive(@PathVariable Long archiveId, @RequestBody ArchiveRequest archiveRequest, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<ArchiveResponse> updateArchive(@PathVariable Long archiveId, @RequestBody ArchiveRequest archiveRequest, @CurrentUser User user) {
         Archive updateArchive = archiveService.updateArchive(archiveId, archiveRequest, user);
         return new ResponseEntity<>(ArchiveResponse.archiveResponse(updateArchive), HttpStatus.OK);
     }
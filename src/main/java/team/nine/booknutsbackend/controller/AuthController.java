@@ -12,9 +12,9 @@ import team.nine.booknutsbackend.dto.response.LoginResponse;
 import team.nine.booknutsbackend.dto.response.UserResponse;
 import team.nine.booknutsbackend.exception.user.ExpiredRefreshTokenException;
 import team.nine.booknutsbackend.service.EmailAuthService;
+import team.nine.booknutsbackend.service.RefreshTokenService;
 import team.nine.booknutsbackend.service.UserService;
 
-import javax.mail.MessagingException;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Map;
@@ -27,6 +27,7 @@ public class AuthController {
     private final UserService userService;
     private final EmailAuthService emailAuthService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     //회원가입
     @PostMapping("/join")
@@ -44,7 +45,7 @@ public class AuthController {
 
     //401 인증 실패, 404 사용자 없음
     @PostMapping("/sendEmail")
-    public ResponseEntity<Object> sendEmail(@RequestBody Map<String, String> userEmail) throws MessagingException {
+    public ResponseEntity<Object> sendEmail(@RequestBody Map<String, String> userEmail) {
         return ResponseEntity.ok(emailAuthService.sendSimpleMessage(userEmail.get("email")));
     }
 
@@ -63,8 +64,9 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<Object> login(@RequestBody Map<String, String> user) {
         User loginUser = userService.login(user.get("id"), user.get("password"));
-        String accessToken = jwtTokenProvider.createAccessToken(loginUser.getUsername());
-        return new ResponseEntity<>(LoginResponse.loginResponse(loginUser, accessToken), HttpStatus.OK);
+        String accessToken = jwtTokenProvider.createAccessToken(loginUser);
+        String refreshToken = refreshTokenService.issue(loginUser);
+        return new ResponseEntity<>(LoginResponse.loginResponse(loginUser, accessToken, refreshToken), HttpStatus.OK);
     }
 
     //토큰 재발급
@@ -75,7 +77,7 @@ public class AuthController {
     @GetMapping("/refresh")
     public ResponseEntity<Object> refreshToken(HttpServletRequest request) {
         String refreshToken = jwtTokenProvider.resolveToken(request);
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        if (jwtTokenProvider.resolveClaims(request) == null) {
             throw new ExpiredRefreshTokenException();
         }
 
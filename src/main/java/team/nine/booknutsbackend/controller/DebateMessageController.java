@@ -0,0 +1,48 @@
+package team.nine.booknutsbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+import team.nine.booknutsbackend.config.AuthUser;
+import team.nine.booknutsbackend.debate.DebateRoomState;
+import team.nine.booknutsbackend.dto.request.DebateMessageRequest;
+import team.nine.booknutsbackend.service.DebateMessageService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//채팅 토론 STOMP 메세지 처리 (설정은 WebSocketConfig)
+@RequiredArgsConstructor
+@Controller
+public class DebateMessageController {
+
+    private final DebateMessageService debateMessageService;
+
+    //토론장 현재 상태 (/app/debate/{roomId} 구독 시 1회 응답)
+    @SubscribeMapping("/debate/{roomId}")
+    public DebateRoomState.Snapshot snapshot(@DestinationVariable Long roomId) {
+        return debateMessageService.getSnapshot(roomId);
+    }
+
+    //채팅 전송 -> /topic/debate/{roomId}
+    @MessageMapping("/debate/{roomId}/chat")
+    public void chat(@DestinationVariable Long roomId, @Payload DebateMessageRequest request, AuthUser user) {
+        debateMessageService.sendMessage(roomId, user.getUserId(), request.getMessage());
+    }
+
+    //오류는 보낸 세션에만 전달
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public Map<String, String> handleException(RuntimeException e) {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("error", e.getClass().getSimpleName());
+        map.put("msg", e.getMessage());
+        return map;
+    }
+
+}
@@ -6,10 +6,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.dto.response.FollowResponse;
+import team.nine.booknutsbackend.resolver.CurrentUser;
 import team.nine.booknutsbackend.service.FollowService;
 import team.nine.booknutsbackend.service.UserService;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,8 +24,7 @@ public class FollowController {
 
     //팔로우
     @PutMapping("/{followingId}")
-    public ResponseEntity<Object> follow(@PathVariable Long followingId, Principal principal) {
-        User follower = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> follow(@PathVariable Long followingId, @CurrentUser User follower) {
         followService.follow(followingId, follower.getUserId());
 
         Map<String, String> map = new HashMap<>();
@@ -35,8 +34,7 @@ public class FollowController {
 
     //언팔로우
     @DeleteMapping("/{unfollowingId}")
-    public ResponseEntity<Object> unfollow(@PathVariable Long unfollowingId, Principal principal) {
-        User follower = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> unfollow(@PathVariable Long unfollowingId, @CurrentUser User follower) {
         followService.unfollow(unfollowingId, follower.getUserId());
 
         Map<String, String> map = new HashMap<>();
@@ -46,16 +44,14 @@ public class FollowController {
 
     //팔로잉 리스트
     @GetMapping("/followinglist/{userId}")
-    public ResponseEntity<List<FollowResponse>> findMyFollowingList(@PathVariable Long userId, Principal principal) {
-        userService.findUserByEmail(principal.getName());
+    public ResponseEntity<List<FollowResponse>> findMyFollowingList(@PathVariable Long userId) {
         User user = userService.findUserById(userId);
         return new ResponseEntity<>(followService.getMyFollowingList(user), HttpStatus.OK);
     }
 
     //팔로워 리스트
     @GetMapping("/followerlist/{userId}")
-    public ResponseEntity<List<FollowResponse>> findMyFollowerList(@PathVariable Long userId, Principal principal) {
-        userService.findUserByEmail(principal.getName());
+    public ResponseEntity<List<FollowResponse>> findMyFollowerList(@PathVariable Long userId) {
         User user = userService.findUserById(userId);
         return new ResponseEntity<>(followService.getMyFollowerList(user), HttpStatus.OK);
     }
@@ -8,10 +8,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.resolver.CurrentUser;
 import team.nine.booknutsbackend.service.ReactionService;
-import team.nine.booknutsbackend.service.UserService;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -20,12 +19,10 @@ import java.util.Map;
 @RequestMapping("/reaction")
 public class ReactionController {
 
-    private final UserService userService;
     private final ReactionService reactionService;
 
     @PutMapping("/nuts/{boardId}")
-    public ResponseEntity<Object> clickNuts(@PathVariable Long boardId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> clickNuts(@PathVariable Long boardId, @CurrentUser User user) {
 
         Map<String, String> map = new HashMap<>();
         map.put("result", reactionService.clickNuts(boardId, user));
@@ -33,8 +30,7 @@ public class ReactionController {
     }
 
     @PutMapping("/heart/{boardId}")
-    public ResponseEntity<Object> clickHeart(@PathVariable Long boardId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> clickHeart(@PathVariable Long boardId, @CurrentUser User user) {
 
         Map<String, String> map = new HashMap<>();
         map.put("result", reactionService.clickHeart(boardId, user));
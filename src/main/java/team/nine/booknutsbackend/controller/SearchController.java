@@ -10,11 +10,10 @@ import org.springframework.web.bind.annotation.RestController;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.dto.response.BoardResponse;
 import team.nine.booknutsbackend.dto.response.DebateRoomResponse;
-import team.nine.booknutsbackend.dto.response.UserProfileResponse;
+import team.nine.booknutsbackend.dto.response.UserSearchResponse;
+import team.nine.booknutsbackend.resolver.CurrentUser;
 import team.nine.booknutsbackend.service.SearchService;
-import team.nine.booknutsbackend.service.UserService;
 
-import java.security.Principal;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -23,11 +22,9 @@ import java.util.List;
 public class SearchController {
 
     private final SearchService searchService;
-    private final UserService userService;
 
     @GetMapping("/board")
-    public ResponseEntity<List<BoardResponse>> searchBoard(@RequestParam String keyword, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<List<BoardResponse>> searchBoard(@RequestParam String keyword, @CurrentUser User user) {
         return new ResponseEntity<>(searchService.searchBoard(keyword, user), HttpStatus.OK);
     }
 
@@ -37,8 +34,7 @@ public class SearchController {
     }
 
     @GetMapping("/user")
-    public ResponseEntity<List<UserProfileResponse>> searchUser(@RequestParam String keyword, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<List<UserSearchResponse>> searchUser(@RequestParam String keyword, @CurrentUser User user) {
         return new ResponseEntity<>(searchService.searchUser(keyword, user), HttpStatus.OK);
     }
 
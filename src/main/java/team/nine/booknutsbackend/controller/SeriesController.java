@@ -7,14 +7,16 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.series.Series;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
 import team.nine.booknutsbackend.dto.request.SeriesRequest;
-import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.dto.response.BoardListResponse;
 import team.nine.booknutsbackend.dto.response.SeriesResponse;
+import team.nine.booknutsbackend.resolver.CurrentUser;
+import team.nine.booknutsbackend.service.AwsS3Service;
 import team.nine.booknutsbackend.service.SeriesService;
 import team.nine.booknutsbackend.service.UserService;
 
 import javax.validation.Valid;
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +27,7 @@ import java.util.Map;
 public class SeriesController {
 
     private final SeriesService seriesService;
+    private final AwsS3Service awsS3Service;
     private final UserService userService;
 
     //특정 유저의 시리즈 목록 조회
@@ -37,23 +40,21 @@ public class SeriesController {
     //시리즈 발행
     @PostMapping("/create")
     public ResponseEntity<SeriesResponse> createSeries(@RequestPart(value = "file", required = false) MultipartFile file,
-                                                       @RequestPart(value = "series") @Valid SeriesRequest seriesRequest, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
-        Series newSeries = seriesService.createSeries(file, SeriesRequest.seriesRequest(seriesRequest, user), seriesRequest.getBoardIdlist());
+                                                       @RequestPart(value = "series") @Valid SeriesRequest seriesRequest, @CurrentUser User user) {
+        String imgUrl = awsS3Service.uploadImg(file, "series-"); //DB 작업 전에 업로드
+        Series newSeries = seriesService.createSeries(imgUrl, SeriesRequest.seriesRequest(seriesRequest, user), seriesRequest.getBoardIdlist());
         return new ResponseEntity<>(SeriesResponse.seriesResponse(newSeries), HttpStatus.CREATED);
     }
 
     //특정 시리즈 내의 게시글 조회
     @GetMapping("/{seriesId}")
-    public ResponseEntity<List<BoardResponse>> getSeriesBoards(@PathVariable Long seriesId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
-        return new ResponseEntity<>(seriesService.getSeriesBoards(seriesId, user), HttpStatus.OK);
+    public ResponseEntity<BoardListResponse> getSeriesBoards(@PathVariable Long seriesId, @ModelAttribute CursorRequest cursorRequest, @CurrentUser User user) {
+        return new ResponseEntity<>(seriesService.getSeriesBoards(seriesId, user, cursorRequest), HttpStatus.OK);
     }
 
     //시리즈 삭제
     @DeleteMapping("/{seriesId}")
-    public ResponseEntity<Object> deleteSeries(@PathVariable Long seriesId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> deleteSeries(@PathVariable Long seriesId, @CurrentUser User user) {
         seriesService.deleteSeries(seriesId, user);
 
         Map<String, String> map = new HashMap<>();
@@ -63,8 +64,7 @@ public class SeriesController {
 
     //시리즈에 게시글 추가
     @PatchMapping("/add/{seriesId}/{boardId}")
-    public ResponseEntity<Object> addPostToSeries(@PathVariable Long seriesId, @PathVariable Long boardId, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> addPostToSeries(@PathVariable Long seriesId, @PathVariable Long boardId, @CurrentUser User user) {
         seriesService.addPostToSeries(seriesId, boardId, user);
 
         Map<String, String> map = new HashMap<>();
@@ -74,8 +74,7 @@ public class SeriesController {
 
     //시리즈 수정
     @PatchMapping("/{seriesId}")
-    public ResponseEntity<SeriesResponse> updateArchive(@PathVariable Long seriesId, @RequestBody SeriesRequest seriesRequest, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<SeriesResponse> updateArchive(@PathVariable Long seriesId, @RequestBody SeriesRequest seriesRequest, @CurrentUser User user) {
         Series updateSeries = seriesService.updateSeries(seriesId, seriesRequest, user);
         return new ResponseEntity<>(SeriesResponse.seriesResponse(updateSeries), HttpStatus.OK);
     }
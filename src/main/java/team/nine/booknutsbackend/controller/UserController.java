@@ -8,10 +8,11 @@ import org.springframework.web.multipart.MultipartFile;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.dto.response.UserProfileResponse;
 import team.nine.booknutsbackend.dto.response.UserResponse;
+import team.nine.booknutsbackend.resolver.CurrentUser;
+import team.nine.booknutsbackend.service.AwsS3Service;
 import team.nine.booknutsbackend.service.DeleteUserService;
 import team.nine.booknutsbackend.service.UserService;
 
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,35 +22,33 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final AwsS3Service awsS3Service;
     private final DeleteUserService deleteUserService;
 
     //현재 유저 정보 - 토큰으로 조회
     @GetMapping("/info")
-    public ResponseEntity<UserResponse> userInfoByHeaderToken(Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<UserResponse> userInfoByHeaderToken(@CurrentUser User user) {
         return new ResponseEntity<>(UserResponse.userResponse(user), HttpStatus.OK);
     }
 
     //사용자 프로필 조회
     @GetMapping("/profile/{userId}")
-    public ResponseEntity<UserProfileResponse> getUserProfile(@PathVariable Long userId, Principal principal) {
-        User curUser = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<UserProfileResponse> getUserProfile(@PathVariable Long userId, @CurrentUser User curUser) {
         User targetUser = userService.findUserById(userId);
         return new ResponseEntity<>(UserProfileResponse.userProfileResponse(curUser, targetUser), HttpStatus.OK);
     }
 
     //프로필 이미지 수정
     @PatchMapping("/update/img")
-    public ResponseEntity<UserResponse> updateProfileImg(@RequestPart(value = "file", required = false) MultipartFile file, Principal principal) {
-        User originUser = userService.findUserByEmail(principal.getName());
-        User updateUser = userService.updateProfileImg(file, originUser);
+    public ResponseEntity<UserResponse> updateProfileImg(@RequestPart(value = "file", required = false) MultipartFile file, @CurrentUser User originUser) {
+        String profileImgUrl = awsS3Service.uploadImg(file, "profile-"); //DB 작업 전에 업로드
+        User updateUser = userService.updateProfileImg(profileImgUrl, originUser);
         return new ResponseEntity<>(UserResponse.userResponse(updateUser), HttpStatus.OK);
     }
 
     //비밀번호 재설정
     @PatchMapping("/update/password")
-    public ResponseEntity<Object> updatePassword(@RequestBody Map<String, String> password, Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> updatePassword(@RequestBody Map<String, String> password, @CurrentUser User user) {
         userService.updatePassword(password.get("oldPw"), password.get("newPw"), user);
 
         Map<String, String> map = new HashMap<>();
@@ -59,8 +58,7 @@ public class UserController {
 
     //회원 탈퇴
     @DeleteMapping("/delete")
-    public ResponseEntity<Object> deleteAccount(Principal principal) {
-        User user = userService.findUserByEmail(principal.getName());
+    public ResponseEntity<Object> deleteAccount(@CurrentUser User user) {
         deleteUserService.deleteAccount(user);
 
         Map<String, String> map = new HashMap<>();
@@ -0,0 +1,98 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.domain.debate.DebateMessage;
+
+import java.time.LocalDateTime;
+
+//토론장 구독자에게 보내는 변경 사항 (참여, 나가기, 상태 변경, 채팅)
+//CREATE는 구독자에게 보내지 않고 모든 서버의 목록 캐시만 비움
+//curYesUser, curNoUser, seq는 DebateRoomRegistry가 상태에 반영한 뒤 채움
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebateEvent {
+
+    public enum Type {CREATE, ENTER, EXIT, STATUS, CHAT}
+
+    Type type;
+    Long roomId;
+    Long userId;
+    String nickname;
+    Boolean opinion;
+    Integer status;
+    String message;
+    LocalDateTime sentAt;
+    int curYesUser;
+    int curNoUser;
+    long seq; //토론장별 이벤트 순번 (클라이언트에서 누락 확인용)
+
+    public static DebateEvent create(Long roomId) {
+        return DebateEvent.builder()
+                .type(Type.CREATE)
+                .roomId(roomId)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DebateEvent enter(Long roomId, User user, boolean opinion) {
+        return DebateEvent.builder()
+                .type(Type.ENTER)
+                .roomId(roomId)
+                .userId(user.getUserId())
+                .nickname(user.getNickname())
+                .opinion(opinion)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DebateEvent exit(Long roomId, User user) {
+        return DebateEvent.builder()
+                .type(Type.EXIT)
+                .roomId(roomId)
+                .userId(user.getUserId())
+                .nickname(user.getNickname())
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DebateEvent status(Long roomId, int status) {
+        return DebateEvent.builder()
+                .type(Type.STATUS)
+                .roomId(roomId)
+                .status(status)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static DebateEvent chat(Long roomId, DebateRoomState.Participant sender, String message) {
+        return DebateEvent.builder()
+                .type(Type.CHAT)
+                .roomId(roomId)
+                .userId(sender.getUserId())
+                .nickname(sender.getNickname())
+                .opinion(sender.isOpinion())
+                .message(message)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    //저장된 메세지 기록
+    public static DebateEvent chat(DebateMessage message) {
+        return DebateEvent.builder()
+                .type(Type.CHAT)
+                .roomId(message.getDebateRoomId())
+                .userId(message.getUser().getUserId())
+                .nickname(message.getUser().getNickname())
+                .opinion(message.getOpinion())
+                .message(message.getContent())
+                .sentAt(message.getCreatedAt())
+                .build();
+    }
+
+}
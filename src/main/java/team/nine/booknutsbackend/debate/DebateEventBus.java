@@ -0,0 +1,8 @@
+package team.nine.booknutsbackend.debate;
+
+//토론 이벤트 전달 경로 (이벤트를 받은 노드가 자기 구독자에게 보냄)
+public interface DebateEventBus {
+
+    void publish(DebateEvent event);
+
+}
@@ -0,0 +1,26 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+//이벤트를 이 서버의 토론장 상태에 반영하고 구독자에게 전송
+//개설, 참여, 나가기, 상태 변경은 목록이 바뀌므로 목록 캐시도 비움 (다른 서버에서 발생한 변경 포함)
+@RequiredArgsConstructor
+@Component
+public class DebateEventDispatcher {
+
+    private final DebateRoomRegistry debateRoomRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final DebateLobbyCache debateLobbyCache;
+
+    public void dispatch(DebateEvent event) {
+        if (event.getType() != DebateEvent.Type.CHAT) debateLobbyCache.invalidate();
+        if (event.getType() == DebateEvent.Type.CREATE) return; //아직 구독자가 없는 새 토론장
+
+        DebateEvent applied = debateRoomRegistry.apply(event);
+        if (applied == null) return; //이 서버에 구독자가 없는 토론장
+        messagingTemplate.convertAndSend(DebateRoomRegistry.TOPIC_PREFIX + event.getRoomId(), applied);
+    }
+
+}
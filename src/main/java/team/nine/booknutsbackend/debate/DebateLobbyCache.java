@@ -0,0 +1,133 @@
+package team.nine.booknutsbackend.debate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.dto.response.DebateRoomResponse;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+//토론 목록 화면 (/debate/list/{type}) 응답을 JSON 바이트로 캐시
+//토론장 개설, 참여, 나가기, 상태 변경 시 비우고 (다른 서버의 변경은 DebateEventDispatcher가 비움)
+//"n분 전" 표시가 오래 남지 않도록 ttl이 지나도 다시 만듦
+//type마다 한 요청만 DB에서 다시 만들고, 동시에 온 요청은 그 결과를 기다림 (ttl만 지난 목록이 있으면 기다리지 않고 그 목록 사용)
+@Component
+public class DebateLobbyCache {
+
+    private static final int CUSTOM_SIZE = 3; //맞춤 토론 개수
+
+    private final DebateRoomRepository debateRoomRepository;
+    private final ObjectMapper objectMapper;
+    private final int listSize;
+    private final long ttlMillis;
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, CompletableFuture<byte[]>> builds = new ConcurrentHashMap<>(); //type별 만드는 중인 목록
+    private long generation; //비운 횟수, 만드는 도중에 비워졌으면 저장하지 않음
+
+    public DebateLobbyCache(DebateRoomRepository debateRoomRepository, ObjectMapper objectMapper,
+                            @Value("${debate.lobby.list-size:50}") int listSize,
+                            @Value("${debate.lobby.ttl-millis:10000}") long ttlMillis) {
+        this.debateRoomRepository = debateRoomRepository;
+        this.objectMapper = objectMapper;
+        this.listSize = listSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    //텍스트 = 0, 음성 = 1, 전체 = 2
+    public byte[] getLobby(int type) {
+        if (type < 0 || type > 2) return build(type); //없는 type은 캐시 X
+
+        Entry entry = entries.get(type);
+        if (entry != null && entry.expireAt > System.currentTimeMillis()) return entry.json;
+
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = builds.putIfAbsent(type, future);
+        if (running != null) return entry != null ? entry.json : await(running);
+
+        try {
+            long current = currentGeneration();
+            byte[] json = build(type);
+            store(type, current, new Entry(json, System.currentTimeMillis() + ttlMillis));
+            future.complete(json);
+            return json;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            builds.remove(type, future);
+        }
+    }
+
+    //비운 뒤에 온 요청은 비우기 전부터 만들던 목록을 기다리지 않고 새로 만듦
+    public synchronized void invalidate() {
+        generation++;
+        entries.clear();
+        builds.clear();
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void store(int type, long builtGeneration, Entry entry) {
+        if (builtGeneration == generation) entries.put(type, entry);
+    }
+
+    //진행 중, 대기 중 토론을 최신순으로 listSize개씩 조회 (맞춤 토론은 대기 중 토론에서 CUSTOM_SIZE개)
+    private byte[] build(int type) {
+        List<DebateRoomResponse> ing = toResponses(findRooms(type, 1));
+        List<DebateRoomResponse> ready = toResponses(findRooms(type, 0));
+
+        Map<String, List<DebateRoomResponse>> map = new LinkedHashMap<>();
+        map.put("맞춤 토론", ready.subList(0, Math.min(CUSTOM_SIZE, ready.size())));
+        map.put("현재 진행 중인 토론", ing);
+        map.put("현재 대기 중인 토론", ready);
+        try {
+            return objectMapper.writeValueAsBytes(map);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<DebateRoom> findRooms(int type, int status) {
+        PageRequest page = PageRequest.of(0, listSize);
+        if (type == 2) return debateRoomRepository.findByStatusOrderByDebateRoomIdDesc(status, page);
+        return debateRoomRepository.findByTypeAndStatusOrderByDebateRoomIdDesc(type, status, page);
+    }
+
+    private static List<DebateRoomResponse> toResponses(List<DebateRoom> rooms) {
+        List<DebateRoomResponse> responses = new ArrayList<>(rooms.size());
+        for (DebateRoom room : rooms) {
+            responses.add(DebateRoomResponse.roomResponse(room));
+        }
+        return responses;
+    }
+
+    private static class Entry {
+        private final byte[] json;
+        private final long expireAt;
+
+        private Entry(byte[] json, long expireAt) {
+            this.json = json;
+            this.expireAt = expireAt;
+        }
+    }
+
+}
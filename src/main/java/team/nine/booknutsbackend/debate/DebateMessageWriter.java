@@ -0,0 +1,150 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.nine.booknutsbackend.domain.debate.DebateMessage;
+import team.nine.booknutsbackend.repository.DebateMessageRepository;
+import team.nine.booknutsbackend.repository.UserRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//채팅 메세지 비동기 저장
+//전송은 바로 하고, 저장은 워커 스레드가 flushInterval 동안 batchSize개까지 모아 한 트랜잭션으로 처리
+//대기열이 가득 차면 기록만 생략 (메세지 전송에는 영향 X)
+@Slf4j
+@Component
+public class DebateMessageWriter {
+
+    private final DebateMessageRepository debateMessageRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final BlockingQueue<DebateEvent> queue;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    //저장 통계
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public DebateMessageWriter(DebateMessageRepository debateMessageRepository, UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${debate.message.batch-size:100}") int batchSize,
+                               @Value("${debate.message.flush-interval-millis:200}") long flushIntervalMillis,
+                               @Value("${debate.message.queue-capacity:10000}") int queueCapacity) {
+        this.debateMessageRepository = debateMessageRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.worker = new Thread(this::work, "debate-message-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public void enqueue(DebateEvent event) {
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+            log.warn("토론 메세지 저장 대기열 초과 roomId = " + event.getRoomId());
+        }
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", (long) queue.size());
+        stats.put("written", written.get());
+        stats.put("batches", batches.get());
+        stats.put("dropped", dropped.get());
+        return stats;
+    }
+
+    //남은 메세지를 저장하고 종료
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void work() {
+        List<DebateEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                DebateEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                while (running && batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || remaining <= 0) break;
+                    DebateEvent next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("토론 메세지 저장 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    //한 트랜잭션으로 저장, 실패하면 (탈퇴한 유저 등) 한 건씩 저장해서 나머지는 살림
+    private void write(List<DebateEvent> batch) {
+        try {
+            save(batch);
+            batches.incrementAndGet();
+            written.addAndGet(batch.size());
+        } catch (DataAccessException e) {
+            for (DebateEvent event : batch) {
+                try {
+                    save(List.of(event));
+                    written.incrementAndGet();
+                } catch (DataAccessException ex) {
+                    dropped.incrementAndGet();
+                    log.warn("토론 메세지 저장 실패 roomId = " + event.getRoomId(), ex);
+                }
+            }
+        }
+    }
+
+    private void save(List<DebateEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<DebateMessage> messages = new ArrayList<>(events.size());
+            for (DebateEvent event : events) {
+                DebateMessage message = new DebateMessage();
+                message.setDebateRoomId(event.getRoomId());
+                message.setUser(userRepository.getById(event.getUserId()));
+                message.setOpinion(event.getOpinion());
+                message.setContent(event.getMessage());
+                message.setCreatedAt(event.getSentAt());
+                messages.add(message);
+            }
+            debateMessageRepository.saveAll(messages);
+        });
+    }
+
+}
@@ -0,0 +1,163 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+import team.nine.booknutsbackend.repository.DebateUserRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//이 노드에서 구독 중인 토론장의 실시간 상태
+//첫 구독 때 DB에서 한 번 불러오고 이후에는 이벤트로만 갱신, 마지막 구독이 끝나면 메모리에서 제거
+//DB에서 불러오는 동안 도착한 이벤트는 모아 두었다가 불러온 상태에 다시 반영 (조회 결과에 이미 포함된 이벤트여도 멱등)
+@RequiredArgsConstructor
+@Component
+public class DebateRoomRegistry {
+
+    public static final String TOPIC_PREFIX = "/topic/debate/";
+
+    private final DebateRoomRepository debateRoomRepository;
+    private final DebateUserRepository debateUserRepository;
+
+    private final Map<Long, DebateRoomState> rooms = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> sessions = new ConcurrentHashMap<>(); //세션 -> (구독 id -> 토론장 id)
+    private final Map<Long, Loading> loading = new HashMap<>(); //DB에서 불러오는 중인 토론장 (loading으로 잠금)
+
+    //구독 중인 토론장이면 이벤트 반영 후 반환, 아니면 null (이 노드에 보낼 구독자가 없음)
+    //불러오는 중인 토론장이면 이벤트를 모아 두고 null (구독자는 불러온 뒤의 전체 상태를 받음)
+    public DebateEvent apply(DebateEvent event) {
+        DebateRoomState state = rooms.get(event.getRoomId());
+        if (state == null) {
+            synchronized (loading) {
+                state = rooms.get(event.getRoomId());
+                if (state == null) {
+                    Loading pending = loading.get(event.getRoomId());
+                    if (pending != null) pending.events.add(event);
+                    return null;
+                }
+            }
+        }
+        return state.apply(event);
+    }
+
+    //토론장 상태 조회 (구독 중이 아니면 DB에서 불러오되 메모리에 두지 않음), 없는 토론장이면 null
+    public DebateRoomState find(Long roomId) {
+        DebateRoomState state = rooms.get(roomId);
+        return state != null ? state : load(roomId);
+    }
+
+    public boolean isTracked(Long roomId) {
+        return rooms.containsKey(roomId);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = roomId(accessor.getDestination());
+        if (roomId != null) subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null) return;
+        Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) release(roomId);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) return;
+        subscriptions.values().forEach(this::release);
+    }
+
+    void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        DebateRoomState state = rooms.computeIfPresent(roomId, (id, current) -> {
+            current.addSubscriber();
+            return current;
+        });
+        if (state == null) state = loadAndTrack(roomId);
+        if (state == null) return; //없는 토론장
+
+        sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>()).put(subscriptionId, roomId);
+    }
+
+    //이벤트를 모으기 시작한 뒤 DB 조회 (lock 밖에서), 조회 후 모인 이벤트를 반영하고 등록
+    //먼저 등록된 상태가 있으면 (동시에 구독한 다른 세션이 먼저 불러옴) 그 상태를 사용
+    private DebateRoomState loadAndTrack(Long roomId) {
+        synchronized (loading) {
+            loading.computeIfAbsent(roomId, id -> new Loading()).loaders++;
+        }
+
+        DebateRoomState loaded;
+        try {
+            loaded = load(roomId);
+        } catch (RuntimeException e) {
+            synchronized (loading) {
+                finishLoading(roomId);
+            }
+            throw e;
+        }
+
+        synchronized (loading) {
+            List<DebateEvent> events = finishLoading(roomId);
+            return rooms.compute(roomId, (id, current) -> {
+                if (current == null) {
+                    if (loaded == null) return null;
+                    events.forEach(loaded::apply);
+                    current = loaded;
+                }
+                current.addSubscriber();
+                return current;
+            });
+        }
+    }
+
+    //불러오는 중인 구독이 모두 끝나면 모으기 중단, 지금까지 모인 이벤트 반환 (loading 잠금 안에서 호출)
+    private List<DebateEvent> finishLoading(Long roomId) {
+        Loading pending = loading.get(roomId);
+        if (--pending.loaders == 0) loading.remove(roomId);
+        return pending.events;
+    }
+
+    private void release(Long roomId) {
+        rooms.computeIfPresent(roomId, (id, state) -> state.removeSubscriber() <= 0 ? null : state);
+    }
+
+    private DebateRoomState load(Long roomId) {
+        DebateRoom room = debateRoomRepository.findById(roomId).orElse(null);
+        if (room == null) return null;
+        return new DebateRoomState(room, debateUserRepository.findByDebateRoom(room));
+    }
+
+    private static class Loading {
+        private int loaders; //같은 토론장을 불러오는 중인 구독 수
+        private final List<DebateEvent> events = new ArrayList<>();
+    }
+
+    private static Long roomId(String destination) {
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) return null;
+        try {
+            return Long.valueOf(destination.substring(TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.domain.debate.DebateUser;
+
+import java.util.*;
+
+//노드 메모리에 유지하는 토론장 상태 (참여자, 찬반 인원, 진행 상태)
+//이벤트는 멱등하게 반영 (DB에서 불러온 직후 같은 이벤트가 다시 와도 인원이 두 번 바뀌지 않음)
+public class DebateRoomState {
+
+    private final Long roomId;
+    private final int type;
+    private final int maxUser;
+    private int status;
+    private final Map<Long, Participant> participants = new LinkedHashMap<>();
+    private long seq;
+    private int subscribers; //이 노드에서 구독 중인 세션 수
+
+    DebateRoomState(DebateRoom room, List<DebateUser> debateUsers) {
+        this.roomId = room.getDebateRoomId();
+        this.type = room.getType();
+        this.maxUser = room.getMaxUser();
+        this.status = room.getStatus();
+        for (DebateUser debateUser : debateUsers) {
+            participants.put(debateUser.getUser().getUserId(),
+                    new Participant(debateUser.getUser().getUserId(), debateUser.getUser().getNickname(), debateUser.getOpinion()));
+        }
+    }
+
+    //이벤트 반영 후 인원, 순번을 채운 이벤트 반환
+    synchronized DebateEvent apply(DebateEvent event) {
+        switch (event.getType()) {
+            case ENTER:
+                participants.put(event.getUserId(), new Participant(event.getUserId(), event.getNickname(), event.getOpinion()));
+                break;
+            case EXIT:
+                participants.remove(event.getUserId());
+                break;
+            case STATUS:
+                status = event.getStatus();
+                break;
+            default:
+                break;
+        }
+        return event.toBuilder()
+                .status(status)
+                .curYesUser(count(true))
+                .curNoUser(count(false))
+                .seq(++seq)
+                .build();
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(roomId, type, maxUser, status, count(true), count(false),
+                new ArrayList<>(participants.values()), seq);
+    }
+
+    synchronized Participant getParticipant(Long userId) {
+        return participants.get(userId);
+    }
+
+    synchronized int getStatus() {
+        return status;
+    }
+
+    int getType() {
+        return type;
+    }
+
+    synchronized int addSubscriber() {
+        return ++subscribers;
+    }
+
+    synchronized int removeSubscriber() {
+        return --subscribers;
+    }
+
+    private int count(boolean opinion) {
+        int count = 0;
+        for (Participant participant : participants.values()) {
+            if (participant.isOpinion() == opinion) count++;
+        }
+        return count;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Participant {
+        Long userId;
+        String nickname;
+        boolean opinion;
+    }
+
+    //구독 시 처음 한 번 보내는 전체 상태
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        Long roomId;
+        int type;
+        int maxUser;
+        int status;
+        int curYesUser;
+        int curNoUser;
+        List<Participant> participants;
+        long seq;
+    }
+
+}
@@ -0,0 +1,16 @@
+package team.nine.booknutsbackend.debate;
+
+import lombok.RequiredArgsConstructor;
+
+//단일 서버용, 발행한 서버의 구독자에게만 전달
+@RequiredArgsConstructor
+public class LocalDebateEventBus implements DebateEventBus {
+
+    private final DebateEventDispatcher dispatcher;
+
+    @Override
+    public void publish(DebateEvent event) {
+        dispatcher.dispatch(event);
+    }
+
+}
@@ -0,0 +1,51 @@
+package team.nine.booknutsbackend.debate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+
+//여러 서버용, Redis 채널로 모든 서버에 발행하고 각 서버는 자기 구독자가 있는 토론장 이벤트만 전달
+//발행한 서버도 채널을 통해 받으므로 직접 전달하지 않음 (Redis 장애 시에만 이 서버 구독자에게 직접 전달)
+@Slf4j
+public class RedisDebateEventBus implements DebateEventBus, MessageListener {
+
+    public static final String CHANNEL = "debate:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DebateEventDispatcher dispatcher;
+
+    public RedisDebateEventBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, DebateEventDispatcher dispatcher) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void publish(DebateEvent event) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (DataAccessException e) {
+            log.warn("토론 이벤트 발행 실패, 이 서버 구독자에게만 전달 roomId = " + event.getRoomId(), e);
+            dispatcher.dispatch(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            dispatcher.dispatch(objectMapper.readValue(message.getBody(), DebateEvent.class));
+        } catch (IOException e) {
+            log.warn("토론 이벤트 형식 오류", e);
+        }
+    }
+
+}
@@ -18,6 +18,10 @@ import java.util.List;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_writer", columnList = "writer, boardId"),
+        @Index(name = "idx_board_genre", columnList = "bookGenre, boardId")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -68,6 +72,16 @@ public class Board {
     @JsonIgnore
     private List<SeriesBoard> seriesBoards = new ArrayList<>();
 
+    //반응 수 (BoardRepository의 증감 쿼리로만 갱신, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
+    private int nutsCnt = 0;
+
+    @Column(nullable = false, updatable = false)
+    private int heartCnt = 0;
+
+    @Column(nullable = false, updatable = false)
+    private int archiveCnt = 0;
+
     public Board() {
 
     }
@@ -14,6 +14,10 @@ import java.util.List;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_comment_board_parent", columnList = "boardId, parentId, commentId"),
+        @Index(name = "idx_comment_parent", columnList = "parentId")
+})
 @Getter
 @Setter
 @AllArgsConstructor
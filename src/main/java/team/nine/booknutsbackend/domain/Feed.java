@@ -0,0 +1,36 @@
+package team.nine.booknutsbackend.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+import static javax.persistence.FetchType.LAZY;
+
+//구독 피드 (팔로워별로 미리 펼쳐둔 게시글 목록)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_feed_owner_board", columnNames = {"owner", "board"}))
+public class Feed {
+
+    public Feed(User owner, Board board) {
+        this.owner = owner;
+        this.board = board;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long feedId;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "owner")
+    private User owner; //피드를 받아보는 유저 (팔로워)
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "board")
+    private Board board;
+
+}
@@ -9,6 +9,8 @@ import javax.persistence.*;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower", "following"}),
+        indexes = @Index(name = "idx_follow_following", columnList = "following"))
 @Getter
 @Setter
 @AllArgsConstructor
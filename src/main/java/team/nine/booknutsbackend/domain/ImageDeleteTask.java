@@ -0,0 +1,43 @@
+package team.nine.booknutsbackend.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+//S3 이미지 삭제 대기열 (outbox)
+//삭제를 요청한 트랜잭션과 함께 저장되고, AwsS3Service의 스케쥴러가 모아서 삭제
+//처리하는 서버는 claimToken으로 작업을 선점 (선점 중에는 nextAttemptAt = 선점 만료 시각)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_image_delete_task_next_attempt", columnList = "nextAttemptAt"),
+        @Index(name = "idx_image_delete_task_claim", columnList = "claimToken")
+})
+public class ImageDeleteTask {
+
+    public ImageDeleteTask(String objectKey) {
+        this.objectKey = objectKey;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long taskId;
+
+    @Column(length = 300, nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private int attempts = 0; //실패 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now(); //이 시각 이후에 삭제 시도
+
+    @Column(length = 36)
+    private String claimToken; //작업을 선점한 배치
+
+}
@@ -48,10 +48,10 @@ public class User implements UserDetails {
     private String email;
 
     @Column(length = 300)
-    private String refreshToken = "";
+    private String profileImgUrl;
 
     @Column(length = 300)
-    private String profileImgUrl;
+    private String profileThumbnailUrl; //목록용 작은 이미지 (ImageVariantService에서 생성)
 
     @ElementCollection(fetch = FetchType.EAGER)
     @Builder.Default
@@ -130,11 +130,11 @@ public class User implements UserDetails {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         User user = (User) o;
-        return enabled == user.enabled && Objects.equals(userId, user.userId) && loginId.equals(user.loginId) && password.equals(user.password) && username.equals(user.username) && nickname.equals(user.nickname) && email.equals(user.email) && refreshToken.equals(user.refreshToken) && profileImgUrl.equals(user.profileImgUrl) && roles.equals(user.roles) && requestedDeleteAt.equals(user.requestedDeleteAt) && archiveBoards.equals(user.archiveBoards) && hearts.equals(user.hearts) && nutsList.equals(user.nutsList) && followers.equals(user.followers) && followings.equals(user.followings);
+        return enabled == user.enabled && Objects.equals(userId, user.userId) && loginId.equals(user.loginId) && password.equals(user.password) && username.equals(user.username) && nickname.equals(user.nickname) && email.equals(user.email) && profileImgUrl.equals(user.profileImgUrl) && roles.equals(user.roles) && requestedDeleteAt.equals(user.requestedDeleteAt) && archiveBoards.equals(user.archiveBoards) && hearts.equals(user.hearts) && nutsList.equals(user.nutsList) && followers.equals(user.followers) && followings.equals(user.followings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(userId, loginId, password, username, nickname, email, refreshToken, profileImgUrl, roles, enabled, requestedDeleteAt, archiveBoards, hearts, nutsList, followers, followings);
+        return Objects.hash(userId, loginId, password, username, nickname, email, profileImgUrl, roles, enabled, requestedDeleteAt, archiveBoards, hearts, nutsList, followers, followings);
     }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import team.nine.booknutsbackend.domain.User;
 
 import javax.persistence.*;
 
+import static javax.persistence.FetchType.LAZY;
+
 @Entity
 @Getter
 @Setter
@@ -22,15 +24,15 @@ public class ArchiveBoard {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long archiveBoardId;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "archive")
     private Archive archive;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "board")
     private Board board;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "owner")
     private User owner;
 
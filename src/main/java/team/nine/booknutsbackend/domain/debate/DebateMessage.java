@@ -0,0 +1,42 @@
+package team.nine.booknutsbackend.domain.debate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import team.nine.booknutsbackend.domain.User;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+import static javax.persistence.FetchType.LAZY;
+
+//채팅 토론 메세지 기록 (DebateMessageWriter가 모아서 저장)
+//토론장이 기록 테이블로 옮겨진 뒤에도 남도록 토론장은 id로만 참조
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_debate_message_room", columnList = "debateRoomId, messageId"))
+public class DebateMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long messageId;
+
+    @Column(nullable = false)
+    private Long debateRoomId;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "user")
+    private User user;
+
+    @Column(nullable = false)
+    private Boolean opinion;
+
+    @Column(length = 1000, nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+}
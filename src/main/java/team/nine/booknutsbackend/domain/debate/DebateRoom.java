@@ -14,6 +14,10 @@ import static javax.persistence.FetchType.LAZY;
 @Getter
 @Setter
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_debate_room_type_status_changed", columnList = "type, status, statusChangedAt"),
+        @Index(name = "idx_debate_room_status", columnList = "status, debateRoomId")
+})
 public class DebateRoom {
 
     @Id
@@ -39,6 +43,9 @@ public class DebateRoom {
     @Column(length = 300, nullable = false)
     private String coverImgUrl;
 
+    @Column(length = 300)
+    private String coverThumbnailUrl; //목록용 작은 이미지 (ImageVariantService에서 생성)
+
     @Column(length = 100, nullable = false)
     private int type; //0 : 채팅, 1 : 음성
 
@@ -61,6 +68,9 @@ public class DebateRoom {
     @Column(nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Column(nullable = false)
+    private LocalDateTime statusChangedAt = LocalDateTime.now(); //마지막 상태 변경 시각 (개설, 시작, 종료)
+
     public DebateRoom() {
 
     }
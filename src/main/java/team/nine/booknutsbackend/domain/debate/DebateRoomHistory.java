@@ -0,0 +1,94 @@
+package team.nine.booknutsbackend.domain.debate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+//종료 후 보관 기간이 지난 토론장 (DebateCleanupService가 debate_room에서 옮김, id 유지)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_debate_room_history_owner", columnList = "ownerId"))
+public class DebateRoomHistory implements Persistable<Long> {
+
+    @Id
+    private Long debateRoomId;
+
+    @Column(length = 100, nullable = false)
+    private String bookTitle;
+
+    @Column(length = 100, nullable = false)
+    private String bookAuthor;
+
+    @Column(length = 300)
+    private String bookImgUrl;
+
+    @Column(length = 100, nullable = false)
+    private String bookGenre;
+
+    @Column(length = 100, nullable = false)
+    private String topic;
+
+    @Column(length = 300, nullable = false)
+    private String coverImgUrl;
+
+    @Column(length = 300)
+    private String coverThumbnailUrl;
+
+    @Column(nullable = false)
+    private int type;
+
+    @Column(nullable = false)
+    private int maxUser;
+
+    @Column(nullable = false)
+    private int curYesUser;
+
+    @Column(nullable = false)
+    private int curNoUser;
+
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Override
+    public Long getId() {
+        return debateRoomId;
+    }
+
+    //원래 id를 그대로 쓰므로 merge(select) 없이 insert만
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public static DebateRoomHistory of(DebateRoom room, LocalDateTime archivedAt) {
+        DebateRoomHistory history = new DebateRoomHistory();
+        history.setDebateRoomId(room.getDebateRoomId());
+        history.setBookTitle(room.getBookTitle());
+        history.setBookAuthor(room.getBookAuthor());
+        history.setBookImgUrl(room.getBookImgUrl());
+        history.setBookGenre(room.getBookGenre());
+        history.setTopic(room.getTopic());
+        history.setCoverImgUrl(room.getCoverImgUrl());
+        history.setCoverThumbnailUrl(room.getCoverThumbnailUrl());
+        history.setType(room.getType());
+        history.setMaxUser(room.getMaxUser());
+        history.setCurYesUser(room.getCurYesUser());
+        history.setCurNoUser(room.getCurNoUser());
+        history.setOwnerId(room.getOwner() == null ? null : room.getOwner().getUserId());
+        history.setCreatedAt(room.getCreatedAt());
+        history.setArchivedAt(archivedAt);
+        return history;
+    }
+
+}
@@ -9,6 +9,7 @@ import javax.persistence.*;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_debate_user_room_user", columnNames = {"debateRoom", "user"}))
 @Getter
 @Setter
 public class DebateUser {
@@ -0,0 +1,52 @@
+package team.nine.booknutsbackend.domain.debate;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+//보관된 토론장의 참여자 (DebateCleanupService가 debate_user에서 옮김)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_debate_user_history_room", columnList = "debateRoomId"),
+        @Index(name = "idx_debate_user_history_user", columnList = "userId")
+})
+public class DebateUserHistory implements Persistable<Long> {
+
+    @Id
+    private Long debateUserId;
+
+    @Column(nullable = false)
+    private Long debateRoomId;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private Boolean opinion;
+
+    @Override
+    public Long getId() {
+        return debateUserId;
+    }
+
+    //원래 id를 그대로 쓰므로 merge(select) 없이 insert만
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public static DebateUserHistory of(DebateUser debateUser) {
+        DebateUserHistory history = new DebateUserHistory();
+        history.setDebateUserId(debateUser.getDebateUserId());
+        history.setDebateRoomId(debateUser.getDebateRoom().getDebateRoomId());
+        history.setUserId(debateUser.getUser() == null ? null : debateUser.getUser().getUserId());
+        history.setOpinion(debateUser.getOpinion());
+        return history;
+    }
+
+}
@@ -12,6 +12,8 @@ import javax.persistence.*;
 import static javax.persistence.FetchType.LAZY;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_nuts_board_user", columnNames = {"board", "user"}),
+        indexes = @Index(name = "idx_nuts_user_board", columnList = "user, board"))
 @Getter
 @Setter
 @AllArgsConstructor
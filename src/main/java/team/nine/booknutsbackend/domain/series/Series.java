@@ -29,6 +29,9 @@ public class Series {
     @Column(length = 300)
     private String imgUrl;
 
+    @Column(length = 300)
+    private String thumbnailUrl; //목록용 작은 이미지 (ImageVariantService에서 생성)
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "owner")
     private User owner;
@@ -0,0 +1,40 @@
+package team.nine.booknutsbackend.dto;
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.Set;
+
+//게시글 목록 한 페이지에 대한 현재 유저의 넛츠/좋아요/아카이브 여부
+@Getter
+public class ViewerContext {
+
+    private final Long userId;
+    private final Set<Long> nutsBoardIds;
+    private final Set<Long> heartBoardIds;
+    private final Set<Long> archivedBoardIds;
+
+    public ViewerContext(Long userId, Set<Long> nutsBoardIds, Set<Long> heartBoardIds, Set<Long> archivedBoardIds) {
+        this.userId = userId;
+        this.nutsBoardIds = nutsBoardIds;
+        this.heartBoardIds = heartBoardIds;
+        this.archivedBoardIds = archivedBoardIds;
+    }
+
+    public boolean isNuts(Long boardId) {
+        return nutsBoardIds.contains(boardId);
+    }
+
+    public boolean isHeart(Long boardId) {
+        return heartBoardIds.contains(boardId);
+    }
+
+    public boolean isArchived(Long boardId) {
+        return archivedBoardIds.contains(boardId);
+    }
+
+    public boolean isCurUser(Long writerId) {
+        return Objects.equals(userId, writerId);
+    }
+
+}
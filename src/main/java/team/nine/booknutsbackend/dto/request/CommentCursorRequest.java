@@ -0,0 +1,36 @@
+package team.nine.booknutsbackend.dto.request;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+//댓글 목록 커서 페이징 (afterCommentId 보다 큰 부모 댓글을 작성순으로 size개 조회, 대댓글은 부모 댓글에 포함)
+@Getter
+public class CommentCursorRequest {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    Long afterCommentId;
+    Integer size;
+
+    public CommentCursorRequest(Long afterCommentId, Integer size) {
+        this.afterCommentId = afterCommentId;
+        this.size = size;
+    }
+
+    //첫 페이지인 경우 모든 댓글 아이디보다 작은 값
+    public Long getCursor() {
+        return afterCommentId == null ? 0L : afterCommentId;
+    }
+
+    public int getPageSize() {
+        if (size == null || size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    public Pageable getPageable() {
+        return PageRequest.of(0, getPageSize());
+    }
+
+}
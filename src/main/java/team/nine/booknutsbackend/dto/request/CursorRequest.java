@@ -0,0 +1,36 @@
+package team.nine.booknutsbackend.dto.request;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+//게시글 목록 커서 페이징 (beforeBoardId 보다 작은 게시글을 최신순으로 size개 조회)
+@Getter
+public class CursorRequest {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    Long beforeBoardId;
+    Integer size;
+
+    public CursorRequest(Long beforeBoardId, Integer size) {
+        this.beforeBoardId = beforeBoardId;
+        this.size = size;
+    }
+
+    //첫 페이지인 경우 모든 게시글 아이디보다 큰 값
+    public Long getCursor() {
+        return beforeBoardId == null ? Long.MAX_VALUE : beforeBoardId;
+    }
+
+    public int getPageSize() {
+        if (size == null || size <= 0) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    public Pageable getPageable() {
+        return PageRequest.of(0, getPageSize());
+    }
+
+}
@@ -0,0 +1,14 @@
+package team.nine.booknutsbackend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DebateMessageRequest {
+
+    String message;
+
+}
@@ -0,0 +1,27 @@
+package team.nine.booknutsbackend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BoardListResponse {
+
+    List<BoardResponse> boards;
+    Long nextCursor; //다음 페이지 요청 시 beforeBoardId로 사용 (마지막 페이지인 경우 null)
+
+    public static BoardListResponse boardListResponse(List<BoardResponse> boards, int pageSize) {
+        return BoardListResponse.builder()
+                .boards(boards)
+                .nextCursor(getNextCursor(boards, pageSize))
+                .build();
+    }
+
+    private static Long getNextCursor(List<BoardResponse> boards, int pageSize) {
+        if (boards.size() < pageSize) return null;
+        return boards.get(boards.size() - 1).getBoardId();
+    }
+
+}
@@ -3,13 +3,7 @@ package team.nine.booknutsbackend.dto.response;
 import lombok.Builder;
 import lombok.Getter;
 import team.nine.booknutsbackend.domain.Board;
-import team.nine.booknutsbackend.domain.User;
-import team.nine.booknutsbackend.domain.archive.ArchiveBoard;
-import team.nine.booknutsbackend.domain.reaction.Heart;
-import team.nine.booknutsbackend.domain.reaction.Nuts;
-
-import java.util.List;
-import java.util.Objects;
+import team.nine.booknutsbackend.dto.ViewerContext;
 
 @Getter
 @Builder
@@ -32,7 +26,7 @@ public class BoardResponse {
     Boolean isArchived;
     Boolean curUser;
 
-    public static BoardResponse boardResponse(Board board, User user) {
+    public static BoardResponse boardResponse(Board board, ViewerContext viewerContext) {
         return BoardResponse.builder()
                 .boardId(board.getBoardId())
                 .title(board.getTitle())
@@ -43,40 +37,14 @@ public class BoardResponse {
                 .bookAuthor(board.getBookAuthor())
                 .bookImgUrl(board.getBookImgUrl())
                 .bookGenre(board.getBookGenre())
-                .nutsCnt(board.getNutsList().size())
-                .heartCnt(board.getHeartList().size())
-                .archiveCnt(board.getArchiveBoards().size())
-                .isNuts(getIsNuts(board, user))
-                .isHeart(getIsHeart(board, user))
-                .isArchived(getIsArchived(board, user))
-                .curUser(Objects.equals(board.getUser().getUserId(), user.getUserId()))
+                .nutsCnt(board.getNutsCnt())
+                .heartCnt(board.getHeartCnt())
+                .archiveCnt(board.getArchiveCnt())
+                .isNuts(viewerContext.isNuts(board.getBoardId()))
+                .isHeart(viewerContext.isHeart(board.getBoardId()))
+                .isArchived(viewerContext.isArchived(board.getBoardId()))
+                .curUser(viewerContext.isCurUser(board.getUser().getUserId()))
                 .build();
     }
 
-    private static Boolean getIsNuts(Board board, User user) {
-        List<Nuts> nutsList = user.getNutsList();
-        for (Nuts nuts : nutsList) {
-            if (nuts.getBoard().equals(board)) return true;
-        }
-        return false;
-    }
-
-    private static Boolean getIsHeart(Board board, User user) {
-        List<Heart> hearts = user.getHearts();
-        for (Heart heart : hearts) {
-            if (heart.getBoard().equals(board)) return true;
-        }
-        return false;
-    }
-
-    private static Boolean getIsArchived(Board board, User user) {
-        List<ArchiveBoard> archiveBoards = user.getArchiveBoards();
-        for (ArchiveBoard archiveBoard : archiveBoards) {
-            System.out.println(archiveBoard.getBoard());
-            System.out.println(board);
-            if (archiveBoard.getBoard().equals(board)) return true;
-        }
-        return false;
-    }
-
 }
@@ -0,0 +1,28 @@
+package team.nine.booknutsbackend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import team.nine.booknutsbackend.domain.Comment;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CommentListResponse {
+
+    List<CommentResponse> comments;
+    Long nextCursor; //다음 페이지 요청 시 afterCommentId로 사용 (마지막 페이지인 경우 null)
+
+    public static CommentListResponse commentListResponse(List<Comment> parents, List<Comment> children, int pageSize) {
+        return CommentListResponse.builder()
+                .comments(CommentResponse.commentResponseList(parents, children))
+                .nextCursor(getNextCursor(parents, pageSize))
+                .build();
+    }
+
+    private static Long getNextCursor(List<Comment> parents, int pageSize) {
+        if (parents.size() < pageSize) return null;
+        return parents.get(parents.size() - 1).getCommentId();
+    }
+
+}
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Getter;
 import team.nine.booknutsbackend.domain.Comment;
 
+import java.util.*;
+
 @Getter
 @Builder
 public class CommentResponse {
@@ -26,6 +28,26 @@ public class CommentResponse {
                 .build();
     }
 
+    //부모 댓글 바로 뒤에 대댓글이 오도록 정렬된 댓글 목록
+    //parents : 부모 댓글 (작성순), children : 부모 댓글들의 대댓글 (작성순)
+    public static List<CommentResponse> commentResponseList(List<Comment> parents, List<Comment> children) {
+        //부모 댓글 아이디별 대댓글
+        Map<Long, List<Comment>> childrenMap = new HashMap<>();
+        for (Comment child : children) {
+            childrenMap.computeIfAbsent(child.getParent().getCommentId(), id -> new ArrayList<>()).add(child);
+        }
+
+        List<CommentResponse> commentResponseList = new ArrayList<>(parents.size() + children.size());
+        for (Comment parent : parents) {
+            commentResponseList.add(commentResponse(parent));
+            for (Comment child : childrenMap.getOrDefault(parent.getCommentId(), Collections.emptyList())) {
+                commentResponseList.add(commentResponse(child));
+            }
+        }
+
+        return commentResponseList;
+    }
+
     private static Long getParent(Comment comment) {
         if (comment.getParent() == null) return null;
         else return comment.getParent().getCommentId();
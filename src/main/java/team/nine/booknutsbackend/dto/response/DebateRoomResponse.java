@@ -18,6 +18,7 @@ public class DebateRoomResponse {
     String bookGenre;
     String topic;
     String coverImgUrl;
+    String coverThumbnailUrl; //목록용 (썸네일이 아직 없으면 원본)
     String timeFromNow;
     int type;
     int maxUser;
@@ -35,6 +36,7 @@ public class DebateRoomResponse {
                 .bookGenre(room.getBookGenre())
                 .topic(room.getTopic())
                 .coverImgUrl(room.getCoverImgUrl())
+                .coverThumbnailUrl(room.getCoverThumbnailUrl() != null ? room.getCoverThumbnailUrl() : room.getCoverImgUrl())
                 .timeFromNow(getTimeFromNow(room))
                 .type(room.getType())
                 .maxUser(room.getMaxUser())
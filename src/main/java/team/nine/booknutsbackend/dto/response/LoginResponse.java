@@ -17,7 +17,7 @@ public class LoginResponse {
     String refreshToken;
     String profileImgUrl;
 
-    public static LoginResponse loginResponse(User user, String accessToken) {
+    public static LoginResponse loginResponse(User user, String accessToken, String refreshToken) {
         return LoginResponse.builder()
                 .userId(user.getUserId())
                 .loginId(user.getLoginId())
@@ -25,7 +25,7 @@ public class LoginResponse {
                 .nickname(user.getNickname())
                 .email(user.getEmail())
                 .accessToken(accessToken)
-                .refreshToken(user.getRefreshToken())
+                .refreshToken(refreshToken)
                 .profileImgUrl(user.getProfileImgUrl())
                 .build();
     }
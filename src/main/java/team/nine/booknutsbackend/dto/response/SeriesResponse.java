@@ -15,6 +15,7 @@ public class SeriesResponse {
     String title;
     String content;
     String imgUrl;
+    String thumbnailUrl; //목록용 (썸네일이 아직 없으면 원본)
     int totalPost;
     int totalNuts;
 
@@ -24,6 +25,7 @@ public class SeriesResponse {
                 .title(series.getTitle())
                 .content(series.getContent())
                 .imgUrl(series.getImgUrl())
+                .thumbnailUrl(series.getThumbnailUrl() != null ? series.getThumbnailUrl() : series.getImgUrl())
                 .totalPost(series.getSeriesBoardList().size())
                 .totalNuts(getTotalNuts(series))
                 .build();
@@ -33,7 +35,7 @@ public class SeriesResponse {
         List<SeriesBoard> seriesBoardList = series.getSeriesBoardList();
         int totalNuts = 0;
         for (SeriesBoard seriesBoard : seriesBoardList) {
-            totalNuts += seriesBoard.getBoard().getNutsList().size();
+            totalNuts += seriesBoard.getBoard().getNutsCnt();
         }
         return totalNuts;
     }
@@ -14,6 +14,7 @@ public class UserResponse {
     String nickname;
     String email;
     String profileImgUrl;
+    String profileThumbnailUrl; //목록용 (썸네일이 아직 없으면 원본)
 
     public static UserResponse userResponse(User user) {
         return UserResponse.builder()
@@ -23,6 +24,7 @@ public class UserResponse {
                 .nickname(user.getNickname())
                 .email(user.getEmail())
                 .profileImgUrl(user.getProfileImgUrl())
+                .profileThumbnailUrl(user.getProfileThumbnailUrl() != null ? user.getProfileThumbnailUrl() : user.getProfileImgUrl())
                 .build();
     }
 
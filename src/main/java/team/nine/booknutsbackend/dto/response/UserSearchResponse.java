@@ -0,0 +1,27 @@
+package team.nine.booknutsbackend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import team.nine.booknutsbackend.search.NicknameEntry;
+
+@Getter
+@Builder
+public class UserSearchResponse {
+
+    Long userId;
+    String nickname;
+    String profileImgUrl;
+    Boolean isMyProfile;
+    Boolean isFollow;
+
+    public static UserSearchResponse userSearchResponse(NicknameEntry entry, Long curUserId, boolean isFollow) {
+        return UserSearchResponse.builder()
+                .userId(entry.getUserId())
+                .nickname(entry.getNickname())
+                .profileImgUrl(entry.getProfileImgUrl())
+                .isMyProfile(entry.getUserId().equals(curUserId))
+                .isFollow(isFollow)
+                .build();
+    }
+
+}
@@ -15,6 +15,7 @@ import team.nine.booknutsbackend.exception.debate.CannotEnterException;
 import team.nine.booknutsbackend.exception.debate.DebateUserNotFoundException;
 import team.nine.booknutsbackend.exception.debate.RoomNotFoundException;
 import team.nine.booknutsbackend.exception.debate.StatusChangeException;
+import team.nine.booknutsbackend.exception.email.EmailQueueFullException;
 import team.nine.booknutsbackend.exception.follow.AlreadyFollowingException;
 import team.nine.booknutsbackend.exception.follow.CannotFollowException;
 import team.nine.booknutsbackend.exception.follow.NotFollowingException;
@@ -164,4 +165,9 @@ public class CustomExceptionHandler {
         return new ResponseEntity<>(getExceptionDescription(e), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(EmailQueueFullException.class)
+    public ResponseEntity<Object> handleEmailQueueFullException(EmailQueueFullException e) {
+        return new ResponseEntity<>(getExceptionDescription(e), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
 }
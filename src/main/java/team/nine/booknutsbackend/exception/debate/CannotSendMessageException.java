@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.exception.debate;
+
+public class CannotSendMessageException extends RuntimeException {
+    public CannotSendMessageException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.exception.email;
+
+public class EmailQueueFullException extends RuntimeException {
+    public EmailQueueFullException() {
+        super("이메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.exception.ratelimit;
+
+public class RequestBodyTooLargeException extends RuntimeException {
+    public RequestBodyTooLargeException() {
+        super("요청 본문이 너무 큽니다.");
+    }
+}
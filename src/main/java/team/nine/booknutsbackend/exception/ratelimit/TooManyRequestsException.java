@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.exception.ratelimit;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException() {
+        super("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -21,8 +21,8 @@ public class JWTAuthInterceptor implements HandlerInterceptor {
     public boolean preHandle(HttpServletRequest request,
                              HttpServletResponse response, Object handler) throws InvalidTokenException {
 
-        String token = jwtTokenProvider.resolveToken(request);
-        if (!jwtTokenProvider.validateToken(token)) {
+        //필터에서 파싱한 claim 재사용
+        if (jwtTokenProvider.resolveClaims(request) == null) {
             throw new ExpiredTokenException();
         }
 
@@ -0,0 +1,46 @@
+package team.nine.booknutsbackend.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import team.nine.booknutsbackend.config.AuthUser;
+import team.nine.booknutsbackend.config.JwtTokenProvider;
+import team.nine.booknutsbackend.exception.user.ExpiredTokenException;
+import team.nine.booknutsbackend.exception.user.InvalidTokenException;
+
+//STOMP CONNECT 프레임의 X-AUTH-TOKEN 헤더로 인증 (브라우저 WebSocket은 handshake에 헤더를 넣을 수 없음)
+//인증된 세션의 principal은 AuthUser
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    private static final String TOKEN_HEADER = "X-AUTH-TOKEN";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) return message;
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String token = accessor.getFirstNativeHeader(TOKEN_HEADER);
+            if (token == null) throw new InvalidTokenException();
+            if (!jwtTokenProvider.validateToken(token)) throw new ExpiredTokenException();
+
+            Authentication authentication = jwtTokenProvider.getAuthetication(token);
+            if (authentication == null) throw new InvalidTokenException();
+            accessor.setUser((AuthUser) authentication.getPrincipal());
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand())) {
+            if (accessor.getUser() == null) throw new InvalidTokenException();
+        }
+        return message;
+    }
+
+}
@@ -0,0 +1,161 @@
+package team.nine.booknutsbackend.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import team.nine.booknutsbackend.exception.email.EmailQueueFullException;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+//이메일 발송 대기열
+//요청 스레드는 대기열에 넣고 바로 반환, 워커 스레드가 모아서 발송 (한 번의 SMTP 연결로 batchSize개까지 전송)
+//실패한 메일은 backoff(1배, 2배, 4배 ...) 후 maxAttempts번까지 재시도
+@Slf4j
+public class EmailOutbox {
+
+    private final JavaMailSender javaMailSender;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final BlockingQueue<OutgoingEmail> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private volatile boolean running = true;
+
+    //발송 통계
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public EmailOutbox(JavaMailSender javaMailSender, String from, int capacity, int workerCount,
+                       int batchSize, int maxAttempts, long backoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.workers = Executors.newFixedThreadPool(workerCount, daemonThreads("email-outbox-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("email-retry-"));
+        for (int i = 0; i < workerCount; i++) workers.execute(this::work);
+    }
+
+    //대기열에 추가 (가득 찬 경우 예외)
+    public void enqueue(OutgoingEmail email) {
+        if (!queue.offer(email)) {
+            rejected.incrementAndGet();
+            throw new EmailQueueFullException();
+        }
+        enqueued.incrementAndGet();
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", (long) queue.size());
+        stats.put("enqueued", enqueued.get());
+        stats.put("sent", sent.get());
+        stats.put("retried", retried.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+
+    public void shutdown() {
+        running = false;
+        workers.shutdownNow();
+        retryScheduler.shutdownNow();
+    }
+
+    private void work() {
+        List<OutgoingEmail> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("이메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    //batch 단위 발송, 실패한 메일만 재시도
+    private void send(List<OutgoingEmail> batch) {
+        Map<MimeMessage, OutgoingEmail> messages = new IdentityHashMap<>();
+        for (OutgoingEmail email : batch) {
+            email.nextAttempt();
+            try {
+                messages.put(createMessage(email), email);
+            } catch (MessagingException e) {
+                log.warn("이메일 생성 실패 to = " + email.getTo(), e);
+                failed.incrementAndGet();
+            }
+        }
+        if (messages.isEmpty()) return;
+
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            sent.addAndGet(messages.size());
+        } catch (MailSendException e) {
+            Set<Object> failedMessages = e.getFailedMessages().isEmpty()
+                    ? new HashSet<>(messages.keySet()) : e.getFailedMessages().keySet();
+            sent.addAndGet(messages.size() - failedMessages.size());
+            for (Object message : failedMessages) retry(messages.get(message), e);
+        } catch (MailException e) {
+            for (OutgoingEmail email : messages.values()) retry(email, e);
+        }
+    }
+
+    private void retry(OutgoingEmail email, MailException cause) {
+        if (email == null) return;
+        if (email.getAttempts() >= maxAttempts) {
+            failed.incrementAndGet();
+            log.warn("이메일 발송 실패 to = " + email.getTo() + ", attempts = " + email.getAttempts(), cause);
+            return;
+        }
+
+        retried.incrementAndGet();
+        long delay = backoffMillis << (email.getAttempts() - 1);
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(email)) {
+                failed.incrementAndGet();
+                log.warn("이메일 재시도 대기열 초과 to = " + email.getTo());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private MimeMessage createMessage(OutgoingEmail email) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "utf-8");
+        helper.setTo(email.getTo());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getHtml(), true);
+        helper.setFrom(from);
+        return message;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicLong count = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
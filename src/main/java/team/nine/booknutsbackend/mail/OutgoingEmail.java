@@ -0,0 +1,20 @@
+package team.nine.booknutsbackend.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//발송 대기 중인 이메일 (HTML 본문)
+@Getter
+@RequiredArgsConstructor
+public class OutgoingEmail {
+
+    private final String to;
+    private final String subject;
+    private final String html;
+    private int attempts; //발송 시도 횟수
+
+    int nextAttempt() {
+        return ++attempts;
+    }
+
+}
@@ -0,0 +1,78 @@
+package team.nine.booknutsbackend.migration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import team.nine.booknutsbackend.config.JwtTokenProvider;
+import team.nine.booknutsbackend.service.RefreshTokenService;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//user.refresh_token 컬럼에 남아 있는 refresh token을 Redis 저장소로 이전 (배포 후에도 기존 로그인 유지)
+//만료되었거나 형식이 잘못된 토큰은 버리고, 이전한 행은 컬럼을 비움 (여러 서버가 동시에 실행해도 결과는 같음)
+//컬럼이 없으면 (새 DB) 아무것도 하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyRefreshTokenImporter {
+
+    private static final String TABLE = "user";
+    private static final String COLUMN = "refresh_token";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void importTokens() {
+        if (!columnExists()) return;
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "select user_id, " + COLUMN + " from " + TABLE + " where " + COLUMN + " is not null and " + COLUMN + " <> ''");
+        int imported = 0;
+        for (Map<String, Object> row : rows) {
+            Long userId = ((Number) row.get("user_id")).longValue();
+            String refreshToken = (String) row.get(COLUMN);
+
+            long validTime = validTime(refreshToken);
+            if (validTime > 0) {
+                refreshTokenService.store(refreshToken, userId, Duration.ofMillis(validTime));
+                imported++;
+            }
+            jdbcTemplate.update("update " + TABLE + " set " + COLUMN + " = null where user_id = ? and " + COLUMN + " = ?", userId, refreshToken);
+        }
+        if (!rows.isEmpty()) log.info("기존 refresh token " + rows.size() + "개 중 " + imported + "개 이전");
+    }
+
+    //남은 유효 시간 (만료, 위조된 토큰은 0)
+    private long validTime(String refreshToken) {
+        try {
+            return jwtTokenProvider.getValidTime(refreshToken);
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private boolean columnExists() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            boolean upperCase = metaData.storesUpperCaseIdentifiers();  //H2는 대문자, MySQL은 소문자로 저장
+            String table = upperCase ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+            String column = upperCase ? COLUMN.toUpperCase(Locale.ROOT) : COLUMN;
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                return columns.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+}
@@ -0,0 +1,113 @@
+package team.nine.booknutsbackend.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+//조회 경로별 인덱스, 중복 방지 unique 제약 추가 (엔티티의 @Table 선언과 같은 이름)
+//V1 = 기존 운영 스키마 (baseline), 테이블이 아직 없는 새 DB는 건너뛰고 JPA 스키마 생성에 맡김
+//unique 인덱스는 중복 행을 먼저 정리 (가장 먼저 생성된 행만 남김)
+@Slf4j
+public class V2__AddLookupIndexes extends BaseJavaMigration {
+
+    private static final List<LookupIndex> INDEXES = List.of(
+            LookupIndex.unique("follow", "uk_follow_follower_following", "follow_id", "follower", "following"),
+            LookupIndex.of("follow", "idx_follow_following", "following"),
+            LookupIndex.unique("heart", "uk_heart_board_user", "heart_id", "board", "user"),
+            LookupIndex.of("heart", "idx_heart_user_board", "user", "board"),
+            LookupIndex.unique("nuts", "uk_nuts_board_user", "nuts_id", "board", "user"),
+            LookupIndex.of("nuts", "idx_nuts_user_board", "user", "board"),
+            LookupIndex.unique("debate_user", "uk_debate_user_room_user", "debate_user_id", "debate_room", "user"),
+            LookupIndex.of("comment", "idx_comment_board_parent", "board_id", "parent_id", "comment_id"),
+            LookupIndex.of("comment", "idx_comment_parent", "parent_id"),
+            LookupIndex.of("board", "idx_board_writer", "writer", "board_id"),
+            LookupIndex.of("board", "idx_board_genre", "book_genre", "board_id"),
+            LookupIndex.of("debate_room", "idx_debate_room_type_status_created", "type", "status", "created_at"),
+            LookupIndex.of("debate_room", "idx_debate_room_status", "status", "debate_room_id")
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+
+        try (Statement statement = connection.createStatement()) {
+            for (LookupIndex index : INDEXES) {
+                if (!tableExists(metaData, index.table)) continue;
+                if (indexExists(metaData, index.table, index.name)) continue;
+
+                if (index.unique) {
+                    int deleted = statement.executeUpdate(index.deleteDuplicatesSql());
+                    if (deleted > 0) log.info(index.table + " 중복 행 " + deleted + "개 삭제");
+                }
+                statement.execute(index.createSql());
+                log.info(index.table + " 인덱스 생성 " + index.name);
+            }
+        }
+    }
+
+    private static boolean tableExists(DatabaseMetaData metaData, String table) throws SQLException {
+        try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(), null, identifier(metaData, table), new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static boolean indexExists(DatabaseMetaData metaData, String table, String name) throws SQLException {
+        try (ResultSet indexes = metaData.getIndexInfo(metaData.getConnection().getCatalog(), null, identifier(metaData, table), false, false)) {
+            while (indexes.next()) {
+                if (name.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) return true;
+            }
+            return false;
+        }
+    }
+
+    //메타데이터 조회용 이름 (H2는 대문자, MySQL은 소문자로 저장)
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+    private static class LookupIndex {
+
+        private final String table;
+        private final String name;
+        private final boolean unique;
+        private final String idColumn;
+        private final String[] columns;
+
+        private LookupIndex(String table, String name, boolean unique, String idColumn, String... columns) {
+            this.table = table;
+            this.name = name;
+            this.unique = unique;
+            this.idColumn = idColumn;
+            this.columns = columns;
+        }
+
+        private static LookupIndex of(String table, String name, String... columns) {
+            return new LookupIndex(table, name, false, null, columns);
+        }
+
+        private static LookupIndex unique(String table, String name, String idColumn, String... columns) {
+            return new LookupIndex(table, name, true, idColumn, columns);
+        }
+
+        private String createSql() {
+            return "create " + (unique ? "unique " : "") + "index " + name + " on " + table + " (" + String.join(", ", columns) + ")";
+        }
+
+        //MySQL은 삭제 대상 테이블을 서브쿼리에서 바로 참조할 수 없어 한 번 더 감쌈
+        private String deleteDuplicatesSql() {
+            return "delete from " + table + " where " + idColumn + " not in (" +
+                    "select keep_id from (select min(" + idColumn + ") as keep_id from " + table +
+                    " group by " + String.join(", ", columns) + ") keep_rows)";
+        }
+    }
+
+}
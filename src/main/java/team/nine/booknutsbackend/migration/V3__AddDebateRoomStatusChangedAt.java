@@ -0,0 +1,76 @@
+package team.nine.booknutsbackend.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+//토론장 마지막 상태 변경 시각 추가 (정리 스케쥴러가 개설 시각 대신 사용)
+//기존 토론장은 개설 시각으로 채움, 정리 조회 인덱스를 (type, status, created_at) -> (type, status, status_changed_at)으로 교체
+//테이블이 아직 없는 새 DB는 건너뛰고 JPA 스키마 생성에 맡김
+@Slf4j
+public class V3__AddDebateRoomStatusChangedAt extends BaseJavaMigration {
+
+    private static final String TABLE = "debate_room";
+    private static final String COLUMN = "status_changed_at";
+    private static final String NEW_INDEX = "idx_debate_room_type_status_changed";
+    private static final String OLD_INDEX = "idx_debate_room_type_status_created";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (!tableExists(metaData)) return;
+
+        try (Statement statement = connection.createStatement()) {
+            if (!columnExists(metaData)) {
+                statement.execute("alter table " + TABLE + " add column " + COLUMN + " datetime(6)");
+                log.info(TABLE + " 컬럼 추가 " + COLUMN);
+            }
+            int filled = statement.executeUpdate("update " + TABLE + " set " + COLUMN + " = created_at where " + COLUMN + " is null");
+            if (filled > 0) log.info(TABLE + " " + COLUMN + " " + filled + "개 채움");
+
+            if (!indexExists(metaData, NEW_INDEX)) {
+                statement.execute("create index " + NEW_INDEX + " on " + TABLE + " (type, status, " + COLUMN + ")");
+                log.info(TABLE + " 인덱스 생성 " + NEW_INDEX);
+            }
+            if (indexExists(metaData, OLD_INDEX)) {
+                statement.execute("drop index " + OLD_INDEX + " on " + TABLE);
+                log.info(TABLE + " 인덱스 삭제 " + OLD_INDEX);
+            }
+        }
+    }
+
+    private static boolean tableExists(DatabaseMetaData metaData) throws SQLException {
+        try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(), null, identifier(metaData, TABLE), new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static boolean columnExists(DatabaseMetaData metaData) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(metaData.getConnection().getCatalog(), null, identifier(metaData, TABLE), identifier(metaData, COLUMN))) {
+            return columns.next();
+        }
+    }
+
+    private static boolean indexExists(DatabaseMetaData metaData, String name) throws SQLException {
+        try (ResultSet indexes = metaData.getIndexInfo(metaData.getConnection().getCatalog(), null, identifier(metaData, TABLE), false, false)) {
+            while (indexes.next()) {
+                if (name.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) return true;
+            }
+            return false;
+        }
+    }
+
+    //메타데이터 조회용 이름 (H2는 대문자, MySQL은 소문자로 저장)
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+}
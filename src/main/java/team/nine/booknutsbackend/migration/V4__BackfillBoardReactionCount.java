@@ -0,0 +1,94 @@
+package team.nine.booknutsbackend.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+//게시글 반응 수(넛츠, 좋아요, 아카이브) 컬럼 추가 후 기존 게시글은 실제 반응 수로 채움 (BoardService 보정 스케쥴러와 같은 계산)
+//반응 테이블이 없으면 0, 게시글 아이디 1000개 단위로 갱신
+//테이블이 아직 없는 새 DB는 건너뛰고 JPA 스키마 생성에 맡김
+@Slf4j
+public class V4__BackfillBoardReactionCount extends BaseJavaMigration {
+
+    private static final String TABLE = "board";
+    private static final long BATCH_SIZE = 1000;
+
+    //반응 수 컬럼, 반응 테이블
+    private static final String[][] COUNTS = {
+            {"nuts_cnt", "nuts"},
+            {"heart_cnt", "heart"},
+            {"archive_cnt", "archive_board"}
+    };
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (!tableExists(metaData, TABLE)) return;
+
+        StringBuilder assignments = new StringBuilder();
+        try (Statement statement = connection.createStatement()) {
+            for (String[] count : COUNTS) {
+                String column = count[0];
+                String reactionTable = count[1];
+                if (!columnExists(metaData, column)) {
+                    statement.execute("alter table " + TABLE + " add column " + column + " integer not null default 0");
+                    log.info(TABLE + " 컬럼 추가 " + column);
+                }
+                if (assignments.length() > 0) assignments.append(", ");
+                assignments.append(column).append(" = ").append(tableExists(metaData, reactionTable)
+                        ? "(select count(*) from " + reactionTable + " r where r.board = " + TABLE + ".board_id)"
+                        : "0");
+            }
+        }
+
+        Long maxBoardId = maxBoardId(connection);
+        if (maxBoardId == null) return;
+
+        int updated = 0;
+        try (PreparedStatement statement = connection.prepareStatement(
+                "update " + TABLE + " set " + assignments + " where board_id between ? and ?")) {
+            for (long fromId = 1; fromId <= maxBoardId; fromId += BATCH_SIZE) {
+                statement.setLong(1, fromId);
+                statement.setLong(2, fromId + BATCH_SIZE - 1);
+                updated += statement.executeUpdate();
+            }
+        }
+        log.info(TABLE + " 반응 수 " + updated + "개 채움");
+    }
+
+    private static Long maxBoardId(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("select max(board_id) from " + TABLE)) {
+            result.next();
+            long maxBoardId = result.getLong(1);
+            return result.wasNull() ? null : maxBoardId;
+        }
+    }
+
+    private static boolean tableExists(DatabaseMetaData metaData, String table) throws SQLException {
+        try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(), null, identifier(metaData, table), new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    private static boolean columnExists(DatabaseMetaData metaData, String column) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(metaData.getConnection().getCatalog(), null, identifier(metaData, TABLE), identifier(metaData, column))) {
+            return columns.next();
+        }
+    }
+
+    //메타데이터 조회용 이름 (H2는 대문자, MySQL은 소문자로 저장)
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+
+}
@@ -0,0 +1,94 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+//서버 메모리 토큰 버킷 (서버 한 대 기준)
+//key의 hash로 stripe를 나눠 stripe별로만 잠금, stripe마다 최근 사용된 버킷 maxKeysPerStripe개까지 유지
+//여러 버킷을 한 번에 확인할 때는 stripe 번호 순서로 잠가 교착 방지
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Stripe[] stripes;
+
+    public LocalRateLimiter(int stripeCount, int maxKeysPerStripe) {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) stripes[i] = new Stripe(maxKeysPerStripe);
+    }
+
+    @Override
+    public long tryAcquire(List<RateLimitBucket> buckets) {
+        return acquire(buckets, true);
+    }
+
+    @Override
+    public long check(List<RateLimitBucket> buckets) {
+        return acquire(buckets, false);
+    }
+
+    private long acquire(List<RateLimitBucket> buckets, boolean consume) {
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (RateLimitBucket bucket : buckets) stripeIndexes.add(stripeIndex(bucket.getKey()));
+
+        for (int index : stripeIndexes) stripes[index].lock.lock();
+        try {
+            long now = System.nanoTime();
+            Bucket[] states = new Bucket[buckets.size()];
+            long wait = 0;
+            for (int i = 0; i < buckets.size(); i++) {
+                RateLimitBucket bucket = buckets.get(i);
+                double refillPerNano = (double) bucket.getCapacity() / bucket.getPeriod().toNanos();
+                Stripe stripe = stripes[stripeIndex(bucket.getKey())];
+
+                Bucket state = stripe.buckets.get(bucket.getKey());
+                if (state == null) {
+                    state = new Bucket(bucket.getCapacity(), now);
+                    stripe.buckets.put(bucket.getKey(), state);
+                }
+                state.tokens = Math.min(bucket.getCapacity(), state.tokens + (now - state.refilledAt) * refillPerNano);
+                state.refilledAt = now;
+                states[i] = state;
+
+                if (state.tokens < 1) wait = Math.max(wait, (long) Math.ceil((1 - state.tokens) / refillPerNano / 1_000_000));
+            }
+
+            if (wait == 0 && consume) {
+                for (Bucket state : states) state.tokens -= 1;
+            }
+            return wait;
+        } finally {
+            for (int index : stripeIndexes.descendingSet()) stripes[index].lock.unlock();
+        }
+    }
+
+    private int stripeIndex(String key) {
+        return Math.floorMod(key.hashCode(), stripes.length);
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+
+//토큰 버킷 하나 (capacity개, period 동안 capacity개가 다시 채워짐)
+@Getter
+@AllArgsConstructor
+public class RateLimitBucket {
+
+    private final String key;
+    private final int capacity;
+    private final Duration period;
+
+}
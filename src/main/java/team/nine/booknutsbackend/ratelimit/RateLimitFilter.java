@@ -0,0 +1,199 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import team.nine.booknutsbackend.exception.ratelimit.RequestBodyTooLargeException;
+import team.nine.booknutsbackend.exception.ratelimit.TooManyRequestsException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+//경로별 요청 수 제한 (Spring Security 필터, 컨트롤러보다 먼저 실행)
+//ip 또는 요청 body의 필드(id, email ...) 값마다 버킷을 두고, 하나라도 비어 있으면 429 응답 (이때는 어느 버킷의 토큰도 사용하지 않음)
+//body를 읽기 전에 ip 제한을 먼저 확인하고, body는 maxBodySize까지만 읽음
+//경로는 Spring MVC와 같은 기준으로 비교 (디코딩, 중복 '/' 제거, 끝의 '/' 무시)
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String IP = "ip";
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        RateLimitProperties.Route route = findRoute(request);
+        if (route == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        List<RateLimitBucket> ipBuckets = new ArrayList<>();
+        List<RateLimitProperties.Limit> bodyLimits = new ArrayList<>();
+        for (RateLimitProperties.Limit limit : route.getLimits()) {
+            if (IP.equals(limit.getKey())) ipBuckets.add(bucket(route, limit, request.getRemoteAddr()));
+            else bodyLimits.add(limit);
+        }
+
+        //body를 읽기 전에 ip 제한 확인 (토큰은 사용하지 않음)
+        long wait = rateLimiter.check(ipBuckets);
+        if (wait > 0) {
+            rejectTooManyRequests(response, route, wait);
+            return;
+        }
+
+        HttpServletRequest forwardRequest = request;
+        List<RateLimitBucket> buckets = new ArrayList<>(ipBuckets);
+        if (!bodyLimits.isEmpty()) {
+            CachedBodyRequest cachedRequest;
+            try {
+                cachedRequest = new CachedBodyRequest(request, properties.getMaxBodySize().toBytes());
+            } catch (RequestBodyTooLargeException e) {
+                reject(response, HttpStatus.PAYLOAD_TOO_LARGE, e, null);
+                return;
+            }
+            forwardRequest = cachedRequest;
+
+            Map<String, Object> body = readBody(cachedRequest);
+            for (RateLimitProperties.Limit limit : bodyLimits) {
+                Object field = body.get(limit.getKey());
+                String value = field == null ? null : field.toString().trim().toLowerCase(Locale.ROOT);
+                if (value != null && !value.isEmpty()) buckets.add(bucket(route, limit, value));
+            }
+        }
+
+        //모든 제한을 통과할 때만 토큰 사용
+        wait = rateLimiter.tryAcquire(buckets);
+        if (wait > 0) {
+            rejectTooManyRequests(response, route, wait);
+            return;
+        }
+
+        chain.doFilter(forwardRequest, response);
+    }
+
+    private static RateLimitBucket bucket(RateLimitProperties.Route route, RateLimitProperties.Limit limit, String value) {
+        return new RateLimitBucket(normalize(route.getPath()) + ":" + limit.getKey() + ":" + value, limit.getCapacity(), limit.getPeriod());
+    }
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        if (!properties.isEnabled()) return null;
+        String path = normalize(URL_PATH_HELPER.getPathWithinApplication(request));
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if (normalize(route.getPath()).equals(path)) return route;
+        }
+        return null;
+    }
+
+    //끝의 '/' 제거 (Spring MVC의 trailing slash 일치와 같은 경로로 취급)
+    private static String normalize(String path) {
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') end--;
+        return path.substring(0, end);
+    }
+
+    //JSON body가 아니거나 형식이 잘못된 경우 빈 map (ip 제한만 적용)
+    private Map<String, Object> readBody(CachedBodyRequest request) {
+        if (request.body.length == 0) return Collections.emptyMap();
+        try {
+            return objectMapper.readValue(request.body, new TypeReference<>() {
+            });
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private void rejectTooManyRequests(HttpServletResponse response, RateLimitProperties.Route route, long waitMillis) throws IOException {
+        log.warn("요청 수 제한 path = " + route.getPath());
+        reject(response, HttpStatus.TOO_MANY_REQUESTS, new TooManyRequestsException(), waitMillis);
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, RuntimeException e, Long waitMillis) throws IOException {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("error", e.getClass().getSimpleName());
+        map.put("msg", e.getMessage());
+
+        response.setStatus(status.value());
+        if (waitMillis != null) response.setHeader("Retry-After", String.valueOf((waitMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), map);
+    }
+
+    //body를 한 번 읽어 저장해두고, 컨트롤러에서도 다시 읽을 수 있게 제공 (maxBytes를 넘으면 RequestBodyTooLargeException)
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, long maxBytes) throws IOException {
+            super(request);
+            if (request.getContentLengthLong() > maxBytes) throw new RequestBodyTooLargeException();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            InputStream input = request.getInputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                if (output.size() + read > maxBytes) throw new RequestBodyTooLargeException();
+                output.write(buffer, 0, read);
+            }
+            this.body = output.toByteArray();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws UnsupportedEncodingException {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+
+    }
+
+}
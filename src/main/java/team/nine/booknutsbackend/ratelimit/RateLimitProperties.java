@@ -0,0 +1,38 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+//rate-limit.* 설정
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String store = "redis"; //redis 또는 local (서버 한 대일 때만)
+    private DataSize maxBodySize = DataSize.ofKilobytes(16); //제한 대상 경로에서 읽어둘 요청 body 최대 크기
+    private List<Route> routes = new ArrayList<>();
+
+    //경로별 제한 (하나라도 초과하면 429)
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;
+        private List<Limit> limits = new ArrayList<>();
+    }
+
+    //key = ip 또는 요청 body의 필드 이름(id, email ...)
+    @Getter
+    @Setter
+    public static class Limit {
+        private String key;
+        private int capacity;
+        private Duration period;
+    }
+
+}
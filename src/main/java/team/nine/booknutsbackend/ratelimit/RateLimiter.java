@@ -0,0 +1,20 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+
+//토큰 버킷 rate limiter
+//버킷마다 capacity개의 토큰, period 동안 capacity개가 일정하게 다시 채워짐
+public interface RateLimiter {
+
+    //모든 버킷에 토큰이 있을 때만 하나씩 사용 (성공하면 0, 실패하면 어느 버킷도 사용하지 않고 가장 긴 대기 시간(ms))
+    long tryAcquire(List<RateLimitBucket> buckets);
+
+    //토큰을 사용하지 않고 확인만 (반환값은 tryAcquire와 같음)
+    long check(List<RateLimitBucket> buckets);
+
+    default long tryAcquire(String key, int capacity, Duration period) {
+        return tryAcquire(List.of(new RateLimitBucket(key, capacity, period)));
+    }
+
+}
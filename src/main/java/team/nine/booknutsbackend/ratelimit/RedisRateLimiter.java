@@ -0,0 +1,75 @@
+package team.nine.booknutsbackend.ratelimit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//Redis 토큰 버킷 (여러 서버가 같은 버킷 공유)
+//여러 버킷의 조회, 충전, 차감을 Lua 스크립트 하나로 처리 (원자적, 왕복 1번)
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    //KEYS = 버킷들, ARGV = now(ms), consume(1/0), 버킷별 capacity, period(ms) / 반환 = 0 또는 가장 긴 대기 시간(ms)
+    //하나라도 토큰이 없으면 어느 버킷도 저장하지 않음 (충전량은 ts로 다시 계산되므로 저장하지 않아도 됨)
+    private static final RedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local consume = ARGV[2] == '1' " +
+            "local tokens = {} " +
+            "local wait = 0 " +
+            "for i = 1, #KEYS do " +
+            "  local capacity = tonumber(ARGV[i * 2 + 1]) " +
+            "  local period = tonumber(ARGV[i * 2 + 2]) " +
+            "  local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts') " +
+            "  local t = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  t = math.min(capacity, t + math.max(0, now - ts) * capacity / period) " +
+            "  tokens[i] = t " +
+            "  if t < 1 then wait = math.max(wait, math.ceil((1 - t) * period / capacity)) end " +
+            "end " +
+            "if wait == 0 and consume then " +
+            "  for i = 1, #KEYS do " +
+            "    redis.call('HMSET', KEYS[i], 'tokens', tostring(tokens[i] - 1), 'ts', tostring(now)) " +
+            "    redis.call('PEXPIRE', KEYS[i], ARGV[i * 2 + 2]) " +
+            "  end " +
+            "end " +
+            "return wait",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long tryAcquire(List<RateLimitBucket> buckets) {
+        return execute(buckets, true);
+    }
+
+    @Override
+    public long check(List<RateLimitBucket> buckets) {
+        return execute(buckets, false);
+    }
+
+    private long execute(List<RateLimitBucket> buckets, boolean consume) {
+        if (buckets.isEmpty()) return 0;
+
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<String> args = new ArrayList<>(buckets.size() * 2 + 2);
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(consume ? "1" : "0");
+        for (RateLimitBucket bucket : buckets) {
+            keys.add(KEY_PREFIX + bucket.getKey());
+            args.add(String.valueOf(bucket.getCapacity()));
+            args.add(String.valueOf(bucket.getPeriod().toMillis()));
+        }
+
+        Long wait = redisTemplate.execute(TOKEN_BUCKET, keys, args.toArray());
+        return wait == null ? 0 : wait;
+    }
+
+}
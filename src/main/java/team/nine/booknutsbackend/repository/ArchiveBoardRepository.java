@@ -1,6 +1,9 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.archive.Archive;
@@ -13,4 +16,10 @@ public interface ArchiveBoardRepository extends JpaRepository<ArchiveBoard, User
     List<ArchiveBoard> findByArchive(Archive archive);
     ArchiveBoard findByArchiveAndBoard(Archive archive, Board board);
     Optional<ArchiveBoard> findByBoardAndOwner(Board board, User owner);
+
+    @Query("select b from ArchiveBoard ab join ab.board b join fetch b.user where ab.archive = :archive and b.boardId < :cursor order by b.boardId desc")
+    List<Board> findBoardsByArchive(@Param("archive") Archive archive, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select ab.board.boardId from ArchiveBoard ab where ab.owner = :owner and ab.board.boardId in :boardIds")
+    List<Long> findBoardIdsByOwnerAndBoardIdIn(@Param("owner") User owner, @Param("boardIds") List<Long> boardIds);
 }
@@ -1,5 +1,6 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.archive.Archive;
@@ -8,4 +9,8 @@ import java.util.List;
 
 public interface ArchiveRepository extends JpaRepository<Archive, Long> {
     List<Archive> findAllByOwner(User user);
+
+    //아카이브 목록 조회 시 아카이브의 게시글을 함께 조회 (ArchiveResponse의 게시글 수)
+    @EntityGraph(attributePaths = "archiveBoardList")
+    List<Archive> findDistinctByOwnerOrderByArchiveIdDesc(User user);
 }
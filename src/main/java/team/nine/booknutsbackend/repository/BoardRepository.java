@@ -1,13 +1,77 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.domain.archive.Archive;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, JpaSpecificationExecutor<Board> {
-    List<Board> findByUserOrderByBoardId(User user);
-    List<Board> findByBookGenre(String genre);
-}
\ No newline at end of file
+
+    //목록 조회 시 작성자를 함께 조회 (BoardResponse의 작성자 닉네임)
+    @EntityGraph(attributePaths = "user")
+    List<Board> findByBoardIdLessThanOrderByBoardIdDesc(Long cursor, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    List<Board> findByBookGenreAndBoardIdLessThanOrderByBoardIdDesc(String genre, Long cursor, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    List<Board> findByUserAndBoardIdLessThanOrderByBoardIdDesc(User user, Long cursor, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    List<Board> findByBoardIdIn(Collection<Long> boardIds);
+
+    List<Board> findTop50ByUserOrderByBoardIdDesc(User user);
+
+    //반응 수 증감
+    @Modifying
+    @Query("update Board b set b.nutsCnt = b.nutsCnt + :delta where b.boardId = :boardId and b.nutsCnt + :delta >= 0")
+    void updateNutsCnt(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Board b set b.heartCnt = b.heartCnt + :delta where b.boardId = :boardId and b.heartCnt + :delta >= 0")
+    void updateHeartCnt(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update Board b set b.archiveCnt = b.archiveCnt + :delta where b.boardId = :boardId and b.archiveCnt + :delta >= 0")
+    void updateArchiveCnt(@Param("boardId") Long boardId, @Param("delta") int delta);
+
+    //회원 탈퇴, 아카이브 삭제 시 반응 수 일괄 감소
+    @Modifying
+    @Query("update Board b set b.nutsCnt = b.nutsCnt - 1 where b.nutsCnt > 0 and b in (select n.board from Nuts n where n.user = :user)")
+    void decreaseNutsCntByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("update Board b set b.heartCnt = b.heartCnt - 1 where b.heartCnt > 0 and b in (select h.board from Heart h where h.user = :user)")
+    void decreaseHeartCntByUser(@Param("user") User user);
+
+    @Modifying
+    @Query("update Board b set b.archiveCnt = b.archiveCnt - 1 where b.archiveCnt > 0 and b in (select ab.board from ArchiveBoard ab where ab.archive = :archive)")
+    void decreaseArchiveCntByArchive(@Param("archive") Archive archive);
+
+    @Modifying
+    @Query("update Board b set b.archiveCnt = b.archiveCnt - 1 where b.archiveCnt > 0 and b in (select ab.board from ArchiveBoard ab where ab.owner = :owner)")
+    void decreaseArchiveCntByOwner(@Param("owner") User owner);
+
+    //반응 수 보정 (실제 반응 수로 다시 계산)
+    @Query("select max(b.boardId) from Board b")
+    Long findMaxBoardId();
+
+    @Transactional
+    @Modifying
+    @Query("update Board b set " +
+            "b.nutsCnt = (select count(n) from Nuts n where n.board = b), " +
+            "b.heartCnt = (select count(h) from Heart h where h.board = b), " +
+            "b.archiveCnt = (select count(ab) from ArchiveBoard ab where ab.board = b) " +
+            "where b.boardId between :fromId and :toId")
+    int reconcileCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
@@ -1,6 +1,9 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.Comment;
 
@@ -8,5 +11,12 @@ import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>{
     List<Comment> findByBoard(Board board);
-    List<Comment> findByParentOrderByCreatedDate(Comment comment);
+
+    //게시글의 부모 댓글 (커서 이후 작성순, 작성자 포함)
+    @Query("select c from Comment c join fetch c.user where c.board = :board and c.parent is null and c.commentId > :cursor order by c.commentId")
+    List<Comment> findParentsByBoard(@Param("board") Board board, @Param("cursor") Long cursor, Pageable pageable);
+
+    //부모 댓글들의 대댓글 (작성순, 작성자 포함)
+    @Query("select c from Comment c join fetch c.user where c.parent in :parents order by c.createdDate, c.commentId")
+    List<Comment> findChildrenByParentIn(@Param("parents") List<Comment> parents);
 }
@@ -0,0 +1,13 @@
+package team.nine.booknutsbackend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import team.nine.booknutsbackend.domain.debate.DebateMessage;
+
+import java.util.List;
+
+public interface DebateMessageRepository extends JpaRepository<DebateMessage, Long> {
+    @EntityGraph(attributePaths = "user")
+    List<DebateMessage> findByDebateRoomIdOrderByMessageIdDesc(Long debateRoomId, Pageable pageable); //최근 메세지부터
+}
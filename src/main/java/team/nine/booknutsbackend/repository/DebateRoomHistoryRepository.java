@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import team.nine.booknutsbackend.domain.debate.DebateRoomHistory;
+
+public interface DebateRoomHistoryRepository extends JpaRepository<DebateRoomHistory, Long> {
+}
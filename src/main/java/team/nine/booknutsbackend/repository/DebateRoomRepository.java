@@ -1,12 +1,59 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.debate.DebateRoom;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface DebateRoomRepository extends JpaRepository<DebateRoom, Long>, JpaSpecificationExecutor<DebateRoom> {
-    List<DebateRoom> findByTypeAndStatus(int type, int status);
-    List<DebateRoom> findByStatus(int status);
+    //토론 목록 (최신순, 개설자 함께 조회)
+    @EntityGraph(attributePaths = "owner")
+    List<DebateRoom> findByTypeAndStatusOrderByDebateRoomIdDesc(int type, int status, Pageable pageable);
+    @EntityGraph(attributePaths = "owner")
+    List<DebateRoom> findByStatusOrderByDebateRoomIdDesc(int status, Pageable pageable);
+
+    //썸네일 주소 저장 (그 사이 커버 이미지가 바뀌었으면 저장 X)
+    @Transactional
+    @Modifying
+    @Query("update DebateRoom d set d.coverThumbnailUrl = :thumbnailUrl where d.debateRoomId = :roomId and d.coverImgUrl = :imgUrl")
+    int updateCoverThumbnailUrl(@Param("roomId") Long roomId, @Param("imgUrl") String imgUrl, @Param("thumbnailUrl") String thumbnailUrl);
+
+    //한쪽 인원 자리 확보 (대기 중이고 자리가 남은 경우에만 +1), 변경된 행 수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("update DebateRoom d set d.curYesUser = d.curYesUser + 1 where d.debateRoomId = :roomId and d.status = 0 and (d.curYesUser + 1) * 2 <= d.maxUser")
+    int increaseYesUser(@Param("roomId") Long roomId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update DebateRoom d set d.curNoUser = d.curNoUser + 1 where d.debateRoomId = :roomId and d.status = 0 and (d.curNoUser + 1) * 2 <= d.maxUser")
+    int increaseNoUser(@Param("roomId") Long roomId);
+
+    //한쪽 인원 자리 반납
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DebateRoom d set d.curYesUser = d.curYesUser - 1 where d.debateRoomId = :roomId and d.curYesUser > 0")
+    int decreaseYesUser(@Param("roomId") Long roomId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update DebateRoom d set d.curNoUser = d.curNoUser - 1 where d.debateRoomId = :roomId and d.curNoUser > 0")
+    int decreaseNoUser(@Param("roomId") Long roomId);
+
+    //정리 대상 토론장 - before 이전에 마지막으로 상태가 바뀐 토론장 (type, status, statusChangedAt 인덱스 순서로 keyset 조회)
+    @Query("select d from DebateRoom d where d.type = :type and d.status = :status and d.statusChangedAt < :before " +
+            "and (d.statusChangedAt > :lastChangedAt or (d.statusChangedAt = :lastChangedAt and d.debateRoomId > :lastId)) " +
+            "order by d.statusChangedAt, d.debateRoomId")
+    List<DebateRoom> findSweepTargets(@Param("type") int type, @Param("status") int status, @Param("before") LocalDateTime before,
+                                      @Param("lastChangedAt") LocalDateTime lastChangedAt, @Param("lastId") Long lastId, Pageable pageable);
+
+    //토론 종료 처리 (그 사이 상태가 바뀐 토론장은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("update DebateRoom d set d.status = 2, d.statusChangedAt = :now where d.debateRoomId in :roomIds and d.status = :status")
+    int closeRooms(@Param("roomIds") Collection<Long> roomIds, @Param("status") int status, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package team.nine.booknutsbackend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import team.nine.booknutsbackend.domain.debate.DebateUserHistory;
+
+public interface DebateUserHistoryRepository extends JpaRepository<DebateUserHistory, Long> {
+}
@@ -1,13 +1,18 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import team.nine.booknutsbackend.domain.debate.DebateRoom;
 import team.nine.booknutsbackend.domain.debate.DebateUser;
 import team.nine.booknutsbackend.domain.User;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DebateUserRepository extends JpaRepository<DebateUser, Long> {
     Optional<DebateUser> findByDebateRoomAndUser(DebateRoom room, User user);
-    int countByDebateRoomAndOpinion(DebateRoom room, Boolean opinion);
+    @EntityGraph(attributePaths = "user")
+    List<DebateUser> findByDebateRoom(DebateRoom room); //토론장 참여자 (실시간 상태 초기화용)
+    List<DebateUser> findByDebateRoomIn(Collection<DebateRoom> rooms);
 }
\ No newline at end of file
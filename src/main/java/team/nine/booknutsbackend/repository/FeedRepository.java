@@ -0,0 +1,30 @@
+package team.nine.booknutsbackend.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.Feed;
+import team.nine.booknutsbackend.domain.User;
+
+import java.util.List;
+
+public interface FeedRepository extends JpaRepository<Feed, Long> {
+
+    @Query("select b from Feed f join f.board b join fetch b.user where f.owner = :owner and b.boardId < :cursor order by b.boardId desc")
+    List<Board> findBoardsByOwner(@Param("owner") User owner, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Feed f where f.owner = :owner and f.board in (select b from Board b where b.user = :writer)")
+    void deleteAllByOwnerAndWriter(@Param("owner") User owner, @Param("writer") User writer);
+
+    @Modifying
+    @Query("delete from Feed f where f.board = :board")
+    void deleteAllByBoard(@Param("board") Board board);
+
+    @Modifying
+    @Query("delete from Feed f where f.owner = :owner")
+    void deleteAllByOwner(@Param("owner") User owner);
+}
@@ -1,15 +1,25 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.Follow;
 import team.nine.booknutsbackend.domain.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     Optional<Follow> findByFollowingUserIdAndFollowerUserId(Long followingUserId, Long followerUserId);
+    @EntityGraph(attributePaths = "following")
     List<Follow> findByFollower(User curUser); //내 팔로잉 리스트
+    @EntityGraph(attributePaths = "follower")
     List<Follow> findByFollowing(User curUser); //내 팔로워 리스트
     void deleteAllByFollower(User user);
+
+    //userIds 중 curUser가 팔로우하는 유저 아이디
+    @Query("select f.following.userId from Follow f where f.follower = :curUser and f.following.userId in :userIds")
+    List<Long> findFollowingIdsByFollowerAndFollowingIdIn(@Param("curUser") User curUser, @Param("userIds") Collection<Long> userIds);
 }
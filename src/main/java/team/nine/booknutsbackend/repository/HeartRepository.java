@@ -1,13 +1,19 @@
 package team.nine.booknutsbackend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.reaction.Heart;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface HeartRepository extends JpaRepository<Heart, Long> {
     Optional<Heart> findByBoard_BoardIdAndUser_UserId(Long boardId, Long userId);
 
     void deleteAllByUser(User user);
+
+    @Query("select h.board.boardId from Heart h where h.user = :user and h.board.boardId in :boardIds")
+    List<Long> findBoardIdsByUserAndBoardIdIn(@Param("user") User user, @Param("boardIds") List<Long> boardIds);
 }
@@ -0,0 +1,39 @@
+package team.nine.booknutsbackend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import team.nine.booknutsbackend.domain.ImageDeleteTask;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageDeleteTaskRepository extends JpaRepository<ImageDeleteTask, Long> {
+    List<ImageDeleteTask> findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc(LocalDateTime now); //S3 deleteObjects 최대 1000개
+
+    //작업 선점 (다른 서버가 먼저 선점한 작업은 nextAttemptAt이 미래라서 제외), 선점한 행 수 반환
+    @Transactional
+    @Modifying
+    @Query("update ImageDeleteTask t set t.claimToken = :claimToken, t.nextAttemptAt = :leaseUntil where t.taskId in :taskIds and t.nextAttemptAt <= :now")
+    int claim(@Param("taskIds") Collection<Long> taskIds, @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("claimToken") String claimToken);
+
+    List<ImageDeleteTask> findByClaimToken(String claimToken);
+
+    //선점한 작업 완료 (그 사이 선점이 만료되어 다른 서버가 가져간 작업은 그대로 둠)
+    @Transactional
+    @Modifying
+    @Query("delete from ImageDeleteTask t where t.taskId in :taskIds and t.claimToken = :claimToken")
+    int deleteClaimed(@Param("taskIds") Collection<Long> taskIds, @Param("claimToken") String claimToken);
+
+    //선점한 작업 재시도 예약 (이미 삭제된 행은 다시 만들지 않음)
+    @Transactional
+    @Modifying
+    @Query("update ImageDeleteTask t set t.attempts = :attempts, t.nextAttemptAt = :nextAttemptAt, t.claimToken = null " +
+            "where t.taskId = :taskId and t.claimToken = :claimToken")
+    int reschedule(@Param("taskId") Long taskId, @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("claimToken") String claimToken);
+}
@@ -1,12 +1,18 @@
 package team.nine.booknutsbackend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.reaction.Nuts;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface NutsRepository extends JpaRepository<Nuts, Long> {
     Optional<Nuts> findByBoard_BoardIdAndUser_UserId(Long boardId, Long userId);
     void deleteAllByUser(User user);
+
+    @Query("select n.board.boardId from Nuts n where n.user = :user and n.board.boardId in :boardIds")
+    List<Long> findBoardIdsByUserAndBoardIdIn(@Param("user") User user, @Param("boardIds") List<Long> boardIds);
 }
@@ -1,6 +1,9 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.series.Series;
 import team.nine.booknutsbackend.domain.series.SeriesBoard;
@@ -11,4 +14,7 @@ import java.util.Optional;
 public interface SeriesBoardRepository extends JpaRepository<SeriesBoard, Long> {
     List<SeriesBoard> findBySeries(Series series);
     Optional<SeriesBoard> findByBoardAndSeries(Board board, Series series);
+
+    @Query("select b from SeriesBoard sb join sb.board b join fetch b.user where sb.series = :series and b.boardId < :cursor order by b.boardId desc")
+    List<Board> findBoardsBySeries(@Param("series") Series series, @Param("cursor") Long cursor, Pageable pageable);
 }
\ No newline at end of file
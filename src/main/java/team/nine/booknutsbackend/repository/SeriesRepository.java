@@ -1,6 +1,11 @@
 package team.nine.booknutsbackend.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.series.Series;
 
@@ -8,4 +13,14 @@ import java.util.List;
 
 public interface SeriesRepository extends JpaRepository<Series, Long> {
     List<Series> findAllByOwner(User user);
+
+    //시리즈 목록 조회 시 시리즈의 게시글을 함께 조회 (SeriesResponse의 게시글 수, 넛츠 수)
+    @EntityGraph(attributePaths = {"seriesBoardList", "seriesBoardList.board"})
+    List<Series> findDistinctByOwnerOrderBySeriesIdDesc(User user);
+
+    //썸네일 주소 저장 (그 사이 이미지가 바뀌었으면 저장 X)
+    @Transactional
+    @Modifying
+    @Query("update Series s set s.thumbnailUrl = :thumbnailUrl where s.seriesId = :seriesId and s.imgUrl = :imgUrl")
+    int updateThumbnailUrl(@Param("seriesId") Long seriesId, @Param("imgUrl") String imgUrl, @Param("thumbnailUrl") String thumbnailUrl);
 }
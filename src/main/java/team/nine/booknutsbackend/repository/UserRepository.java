@@ -1,7 +1,12 @@
 package team.nine.booknutsbackend.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.search.NicknameEntry;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,9 +15,19 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findByLoginId(String loginId);
-    Optional<User> findByRefreshToken(String refreshToken);
     boolean existsByNickname(String nickname);    //유저 닉네임 중복 체크
     boolean existsByLoginId(String loginId);     //유저 로그인 아이디 중복 체크
     List<User> findAllByEnabledAndRequestedDeleteAtBetween(boolean enabled, LocalDateTime startTime, LocalDateTime endTime);
-    List<User> findAllByNicknameContaining(String nickname);
+
+    //닉네임 검색 색인용 (탈퇴하지 않은 유저)
+    @Query("select new team.nine.booknutsbackend.search.NicknameEntry(u.userId, u.nickname, u.profileImgUrl) from User u where u.enabled = true and u.nickname is not null")
+    List<NicknameEntry> findAllNicknameEntries();
+    @Query("select new team.nine.booknutsbackend.search.NicknameEntry(u.userId, u.nickname, u.profileImgUrl) from User u where u.userId = :userId and u.enabled = true and u.nickname is not null")
+    Optional<NicknameEntry> findNicknameEntry(@Param("userId") Long userId);
+
+    //썸네일 주소 저장 (그 사이 프로필 이미지가 바뀌었으면 저장 X)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.profileThumbnailUrl = :thumbnailUrl where u.userId = :userId and u.profileImgUrl = :imgUrl")
+    int updateProfileThumbnailUrl(@Param("userId") Long userId, @Param("imgUrl") String imgUrl, @Param("thumbnailUrl") String thumbnailUrl);
 }
\ No newline at end of file
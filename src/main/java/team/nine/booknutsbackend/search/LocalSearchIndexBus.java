@@ -0,0 +1,16 @@
+package team.nine.booknutsbackend.search;
+
+import lombok.RequiredArgsConstructor;
+
+//단일 서버용, 이 서버의 색인에만 반영
+@RequiredArgsConstructor
+public class LocalSearchIndexBus implements SearchIndexBus {
+
+    private final SearchIndex searchIndex;
+
+    @Override
+    public void publish(SearchIndexEvent event) {
+        searchIndex.apply(event);
+    }
+
+}
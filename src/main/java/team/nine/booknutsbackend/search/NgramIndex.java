@@ -0,0 +1,147 @@
+package team.nine.booknutsbackend.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//메모리 역색인 (n-gram -> 문서 아이디 -> 가중치 빈도)
+//검색어의 모든 n-gram을 포함한 문서만 결과로 반환 (LIKE '%keyword%'와 같은 부분 일치)
+//메모리 상한 : 필드는 앞 maxFieldLength 글자만 색인, (문서, n-gram) 쌍이 maxPostings를 넘으면 오래된(아이디 작은) 문서부터 제거
+public class NgramIndex {
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final TreeMap<Long, Set<String>> docTokens = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long maxPostings;
+    private final int maxFieldLength;
+    private long postingCount;
+
+    public NgramIndex(long maxPostings, int maxFieldLength) {
+        this.maxPostings = maxPostings;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    //문서 추가 (이미 있는 경우 교체)
+    public void put(Long id, Document document) {
+        Map<String, Integer> frequency = new HashMap<>();
+        for (Map.Entry<String, Integer> field : document.fields) {
+            String text = field.getKey();
+            if (text.length() > maxFieldLength) text = text.substring(0, maxFieldLength);
+            for (String token : NgramTokenizer.indexTokens(text)) {
+                frequency.merge(token, field.getValue(), Integer::sum);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            for (Map.Entry<String, Integer> entry : frequency.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), token -> new HashMap<>()).put(id, entry.getValue());
+            }
+            docTokens.put(id, frequency.keySet());
+            postingCount += frequency.size();
+            while (postingCount > maxPostings && !docTokens.isEmpty()) {
+                removeInternal(docTokens.firstKey());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //상한에 도달 (최신 문서부터 불러올 때 더 오래된 문서는 불러오지 않음)
+    public boolean isFull() {
+        lock.readLock().lock();
+        try {
+            return postingCount >= maxPostings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //관련도(가중치 빈도 * idf) 높은 순, 같으면 최신(아이디 큰) 순으로 최대 limit개의 문서 아이디
+    public List<Long> search(String keyword, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(NgramTokenizer.queryTokens(keyword));
+        if (tokens.isEmpty()) return Collections.emptyList();
+
+        lock.readLock().lock();
+        try {
+            //문서 수가 적은 n-gram부터 교집합
+            List<Map<Long, Integer>> tokenPostings = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) return Collections.emptyList();
+                tokenPostings.add(posting);
+            }
+            tokenPostings.sort(Comparator.comparingInt(Map::size));
+
+            int totalDocs = docTokens.size();
+            Map<Long, Double> scores = new HashMap<>();
+            Map<Long, Integer> first = tokenPostings.get(0);
+            for (Long id : first.keySet()) {
+                double score = 0;
+                boolean matched = true;
+                for (Map<Long, Integer> posting : tokenPostings) {
+                    Integer frequency = posting.get(id);
+                    if (frequency == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += frequency * Math.log(1.0 + (double) totalDocs / posting.size());
+                }
+                if (matched) scores.put(id, score);
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> tokens = docTokens.remove(id);
+        if (tokens == null) return;
+        postingCount -= tokens.size();
+        for (String token : tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(token);
+        }
+    }
+
+    //색인할 필드와 가중치 (제목처럼 중요한 필드는 가중치를 높게)
+    public static class Document {
+
+        private final List<Map.Entry<String, Integer>> fields = new ArrayList<>();
+
+        public Document field(String text, int weight) {
+            if (text != null) fields.add(Map.entry(text, weight));
+            return this;
+        }
+
+    }
+
+}
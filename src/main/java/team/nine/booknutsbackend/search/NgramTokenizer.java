@@ -0,0 +1,62 @@
+package team.nine.booknutsbackend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+//한글 형태소 분석 없이 음절 단위 n-gram으로 분리
+//"책 읽는 밤" -> [책, 읽, 는, 밤, 읽는] (unigram + bigram)
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    //색인용 : 모든 unigram + bigram
+    public static List<String> indexTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String term : terms(text)) {
+            for (int i = 0; i < term.length(); i++) {
+                tokens.add(term.substring(i, i + 1));
+                if (i + 1 < term.length()) tokens.add(term.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    //검색용 : 두 글자 이상인 단어는 bigram만, 한 글자 단어는 unigram
+    public static List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String term : terms(text)) {
+            if (term.length() == 1) {
+                tokens.add(term);
+                continue;
+            }
+            for (int i = 0; i + 1 < term.length(); i++) {
+                tokens.add(term.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    //정규화(NFKC, 소문자) 후 글자/숫자가 아닌 문자를 기준으로 분리
+    private static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) return terms;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                term.append(c);
+            } else if (term.length() > 0) {
+                terms.add(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (term.length() > 0) terms.add(term.toString());
+        return terms;
+    }
+
+}
@@ -0,0 +1,19 @@
+package team.nine.booknutsbackend.search;
+
+import lombok.Getter;
+
+//닉네임 검색 결과 (User 엔티티 대신 필요한 값만 보관)
+@Getter
+public class NicknameEntry {
+
+    private final Long userId;
+    private final String nickname;
+    private final String profileImgUrl;
+
+    public NicknameEntry(Long userId, String nickname, String profileImgUrl) {
+        this.userId = userId;
+        this.nickname = nickname;
+        this.profileImgUrl = profileImgUrl;
+    }
+
+}
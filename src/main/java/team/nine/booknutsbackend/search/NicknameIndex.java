@@ -0,0 +1,113 @@
+package team.nine.booknutsbackend.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+//닉네임 자동완성 색인
+//접두어 : 정렬된 skip list의 범위 조회, 중간 일치 : 한 글자는 unigram, 두 글자 이상은 bigram 역색인 후보를 contains로 확인
+public class NicknameIndex {
+
+    //"정규화된 닉네임\0유저 아이디" -> 유저 (같은 닉네임이 여러 개여도 키가 겹치지 않도록)
+    private final ConcurrentSkipListMap<String, NicknameEntry> sorted = new ConcurrentSkipListMap<>();
+    private final Map<String, Set<Long>> unigrams = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> bigrams = new ConcurrentHashMap<>();
+    private final Map<Long, NicknameEntry> entries = new ConcurrentHashMap<>();
+
+    public synchronized void put(NicknameEntry entry) {
+        if (entry.getNickname() == null) return;
+        remove(entry.getUserId());
+
+        String nickname = normalize(entry.getNickname());
+        sorted.put(key(nickname, entry.getUserId()), entry);
+        for (String unigram : ngrams(nickname, 1)) add(unigrams, unigram, entry.getUserId());
+        for (String bigram : ngrams(nickname, 2)) add(bigrams, bigram, entry.getUserId());
+        entries.put(entry.getUserId(), entry);
+    }
+
+    public synchronized void remove(Long userId) {
+        NicknameEntry entry = entries.remove(userId);
+        if (entry == null) return;
+
+        String nickname = normalize(entry.getNickname());
+        sorted.remove(key(nickname, userId));
+        for (String unigram : ngrams(nickname, 1)) remove(unigrams, unigram, userId);
+        for (String bigram : ngrams(nickname, 2)) remove(bigrams, bigram, userId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    //접두어 일치(닉네임순) 먼저, 이후 중간 일치(짧은 닉네임순)로 최대 limit개
+    public List<NicknameEntry> search(String keyword, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0) return Collections.emptyList();
+
+        Map<Long, NicknameEntry> result = new LinkedHashMap<>();
+        for (NicknameEntry entry : sorted.subMap(query, true, query + Character.MAX_VALUE, true).values()) {
+            result.put(entry.getUserId(), entry);
+            if (result.size() >= limit) return new ArrayList<>(result.values());
+        }
+
+        List<NicknameEntry> infix = new ArrayList<>();
+        for (Long userId : infixCandidates(query)) {
+            NicknameEntry entry = entries.get(userId);
+            if (entry == null || result.containsKey(userId)) continue;
+            if (normalize(entry.getNickname()).contains(query)) infix.add(entry);
+        }
+        infix.sort(Comparator.comparingInt((NicknameEntry entry) -> entry.getNickname().length())
+                .thenComparing(NicknameEntry::getNickname));
+
+        for (NicknameEntry entry : infix) {
+            result.put(entry.getUserId(), entry);
+            if (result.size() >= limit) break;
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    //한 글자 검색어는 그 글자가 들어간 닉네임, 두 글자 이상은 bigram 교집합
+    private Collection<Long> infixCandidates(String query) {
+        if (query.length() < 2) return unigrams.getOrDefault(query, Collections.emptySet());
+
+        Set<Long> candidates = null;
+        for (String bigram : ngrams(query, 2)) {
+            Set<Long> ids = bigrams.get(bigram);
+            if (ids == null) return Collections.emptySet();
+            if (candidates == null) candidates = new HashSet<>(ids);
+            else candidates.retainAll(ids);
+            if (candidates.isEmpty()) break;
+        }
+        return candidates;
+    }
+
+    private static void add(Map<String, Set<Long>> grams, String gram, Long userId) {
+        grams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(userId);
+    }
+
+    private static void remove(Map<String, Set<Long>> grams, String gram, Long userId) {
+        Set<Long> ids = grams.get(gram);
+        if (ids == null) return;
+        ids.remove(userId);
+        if (ids.isEmpty()) grams.remove(gram);
+    }
+
+    private static Set<String> ngrams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private static String key(String nickname, Long userId) {
+        return nickname + '\0' + userId;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+}
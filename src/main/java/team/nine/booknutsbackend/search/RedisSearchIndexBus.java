@@ -0,0 +1,55 @@
+package team.nine.booknutsbackend.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.util.UUID;
+
+//여러 서버용, 이 서버 색인에 바로 반영한 뒤 Redis 채널로 다른 서버에 알림
+//발행한 서버는 채널로 돌아온 자기 이벤트를 무시 (작성 직후 검색해도 바로 보이도록)
+@Slf4j
+public class RedisSearchIndexBus implements SearchIndexBus, MessageListener {
+
+    public static final String CHANNEL = "search:index";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SearchIndex searchIndex;
+
+    public RedisSearchIndexBus(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, SearchIndex searchIndex) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public void publish(SearchIndexEvent event) {
+        searchIndex.apply(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(
+                    new SearchIndexEvent(event.getTarget(), event.getId(), nodeId)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } catch (DataAccessException e) {
+            log.warn("검색 색인 변경 발행 실패, 이 서버에만 반영 " + event.getTarget() + " id = " + event.getId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SearchIndexEvent event = objectMapper.readValue(message.getBody(), SearchIndexEvent.class);
+            if (!nodeId.equals(event.getOrigin())) searchIndex.apply(event);
+        } catch (IOException e) {
+            log.warn("검색 색인 이벤트 형식 오류", e);
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package team.nine.booknutsbackend.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.repository.BoardRepository;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+import team.nine.booknutsbackend.repository.UserRepository;
+
+import java.util.List;
+
+//이 서버의 검색 색인 (게시글, 토론장, 유저 닉네임)
+//변경 이벤트를 받으면 DB에서 다시 읽어 반영 (다른 서버에서 발생한 변경 포함)
+@Slf4j
+@Component
+public class SearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final DebateRoomRepository debateRoomRepository;
+    private final UserRepository userRepository;
+    private final long maxPostings;
+    private final int maxFieldLength;
+
+    //게시글 : 제목, 내용, 책 제목, 책 저자 / 토론장 : 주제, 책 제목, 책 저자
+    private volatile NgramIndex boardIndex;
+    private volatile NgramIndex roomIndex;
+    private volatile NicknameIndex nicknameIndex = new NicknameIndex();
+
+    public SearchIndex(BoardRepository boardRepository, DebateRoomRepository debateRoomRepository, UserRepository userRepository,
+                       @Value("${search.index.max-postings:2000000}") long maxPostings,
+                       @Value("${search.index.max-field-length:1000}") int maxFieldLength) {
+        this.boardRepository = boardRepository;
+        this.debateRoomRepository = debateRoomRepository;
+        this.userRepository = userRepository;
+        this.maxPostings = maxPostings;
+        this.maxFieldLength = maxFieldLength;
+        this.boardIndex = new NgramIndex(maxPostings, maxFieldLength);
+        this.roomIndex = new NgramIndex(maxPostings, maxFieldLength);
+    }
+
+    //서버 시작 시 최신 게시글, 토론장부터 상한까지 색인, 전체 유저 닉네임 색인 (새 색인을 만든 뒤 교체)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        NgramIndex newBoardIndex = new NgramIndex(maxPostings, maxFieldLength);
+        Page<Board> boards;
+        int page = 0;
+        do {
+            boards = boardRepository.findAll(PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by(Sort.Direction.DESC, "boardId")));
+            boards.forEach(board -> newBoardIndex.put(board.getBoardId(), boardDocument(board)));
+        } while (boards.hasNext() && !newBoardIndex.isFull());
+
+        NgramIndex newRoomIndex = new NgramIndex(maxPostings, maxFieldLength);
+        Page<DebateRoom> rooms;
+        page = 0;
+        do {
+            rooms = debateRoomRepository.findAll(PageRequest.of(page++, LOAD_BATCH_SIZE, Sort.by(Sort.Direction.DESC, "debateRoomId")));
+            rooms.forEach(room -> newRoomIndex.put(room.getDebateRoomId(), roomDocument(room)));
+        } while (rooms.hasNext() && !newRoomIndex.isFull());
+
+        NicknameIndex newNicknameIndex = new NicknameIndex();
+        userRepository.findAllNicknameEntries().forEach(newNicknameIndex::put);
+
+        boardIndex = newBoardIndex;
+        roomIndex = newRoomIndex;
+        nicknameIndex = newNicknameIndex;
+        log.info("검색 색인 완료 (게시글 " + newBoardIndex.size() + "개, 토론장 " + newRoomIndex.size() + "개, 유저 " + newNicknameIndex.size() + "명)");
+    }
+
+    //변경된 문서를 DB에서 다시 읽어 반영 (삭제되었으면 제거)
+    public void apply(SearchIndexEvent event) {
+        Long id = event.getId();
+        switch (event.getTarget()) {
+            case BOARD -> boardRepository.findById(id).ifPresentOrElse(
+                    board -> boardIndex.put(id, boardDocument(board)), () -> boardIndex.remove(id));
+            case ROOM -> debateRoomRepository.findById(id).ifPresentOrElse(
+                    room -> roomIndex.put(id, roomDocument(room)), () -> roomIndex.remove(id));
+            case USER -> userRepository.findNicknameEntry(id).ifPresentOrElse(
+                    entry -> nicknameIndex.put(entry), () -> nicknameIndex.remove(id));
+        }
+    }
+
+    public List<Long> searchBoards(String keyword, int limit) {
+        return boardIndex.search(keyword, limit);
+    }
+
+    public List<Long> searchRooms(String keyword, int limit) {
+        return roomIndex.search(keyword, limit);
+    }
+
+    public List<NicknameEntry> searchNicknames(String keyword, int limit) {
+        return nicknameIndex.search(keyword, limit);
+    }
+
+    private static NgramIndex.Document boardDocument(Board board) {
+        return new NgramIndex.Document()
+                .field(board.getTitle(), 3)
+                .field(board.getBookTitle(), 2)
+                .field(board.getBookAuthor(), 2)
+                .field(board.getContent(), 1);
+    }
+
+    private static NgramIndex.Document roomDocument(DebateRoom room) {
+        return new NgramIndex.Document()
+                .field(room.getTopic(), 3)
+                .field(room.getBookTitle(), 2)
+                .field(room.getBookAuthor(), 2);
+    }
+
+}
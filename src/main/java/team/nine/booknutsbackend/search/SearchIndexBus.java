@@ -0,0 +1,8 @@
+package team.nine.booknutsbackend.search;
+
+//검색 색인 변경 전달 경로 (발행한 서버는 바로 반영, 다른 서버는 이벤트를 받아 반영)
+public interface SearchIndexBus {
+
+    void publish(SearchIndexEvent event);
+
+}
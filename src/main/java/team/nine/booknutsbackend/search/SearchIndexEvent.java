@@ -0,0 +1,24 @@
+package team.nine.booknutsbackend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//검색 색인 변경 알림 (내용 대신 아이디만 전달, 받은 서버가 DB에서 다시 읽어 반영)
+//DB에 없으면 색인에서 제거
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexEvent {
+
+    public enum Target {BOARD, ROOM, USER}
+
+    Target target;
+    Long id;
+    String origin; //발행한 서버 (Redis 전달 시 자기 이벤트는 다시 반영하지 않음)
+
+    public static SearchIndexEvent of(Target target, Long id) {
+        return new SearchIndexEvent(target, id, null);
+    }
+
+}
@@ -9,8 +9,9 @@ import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.archive.Archive;
 import team.nine.booknutsbackend.domain.archive.ArchiveBoard;
 import team.nine.booknutsbackend.dto.request.ArchiveRequest;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
 import team.nine.booknutsbackend.dto.response.ArchiveResponse;
-import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.dto.response.BoardListResponse;
 import team.nine.booknutsbackend.exception.archive.ArchiveDuplicateException;
 import team.nine.booknutsbackend.exception.archive.ArchiveNotFoundException;
 import team.nine.booknutsbackend.exception.board.BoardNotFoundException;
@@ -20,7 +21,6 @@ import team.nine.booknutsbackend.repository.ArchiveRepository;
 import team.nine.booknutsbackend.repository.BoardRepository;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -32,6 +32,7 @@ public class ArchiveService {
     private final ArchiveBoardRepository archiveBoardRepository;
     private final BoardRepository boardRepository;
     private final AwsS3Service awsS3Service;
+    private final ViewerContextService viewerContextService;
 
     //아카이브 조회
     @Transactional(readOnly = true)
@@ -43,14 +44,13 @@ public class ArchiveService {
     //특정 유저의 아카이브 목록 조회
     @Transactional(readOnly = true)
     public List<ArchiveResponse> getArchiveList(User owner) {
-        List<Archive> archives = archiveRepository.findAllByOwner(owner);
+        List<Archive> archives = archiveRepository.findDistinctByOwnerOrderByArchiveIdDesc(owner); //최신순
         List<ArchiveResponse> archiveResponseList = new ArrayList<>();
 
         for (Archive archive : archives) {
             archiveResponseList.add(ArchiveResponse.archiveResponse(archive));
         }
 
-        Collections.reverse(archiveResponseList); //최신순
         return archiveResponseList;
     }
 
@@ -63,18 +63,11 @@ public class ArchiveService {
 
     //특정 아카이브 내의 게시글 조회
     @Transactional(readOnly = true)
-    public List<BoardResponse> getArchiveBoards(Long archiveId, User user) {
+    public BoardListResponse getArchiveBoards(Long archiveId, User user, CursorRequest cursorRequest) {
         Archive archive = archiveRepository.findById(archiveId)
                 .orElseThrow(ArchiveNotFoundException::new);
-        List<ArchiveBoard> archiveBoards = archiveBoardRepository.findByArchive(archive);
-        List<BoardResponse> boardList = new ArrayList<>();
-
-        for (ArchiveBoard archiveBoard : archiveBoards) {
-            boardList.add(BoardResponse.boardResponse(archiveBoard.getBoard(), user));
-        }
-
-        Collections.reverse(boardList); //최신순
-        return boardList;
+        List<Board> boards = archiveBoardRepository.findBoardsByArchive(archive, cursorRequest.getCursor(), cursorRequest.getPageable());
+        return BoardListResponse.boardListResponse(viewerContextService.boardResponseList(boards, user), cursorRequest.getPageSize());
     }
 
     //아카이브에 게시글 추가
@@ -93,6 +86,7 @@ public class ArchiveService {
         archiveBoard.setBoard(board);
         archiveBoard.setOwner(archive.getOwner());
         archiveBoardRepository.save(archiveBoard);
+        boardRepository.updateArchiveCnt(board.getBoardId(), 1);
     }
 
     //아카이브 삭제
@@ -101,6 +95,7 @@ public class ArchiveService {
         Archive archive = getArchive(archiveId);
         if (!Objects.equals(archive.getOwner().getUserId(), user.getUserId())) throw new NoAuthException();
 
+        boardRepository.decreaseArchiveCntByArchive(archive);
         List<ArchiveBoard> archiveBoards = archiveBoardRepository.findByArchive(archive);
         archiveBoardRepository.deleteAll(archiveBoards);
         archiveRepository.delete(archive);
@@ -119,6 +114,7 @@ public class ArchiveService {
 
         ArchiveBoard archiveBoard = archiveBoardRepository.findByArchiveAndBoard(archive, board);
         archiveBoardRepository.delete(archiveBoard);
+        boardRepository.updateArchiveCnt(board.getBoardId(), -1);
     }
 
     //아카이브 수정
@@ -137,6 +133,7 @@ public class ArchiveService {
     @Transactional
     public void deleteAllArchive(User user) {
         List<Archive> archiveList = archiveRepository.findAllByOwner(user);
+        boardRepository.decreaseArchiveCntByOwner(user);
         for (Archive archive : archiveList) {
             List<ArchiveBoard> archiveBoards = archiveBoardRepository.findByArchive(archive);
             archiveBoardRepository.deleteAll(archiveBoards);
@@ -1,20 +1,32 @@
 package team.nine.booknutsbackend.service;
 
-import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import team.nine.booknutsbackend.domain.ImageDeleteTask;
 import team.nine.booknutsbackend.exception.s3.UploadFailedException;
+import team.nine.booknutsbackend.repository.ImageDeleteTaskRepository;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.UUID;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.*;
 
+//업로드는 트랜잭션 밖(컨트롤러)에서 호출 - 업로드하는 동안 DB 커넥션을 잡고 있지 않도록
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class AwsS3Service {
@@ -23,35 +35,124 @@ public class AwsS3Service {
     private String bucketName;
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final ImageDeleteTaskRepository imageDeleteTaskRepository;
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final int MAX_DELETE_ATTEMPTS = 10;
+    private static final long MAX_BACKOFF_MINUTES = 24 * 60;
+    private static final long CLAIM_LEASE_MINUTES = 10; //선점 후 이 시간 안에 끝내지 못하면 (서버 종료 등) 다른 서버가 다시 처리
 
     //이미지 업로드
+    //작은 파일은 요청 body를 그대로 S3로 스트리밍, multipart threshold 이상의 큰 파일은 임시 파일로 옮긴 뒤 part 병렬 업로드
     public String uploadImg(MultipartFile file, String keymsg) {
-        if (file.isEmpty()) return "";
+        if (file == null || file.isEmpty()) return "";
 
         String fileName = keymsg + UUID.randomUUID();
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentLength(file.getSize());
         objectMetadata.setContentType(file.getContentType());
 
-        try (InputStream inputStream = file.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (IOException e) {
+        try {
+            if (file.getSize() >= transferManager.getConfiguration().getMultipartUploadThreshold()) {
+                uploadMultipart(file, fileName, objectMetadata);
+            } else {
+                try (InputStream inputStream = file.getInputStream()) {
+                    transferManager.upload(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
+                            .withCannedAcl(CannedAccessControlList.PublicRead)).waitForCompletion();
+                }
+            }
+        } catch (IOException | AmazonClientException e) {
+            throw new UploadFailedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new UploadFailedException();
         }
 
         return amazonS3.getUrl(bucketName, fileName).toString();
     }
 
-    //이미지 삭제
+    //part 병렬 업로드는 파일에서만 가능 (스트림은 순서대로 읽어야 함)
+    //디스크에 저장된 multipart 파일은 transferTo 시 복사 없이 이동됨
+    private void uploadMultipart(MultipartFile file, String fileName, ObjectMetadata objectMetadata) throws IOException, InterruptedException {
+        File tempFile = new File(System.getProperty("java.io.tmpdir"), "s3-upload-" + UUID.randomUUID());
+        try {
+            file.transferTo(tempFile);
+            transferManager.upload(new PutObjectRequest(bucketName, fileName, tempFile)
+                    .withMetadata(objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead)).waitForCompletion();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    //이미지 삭제 요청
+    //S3를 바로 호출하지 않고 호출한 트랜잭션 안에서 삭제 대기열에 저장 (트랜잭션이 롤백되면 삭제도 취소)
     public void deleteImg(String originImgUrl) {
-        if (originImgUrl.equals("")) return;
+        if (originImgUrl == null || originImgUrl.equals("")) return;
+        imageDeleteTaskRepository.save(new ImageDeleteTask(originImgUrl.substring(originImgUrl.lastIndexOf('/') + 1)));
+    }
+
+    //삭제 대기열 처리 - 최대 1000개씩 deleteObjects 한 번으로 삭제
+    //실패한 이미지는 backoff(1분, 2분, 4분 ... 최대 1일) 후 재시도, MAX_DELETE_ATTEMPTS번 실패하면 포기
+    //모든 서버에서 실행되므로 작업을 선점한 뒤 처리 (같은 작업을 두 서버가 처리하지 않음)
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.delete-interval-millis:10000}")
+    public void deleteQueuedImages() {
+        List<ImageDeleteTask> tasks;
+        do {
+            tasks = claimBatch();
+            if (tasks.isEmpty()) return;
+        } while (deleteBatch(tasks) && tasks.size() == DELETE_BATCH_SIZE);
+    }
 
+    //처리할 때가 된 작업을 골라 선점, 선점에 성공한 작업만 반환
+    private List<ImageDeleteTask> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> taskIds = new ArrayList<>();
+        for (ImageDeleteTask task : imageDeleteTaskRepository.findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc(now)) {
+            taskIds.add(task.getTaskId());
+        }
+        if (taskIds.isEmpty()) return Collections.emptyList();
+
+        String claimToken = UUID.randomUUID().toString();
+        if (imageDeleteTaskRepository.claim(taskIds, now, now.plusMinutes(CLAIM_LEASE_MINUTES), claimToken) == 0) {
+            return Collections.emptyList();
+        }
+        return imageDeleteTaskRepository.findByClaimToken(claimToken);
+    }
+
+    //선점한 batch 삭제, 전부 성공하면 true
+    private boolean deleteBatch(List<ImageDeleteTask> tasks) {
+        String claimToken = tasks.get(0).getClaimToken();
+        List<DeleteObjectsRequest.KeyVersion> keys = new ArrayList<>();
+        for (ImageDeleteTask task : tasks) keys.add(new DeleteObjectsRequest.KeyVersion(task.getObjectKey()));
+
+        Set<String> failedKeys = new HashSet<>();
         try {
-            amazonS3.deleteObject(bucketName, originImgUrl.split("/")[3]);
-        } catch (AmazonServiceException e) {
-            e.printStackTrace();
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(keys).withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            for (MultiObjectDeleteException.DeleteError error : e.getErrors()) failedKeys.add(error.getKey());
+        } catch (AmazonClientException e) {
+            log.warn("S3 이미지 삭제 실패 (" + tasks.size() + "개)", e);
+            for (ImageDeleteTask task : tasks) failedKeys.add(task.getObjectKey());
+        }
+
+        List<Long> done = new ArrayList<>();
+        for (ImageDeleteTask task : tasks) {
+            if (!failedKeys.contains(task.getObjectKey())) {
+                done.add(task.getTaskId());
+            } else if (task.getAttempts() + 1 >= MAX_DELETE_ATTEMPTS) {
+                log.warn("S3 이미지 삭제 포기 key = " + task.getObjectKey());
+                done.add(task.getTaskId());
+            } else {
+                int attempts = task.getAttempts() + 1;
+                long backoffMinutes = Math.min(1L << (attempts - 1), MAX_BACKOFF_MINUTES);
+                imageDeleteTaskRepository.reschedule(task.getTaskId(), attempts, LocalDateTime.now().plusMinutes(backoffMinutes), claimToken);
+            }
         }
+
+        if (!done.isEmpty()) imageDeleteTaskRepository.deleteClaimed(done, claimToken);
+        return failedKeys.isEmpty();
     }
 
 }
@@ -1,30 +1,38 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.Board;
-import team.nine.booknutsbackend.domain.Follow;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.dto.request.BoardRequest;
-import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
+import team.nine.booknutsbackend.dto.response.BoardListResponse;
 import team.nine.booknutsbackend.exception.board.BoardNotFoundException;
 import team.nine.booknutsbackend.exception.board.OutOfIndexException;
 import team.nine.booknutsbackend.exception.user.NoAuthException;
 import team.nine.booknutsbackend.repository.BoardRepository;
-import team.nine.booknutsbackend.repository.FollowRepository;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class BoardService {
 
     private final BoardRepository boardRepository;
-    private final FollowRepository followRepository;
+    private final FeedService feedService;
+    private final ViewerContextService viewerContextService;
+    private final SearchService searchService;
+    private final SchedulerLockService schedulerLockService;
+
+    private static final long RECONCILE_BATCH_SIZE = 1000;
+    private static final Duration RECONCILE_LOCK_LEASE = Duration.ofHours(1);
 
     //특정 게시글 조회
     @Transactional(readOnly = true)
@@ -36,66 +44,50 @@ public class BoardService {
     //게시글 작성
     @Transactional
     public Board writePost(Board newBoard) {
-        return boardRepository.save(newBoard);
+        Board board = boardRepository.save(newBoard);
+        feedService.pushPost(board); //팔로워 피드에 추가
+        searchService.indexBoard(board);
+        return board;
     }
 
     //게시글 목록 조회
     //나의 구독 = 0, 오늘 추천 = 1, 독립 출판 = 2
     @Transactional(readOnly = true)
-    public List<BoardResponse> getBoard(User user, int type) {
+    public BoardListResponse getBoard(User user, int type, CursorRequest cursorRequest) {
         if (type < 0 || type > 2) throw new OutOfIndexException();
 
         List<Board> boards;
-        if (type == 0) boards = get0Boards(user);
-        else if (type == 1) boards = get1Boards();
-        else boards = get2Boards();
-
-        List<BoardResponse> boardDtoList = new ArrayList<>();
-        for (Board board : boards) {
-            boardDtoList.add(BoardResponse.boardResponse(board, user));
-        }
+        if (type == 0) boards = get0Boards(user, cursorRequest);
+        else if (type == 1) boards = get1Boards(cursorRequest);
+        else boards = get2Boards(cursorRequest);
 
-        Collections.reverse(boardDtoList); //최신순
-        return boardDtoList;
+        return BoardListResponse.boardListResponse(viewerContextService.boardResponseList(boards, user), cursorRequest.getPageSize());
     }
 
     //나의 구독 = 0
     @Transactional(readOnly = true)
-    public List<Board> get0Boards(User user) {
-        List<Follow> followList = followRepository.findByFollower(user);
-        List<Board> boards = new ArrayList<>();
-        for (Follow follow : followList) {
-            List<Board> tmp = boardRepository.findByUserOrderByBoardId(follow.getFollowing());
-            if (!tmp.isEmpty()) boards.addAll(tmp);
-        }
-        return boards;
+    public List<Board> get0Boards(User user, CursorRequest cursorRequest) {
+        return feedService.getFeed(user, cursorRequest);
     }
 
     //오늘 추천 = 1
     //임시로, 모든 게시글 리턴하도록 구현
     @Transactional(readOnly = true)
-    public List<Board> get1Boards() {
-        return boardRepository.findAll();
+    public List<Board> get1Boards(CursorRequest cursorRequest) {
+        return boardRepository.findByBoardIdLessThanOrderByBoardIdDesc(cursorRequest.getCursor(), cursorRequest.getPageable());
     }
 
     //독립 출판 = 2
     @Transactional(readOnly = true)
-    public List<Board> get2Boards() {
-        return boardRepository.findByBookGenre("독립서적");
+    public List<Board> get2Boards(CursorRequest cursorRequest) {
+        return boardRepository.findByBookGenreAndBoardIdLessThanOrderByBoardIdDesc("독립서적", cursorRequest.getCursor(), cursorRequest.getPageable());
     }
 
     //특정 유저의 게시글 목록 조회
     @Transactional(readOnly = true)
-    public List<BoardResponse> getBoardList(User owner) {
-        List<Board> boards = boardRepository.findByUserOrderByBoardId(owner);
-        List<BoardResponse> boardDtoList = new ArrayList<>();
-
-        for (Board board : boards) {
-            boardDtoList.add(BoardResponse.boardResponse(board, owner));
-        }
-
-        Collections.reverse(boardDtoList); //최신순
-        return boardDtoList;
+    public BoardListResponse getBoardList(User owner, CursorRequest cursorRequest) {
+        List<Board> boards = boardRepository.findByUserAndBoardIdLessThanOrderByBoardIdDesc(owner, cursorRequest.getCursor(), cursorRequest.getPageable());
+        return BoardListResponse.boardListResponse(viewerContextService.boardResponseList(boards, owner), cursorRequest.getPageSize());
     }
 
     //게시글 수정
@@ -106,7 +98,9 @@ public class BoardService {
         if (boardRequest.getTitle() != null) board.setTitle(boardRequest.getTitle());
         if (boardRequest.getContent() != null) board.setContent(boardRequest.getContent());
 
-        return boardRepository.save(board);
+        Board updateBoard = boardRepository.save(board);
+        searchService.indexBoard(updateBoard);
+        return updateBoard;
     }
 
     //게시글 삭제
@@ -115,7 +109,27 @@ public class BoardService {
         Board board = getPost(boardId);
         if(!Objects.equals(board.getUser().getUserId(), user.getUserId())) throw new NoAuthException();
         //if (board.getUser() != user) throw new NoAuthException();
+        feedService.deletePost(board);
+        searchService.removeBoard(board.getBoardId());
         boardRepository.delete(board);
     }
 
-}
\ No newline at end of file
+    //게시글 반응 수(넛츠, 좋아요, 아카이브) 보정
+    //증감 쿼리가 누락되어 생긴 오차를 실제 반응 수로 다시 계산 (게시글 아이디 1000개 단위)
+    //모든 서버에서 스케쥴되므로 잠금을 잡은 한 서버에서만 실행 (배포 시 기존 게시글은 V4 마이그레이션이 채움)
+    @Scheduled(cron = "0 0 4 * * *") //매일 04:00:00 (초, 분, 시, 일, 월, 주)
+    public void reconcileReactionCount() {
+        schedulerLockService.runExclusively("board-reconcile", RECONCILE_LOCK_LEASE, () -> {
+            Long maxBoardId = boardRepository.findMaxBoardId();
+            if (maxBoardId == null) return;
+
+            int updated = 0;
+            for (long fromId = 1; fromId <= maxBoardId; fromId += RECONCILE_BATCH_SIZE) {
+                updated += boardRepository.reconcileCount(fromId, fromId + RECONCILE_BATCH_SIZE - 1);
+            }
+
+            log.info(LocalDate.now() + " 게시글 반응 수 보정 스케쥴러 실행 완료 (" + updated + "개)");
+        });
+    }
+
+}
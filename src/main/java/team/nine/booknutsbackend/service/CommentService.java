@@ -6,8 +6,9 @@ import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.Comment;
 import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.dto.request.CommentCursorRequest;
 import team.nine.booknutsbackend.dto.request.CommentRequest;
-import team.nine.booknutsbackend.dto.response.CommentResponse;
+import team.nine.booknutsbackend.dto.response.CommentListResponse;
 import team.nine.booknutsbackend.exception.board.BoardNotFoundException;
 import team.nine.booknutsbackend.exception.comment.CommentNotFoundException;
 import team.nine.booknutsbackend.exception.comment.NotNewCommentCreateException;
@@ -15,7 +16,7 @@ import team.nine.booknutsbackend.exception.user.NoAuthException;
 import team.nine.booknutsbackend.repository.BoardRepository;
 import team.nine.booknutsbackend.repository.CommentRepository;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -57,27 +58,12 @@ public class CommentService {
 
     //게시글 별 댓글 리스트 조회
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentList(Long boardId) {
+    public CommentListResponse getCommentList(Long boardId, CommentCursorRequest cursorRequest) {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFoundException::new);
-        List<Comment> comments = commentRepository.findByBoard(board);
-
-        List<Comment> commentList = new ArrayList<>();
-        List<CommentResponse> commentResponseList = new ArrayList<>();
-
-        for (Comment comment : comments) {
-            if (comment.getParent() == null) {
-                commentList.add(comment);
-                List<Comment> childComment = commentRepository.findByParentOrderByCreatedDate(comment);
-                if (childComment != null) commentList.addAll(childComment);
-            }
-        }
-
-        for (Comment comment : commentList) {
-            commentResponseList.add(CommentResponse.commentResponse(comment));
-        }
-
-        return commentResponseList;
+        List<Comment> parents = commentRepository.findParentsByBoard(board, cursorRequest.getCursor(), cursorRequest.getPageable());
+        List<Comment> children = parents.isEmpty() ? Collections.emptyList() : commentRepository.findChildrenByParentIn(parents);
+        return CommentListResponse.commentListResponse(parents, children, cursorRequest.getPageSize());
     }
 
     //댓글 수정
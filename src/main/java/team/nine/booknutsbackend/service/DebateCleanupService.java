@@ -0,0 +1,165 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.nine.booknutsbackend.debate.DebateEvent;
+import team.nine.booknutsbackend.debate.DebateEventBus;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.domain.debate.DebateRoomHistory;
+import team.nine.booknutsbackend.domain.debate.DebateUser;
+import team.nine.booknutsbackend.domain.debate.DebateUserHistory;
+import team.nine.booknutsbackend.repository.DebateRoomHistoryRepository;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+import team.nine.booknutsbackend.repository.DebateUserHistoryRepository;
+import team.nine.booknutsbackend.repository.DebateUserRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+//방치된 토론장 정리
+//오래 대기 중이거나 진행 중인 토론은 종료하고, 종료 후 보관 기간이 지난 토론장과 참여자는 기록 테이블로 이동
+//(type, status, statusChangedAt) 인덱스 순서대로 batchSize개씩 keyset 조회, batch마다 한 트랜잭션
+//모든 서버에서 스케쥴되므로 작업마다 잠금을 잡은 한 서버만 실행
+@Slf4j
+@Service
+public class DebateCleanupService {
+
+    private static final int[] TYPES = {0, 1}; //채팅, 음성
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final Duration CLOSE_LOCK_LEASE = Duration.ofMinutes(9); //다음 실행(10분 후) 전에 풀림
+    private static final Duration ARCHIVE_LOCK_LEASE = Duration.ofHours(1);
+
+    private final DebateRoomRepository debateRoomRepository;
+    private final DebateUserRepository debateUserRepository;
+    private final DebateRoomHistoryRepository debateRoomHistoryRepository;
+    private final DebateUserHistoryRepository debateUserHistoryRepository;
+    private final DebateEventBus debateEventBus;
+    private final SearchService searchService;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int waitingHours;
+    private final int inProgressHours;
+    private final int archiveAfterDays;
+    private final int batchSize;
+
+    public DebateCleanupService(DebateRoomRepository debateRoomRepository, DebateUserRepository debateUserRepository,
+                                DebateRoomHistoryRepository debateRoomHistoryRepository,
+                                DebateUserHistoryRepository debateUserHistoryRepository,
+                                DebateEventBus debateEventBus, SearchService searchService,
+                                SchedulerLockService schedulerLockService, PlatformTransactionManager transactionManager,
+                                @Value("${debate.cleanup.waiting-hours:6}") int waitingHours,
+                                @Value("${debate.cleanup.in-progress-hours:24}") int inProgressHours,
+                                @Value("${debate.cleanup.archive-after-days:7}") int archiveAfterDays,
+                                @Value("${debate.cleanup.batch-size:500}") int batchSize) {
+        this.debateRoomRepository = debateRoomRepository;
+        this.debateUserRepository = debateUserRepository;
+        this.debateRoomHistoryRepository = debateRoomHistoryRepository;
+        this.debateUserHistoryRepository = debateUserHistoryRepository;
+        this.debateEventBus = debateEventBus;
+        this.searchService = searchService;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.waitingHours = waitingHours;
+        this.inProgressHours = inProgressHours;
+        this.archiveAfterDays = archiveAfterDays;
+        this.batchSize = batchSize;
+    }
+
+    //waitingHours 동안 시작하지 않은 토론, 시작 후 inProgressHours 동안 끝나지 않은 토론 종료
+    @Scheduled(cron = "0 */10 * * * *") //10분마다
+    public void closeIdleRooms() {
+        schedulerLockService.runExclusively("debate-close", CLOSE_LOCK_LEASE, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            int closed = closeRooms(0, now.minusHours(waitingHours)) + closeRooms(1, now.minusHours(inProgressHours));
+            log.info(LocalDate.now() + " 토론장 종료 스케쥴러 실행 완료 (" + closed + "개 종료)");
+        });
+    }
+
+    //종료 후 archiveAfterDays가 지난 토론장을 기록 테이블로 이동
+    //검색 색인에서도 제거 (SearchService가 모든 서버의 색인에 전달)
+    @Scheduled(cron = "0 0 4 * * *") //매일 04:00:00
+    public void archiveFinishedRooms() {
+        schedulerLockService.runExclusively("debate-archive", ARCHIVE_LOCK_LEASE, () -> {
+            LocalDateTime before = LocalDateTime.now().minusDays(archiveAfterDays);
+            int archived = 0;
+            for (int type : TYPES) {
+                LocalDateTime lastChangedAt = KEYSET_START;
+                Long lastId = 0L;
+                List<DebateRoom> rooms;
+                do {
+                    rooms = debateRoomRepository.findSweepTargets(type, 2, before, lastChangedAt, lastId, PageRequest.of(0, batchSize));
+                    if (rooms.isEmpty()) break;
+                    lastChangedAt = rooms.get(rooms.size() - 1).getStatusChangedAt();
+                    lastId = rooms.get(rooms.size() - 1).getDebateRoomId();
+
+                    archiveBatch(rooms);
+                    rooms.forEach(room -> searchService.removeRoom(room.getDebateRoomId()));
+                    archived += rooms.size();
+                } while (rooms.size() == batchSize);
+            }
+            log.info(LocalDate.now() + " 토론장 보관 스케쥴러 실행 완료 (" + archived + "개 보관)");
+        });
+    }
+
+    private int closeRooms(int status, LocalDateTime before) {
+        int closed = 0;
+        for (int type : TYPES) {
+            LocalDateTime lastChangedAt = KEYSET_START;
+            Long lastId = 0L;
+            List<DebateRoom> rooms;
+            do {
+                rooms = debateRoomRepository.findSweepTargets(type, status, before, lastChangedAt, lastId, PageRequest.of(0, batchSize));
+                if (rooms.isEmpty()) break;
+                lastChangedAt = rooms.get(rooms.size() - 1).getStatusChangedAt();
+                lastId = rooms.get(rooms.size() - 1).getDebateRoomId();
+
+                List<Long> closedIds = closeBatch(rooms.stream().map(DebateRoom::getDebateRoomId).collect(Collectors.toList()), status);
+                closedIds.forEach(roomId -> debateEventBus.publish(DebateEvent.status(roomId, 2))); //구독자, 목록 캐시에 반영
+                closed += closedIds.size();
+            } while (rooms.size() == batchSize);
+        }
+        return closed;
+    }
+
+    //종료 처리된 토론장 id 반환 (조회 후 방장이 상태를 바꾼 토론장 제외)
+    private List<Long> closeBatch(List<Long> roomIds, int status) {
+        return transactionTemplate.execute(tx -> {
+            int updated = debateRoomRepository.closeRooms(roomIds, status, LocalDateTime.now());
+            if (updated == roomIds.size()) return roomIds;
+            return debateRoomRepository.findAllById(roomIds).stream()
+                    .filter(room -> room.getStatus() == 2)
+                    .map(DebateRoom::getDebateRoomId)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    //이미 기록이 있는 토론장 (잠금 lease가 지난 뒤 겹쳐 실행된 경우)은 기록을 다시 만들지 않고 삭제만
+    private void archiveBatch(List<DebateRoom> rooms) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<DebateUser> debateUsers = debateUserRepository.findByDebateRoomIn(rooms);
+            Set<Long> archivedIds = debateRoomHistoryRepository.findAllById(rooms.stream().map(DebateRoom::getDebateRoomId).collect(Collectors.toList()))
+                    .stream().map(DebateRoomHistory::getDebateRoomId).collect(Collectors.toSet());
+            debateRoomHistoryRepository.saveAll(rooms.stream()
+                    .filter(room -> !archivedIds.contains(room.getDebateRoomId()))
+                    .map(room -> DebateRoomHistory.of(room, now))
+                    .collect(Collectors.toList()));
+            debateUserHistoryRepository.saveAll(debateUsers.stream()
+                    .filter(debateUser -> !archivedIds.contains(debateUser.getDebateRoom().getDebateRoomId()))
+                    .map(DebateUserHistory::of)
+                    .collect(Collectors.toList()));
+            debateUserRepository.deleteAllInBatch(debateUsers);
+            debateRoomRepository.deleteAllInBatch(rooms);
+        });
+    }
+
+}
@@ -0,0 +1,77 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import team.nine.booknutsbackend.debate.DebateEvent;
+import team.nine.booknutsbackend.debate.DebateEventBus;
+import team.nine.booknutsbackend.debate.DebateMessageWriter;
+import team.nine.booknutsbackend.debate.DebateRoomRegistry;
+import team.nine.booknutsbackend.debate.DebateRoomState;
+import team.nine.booknutsbackend.domain.debate.DebateMessage;
+import team.nine.booknutsbackend.exception.debate.CannotSendMessageException;
+import team.nine.booknutsbackend.exception.debate.DebateUserNotFoundException;
+import team.nine.booknutsbackend.exception.debate.RoomNotFoundException;
+import team.nine.booknutsbackend.repository.DebateMessageRepository;
+import team.nine.booknutsbackend.repository.DebateRoomHistoryRepository;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class DebateMessageService {
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final int HISTORY_SIZE = 100;
+
+    private final DebateRoomRegistry debateRoomRegistry;
+    private final DebateEventBus debateEventBus;
+    private final DebateMessageWriter debateMessageWriter;
+    private final DebateMessageRepository debateMessageRepository;
+    private final DebateRoomRepository debateRoomRepository;
+    private final DebateRoomHistoryRepository debateRoomHistoryRepository;
+
+    //토론장 현재 상태 (구독 중인 토론장이면 DB 조회 X)
+    public DebateRoomState.Snapshot getSnapshot(Long roomId) {
+        DebateRoomState state = debateRoomRegistry.find(roomId);
+        if (state == null) throw new RoomNotFoundException();
+        return state.snapshot();
+    }
+
+    //채팅 전송 (참여자 확인은 메모리 상태로), 저장은 DebateMessageWriter에서 비동기로
+    public DebateEvent sendMessage(Long roomId, Long userId, String message) {
+        if (message == null || message.isBlank() || message.length() > MAX_MESSAGE_LENGTH)
+            throw new CannotSendMessageException("메세지는 1자 이상 " + MAX_MESSAGE_LENGTH + "자 이하로 입력해주세요.");
+
+        DebateRoomState state = debateRoomRegistry.find(roomId);
+        if (state == null) throw new RoomNotFoundException();
+        if (state.getType() != 0) throw new CannotSendMessageException("채팅 토론에서만 메세지를 보낼 수 있습니다.");
+        if (state.getStatus() == 2) throw new CannotSendMessageException("종료된 토론입니다.");
+
+        DebateRoomState.Participant sender = state.getParticipant(userId);
+        if (sender == null) throw new DebateUserNotFoundException();
+
+        DebateEvent event = DebateEvent.chat(roomId, sender, message);
+        debateEventBus.publish(event);
+        debateMessageWriter.enqueue(event);
+        return event;
+    }
+
+    //채팅 기록 (최근 HISTORY_SIZE개, 오래된 순), 보관된 토론장 포함
+    @Transactional(readOnly = true)
+    public List<DebateEvent> getMessages(Long roomId) {
+        if (!debateRoomRepository.existsById(roomId) && !debateRoomHistoryRepository.existsById(roomId))
+            throw new RoomNotFoundException();
+        List<DebateMessage> messages = debateMessageRepository.findByDebateRoomIdOrderByMessageIdDesc(roomId, PageRequest.of(0, HISTORY_SIZE));
+
+        List<DebateEvent> history = new ArrayList<>(messages.size());
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            history.add(DebateEvent.chat(messages.get(i)));
+        }
+        return history;
+    }
+
+}
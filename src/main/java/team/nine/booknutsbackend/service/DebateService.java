@@ -1,13 +1,18 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team.nine.booknutsbackend.debate.DebateEvent;
+import team.nine.booknutsbackend.debate.DebateEventBus;
+import team.nine.booknutsbackend.debate.DebateLobbyCache;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.debate.DebateRoom;
 import team.nine.booknutsbackend.domain.debate.DebateUser;
-import team.nine.booknutsbackend.dto.response.DebateRoomResponse;
 import team.nine.booknutsbackend.exception.debate.CannotEnterException;
 import team.nine.booknutsbackend.exception.debate.DebateUserNotFoundException;
 import team.nine.booknutsbackend.exception.debate.RoomNotFoundException;
@@ -16,21 +21,30 @@ import team.nine.booknutsbackend.exception.user.NoAuthException;
 import team.nine.booknutsbackend.repository.DebateRoomRepository;
 import team.nine.booknutsbackend.repository.DebateUserRepository;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class DebateService {
 
     private final DebateRoomRepository debateRoomRepository;
     private final DebateUserRepository debateUserRepository;
-    private final AwsS3Service awsS3Service;
+    private final SearchService searchService;
+    private final ImageVariantService imageVariantService;
+    private final DebateEventBus debateEventBus;
+    private final DebateLobbyCache debateLobbyCache;
 
-    //토론장 개설
+    //토론장 개설 (커버 이미지는 컨트롤러에서 트랜잭션 밖에서 업로드)
     @Transactional
-    public DebateRoom createRoom(MultipartFile file, DebateRoom newRoom) {
-        newRoom.setCoverImgUrl(awsS3Service.uploadImg(file, "debate-"));
-        return debateRoomRepository.save(newRoom);
+    public DebateRoom createRoom(String coverImgUrl, DebateRoom newRoom) {
+        newRoom.setCoverImgUrl(coverImgUrl);
+        DebateRoom room = debateRoomRepository.save(newRoom);
+        imageVariantService.createDebateCoverThumbnail(room);
+        searchService.indexRoom(room);
+        publishAfterCommit(DebateEvent.create(room.getDebateRoomId()));
+        return room;
     }
 
     //참여 가능 여부
@@ -48,34 +62,44 @@ public class DebateService {
     }
 
     //토론장 참여
+    //인원 확인과 증가를 한 번의 조건부 update로 처리 (동시에 참여해도 한쪽 정원을 넘지 않음)
+    //중복 참여는 (토론장, 유저) unique 제약으로 막고, 예외가 나면 인원 증가도 함께 롤백
+    //이벤트는 인원 update가 영속성 컨텍스트를 비우기 전에 생성 (@CurrentUser 유저는 지연 로딩 프록시라서 비운 뒤에는 닉네임을 읽을 수 없음)
     @Transactional
     public DebateRoom enterRoom(Long roomId, User user, boolean opinion) {
-        DebateRoom room = getRoom(roomId);
-
-        if (debateUserRepository.findByDebateRoomAndUser(room, user).isPresent())
-            throw new CannotEnterException("이미 참여 중인 유저입니다.");
-        if (room.getStatus() != 0) throw new CannotEnterException("참여할 수 없는 토론 상태입니다.");
-        if (opinion && (room.getMaxUser() / 2 <= room.getCurYesUser()))
-            throw new CannotEnterException("찬성측 인원 초과로 참여할 수 없습니다.");
-        if (!opinion && (room.getMaxUser() / 2 <= room.getCurNoUser()))
+        DebateEvent event = DebateEvent.enter(roomId, user, opinion);
+        int updated = opinion ? debateRoomRepository.increaseYesUser(roomId) : debateRoomRepository.increaseNoUser(roomId);
+        if (updated == 0) {
+            DebateRoom room = getRoom(roomId);
+            if (room.getStatus() != 0) throw new CannotEnterException("참여할 수 없는 토론 상태입니다.");
+            if (opinion) throw new CannotEnterException("찬성측 인원 초과로 참여할 수 없습니다.");
             throw new CannotEnterException("반대측 인원 초과로 참여할 수 없습니다.");
+        }
 
         DebateUser debateUser = new DebateUser();
         debateUser.setUser(user);
-        debateUser.setDebateRoom(room);
+        debateUser.setDebateRoom(debateRoomRepository.getById(roomId));
         debateUser.setOpinion(opinion);
-        debateUserRepository.save(debateUser);
+        try {
+            debateUserRepository.saveAndFlush(debateUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new CannotEnterException("이미 참여 중인 유저입니다.");
+        }
 
-        return updateUserCount(room);
+        publishAfterCommit(event);
+        return getRoom(roomId);
     }
 
-    //토론 나가기
+    //토론 나가기 (이벤트는 참여와 같은 이유로 인원 update 전에 생성)
     @Transactional
     public void exitRoom(DebateRoom room, User user) {
+        DebateEvent event = DebateEvent.exit(room.getDebateRoomId(), user);
         DebateUser debateUser = debateUserRepository.findByDebateRoomAndUser(room, user)
                 .orElseThrow(DebateUserNotFoundException::new);
         debateUserRepository.delete(debateUser);
-        updateUserCount(room);
+        if (debateUser.getOpinion()) debateRoomRepository.decreaseYesUser(room.getDebateRoomId());
+        else debateRoomRepository.decreaseNoUser(room.getDebateRoomId());
+        publishAfterCommit(event);
     }
 
     //토론장 상태 변경
@@ -83,75 +107,49 @@ public class DebateService {
     public DebateRoom changeStatus(Long roomId, int status, User user) {
         DebateRoom room = getRoom(roomId);
 
-        if (room.getOwner().getUserId() != user.getUserId()) throw new NoAuthException("토론 개설자만 상태를 변경할 수 있습니다.");
+        if (!Objects.equals(room.getOwner().getUserId(), user.getUserId())) throw new NoAuthException("토론 개설자만 상태를 변경할 수 있습니다.");
         if (status <= 0 || status > 2) throw new StatusChangeException();
 
         room.setStatus(status);
+        room.setStatusChangedAt(LocalDateTime.now());
+        publishAfterCommit(DebateEvent.status(roomId, status));
         return debateRoomRepository.save(room);
     }
 
-    //참여 유저 수 업데이트
-    @Transactional
-    public DebateRoom updateUserCount(DebateRoom room) {
-        room.setCurYesUser(debateUserRepository.countByDebateRoomAndOpinion(room, true));
-        room.setCurNoUser(debateUserRepository.countByDebateRoomAndOpinion(room, false));
-        return debateRoomRepository.save(room);
+    //커밋 후 목록 캐시를 비우고 구독자에게 전달 (롤백된 변경은 보내지 않음)
+    private void publishAfterCommit(DebateEvent event) {
+        afterCommit(() -> {
+            debateLobbyCache.invalidate();
+            publish(event);
+        });
     }
 
-    //특정 토론장 조회
-    @Transactional(readOnly = true)
-    public DebateRoom getRoom(Long roomId) {
-        return debateRoomRepository.findById(roomId)
-                .orElseThrow(RoomNotFoundException::new);
-    }
-
-    //맞춤 토론 리스트
-    @Transactional(readOnly = true)
-    public List<DebateRoomResponse> customDebate(int type) {
-        List<DebateRoom> rooms;
-        if (type == 2) rooms = debateRoomRepository.findByStatus(0);
-        else rooms = debateRoomRepository.findByTypeAndStatus(type, 0);
-        List<DebateRoomResponse> roomDtoList = new ArrayList<>();
-
-        //임의로, '토론 대기 중' 상태인 3개의 토론을 반환
-        int cnt = 0;
-        for (DebateRoom room : rooms) {
-            roomDtoList.add(DebateRoomResponse.roomResponse(room));
-            cnt++;
-            if (cnt == 3) break;
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
         }
-
-        return roomDtoList;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
-    //현재 진행 중인 토론 리스트
-    @Transactional(readOnly = true)
-    public List<DebateRoomResponse> ingDebate(int type) {
-        List<DebateRoom> rooms;
-        if (type == 2) rooms = debateRoomRepository.findByStatus(1);
-        else rooms = debateRoomRepository.findByTypeAndStatus(type, 1);
-        List<DebateRoomResponse> roomDtoList = new ArrayList<>();
-
-        for (DebateRoom room : rooms) {
-            roomDtoList.add(DebateRoomResponse.roomResponse(room));
+    private void publish(DebateEvent event) {
+        try {
+            debateEventBus.publish(event);
+        } catch (RuntimeException e) {
+            log.warn("토론 이벤트 전달 실패 roomId = " + event.getRoomId() + ", type = " + event.getType(), e);
         }
-        Collections.reverse(roomDtoList); //최신순
-        return roomDtoList;
     }
 
-    //현재 대기 중인 토론 리스트
+    //특정 토론장 조회
     @Transactional(readOnly = true)
-    public List<DebateRoomResponse> readyDebate(int type) {
-        List<DebateRoom> rooms;
-        if (type == 2) rooms = debateRoomRepository.findByStatus(0);
-        else rooms = debateRoomRepository.findByTypeAndStatus(type, 0);
-        List<DebateRoomResponse> roomDtoList = new ArrayList<>();
-
-        for (DebateRoom room : rooms) {
-            roomDtoList.add(DebateRoomResponse.roomResponse(room));
-        }
-        Collections.reverse(roomDtoList); //최신순
-        return roomDtoList;
+    public DebateRoom getRoom(Long roomId) {
+        return debateRoomRepository.findById(roomId)
+                .orElseThrow(RoomNotFoundException::new);
     }
 
 }
@@ -20,10 +20,13 @@ public class DeleteUserService {
 
     private final AwsS3Service awsS3Service;
     private final FollowService followService;
+    private final FeedService feedService;
     private final ReactionService reactionService;
     private final SeriesService seriesService;
     private final ArchiveService archiveService;
     private final UserRepository userRepository;
+    private final SearchService searchService;
+    private final RefreshTokenService refreshTokenService;
 
     //회원 탈퇴
     @Transactional
@@ -31,9 +34,11 @@ public class DeleteUserService {
 
         //프로필 이미지 버킷에서 삭제
         awsS3Service.deleteImg(user.getProfileImgUrl());
+        awsS3Service.deleteImg(user.getProfileThumbnailUrl());
 
         //팔로우 삭제
         followService.deleteAllFollow(user);
+        feedService.deleteAllFeed(user);
 
         //시리즈, 아카이브 삭제
         seriesService.deleteAllSeries(user);
@@ -42,11 +47,17 @@ public class DeleteUserService {
         //공감, 넛츠 삭제
         reactionService.deleteAllReaction(user);
 
+        //닉네임 검색 색인에서 제거
+        searchService.removeUser(user.getUserId());
+
+        //모든 기기의 refresh token 폐기
+        refreshTokenService.revokeAll(user.getUserId());
+
         //유저 이용 불가 처리
         user.setUsername(null);
         user.setNickname(null);
-        user.setRefreshToken("");
         user.setProfileImgUrl("");
+        user.setProfileThumbnailUrl(null);
         user.setEnabled(false);
         user.setRequestedDeleteAt(LocalDateTime.now());
         userRepository.save(user);
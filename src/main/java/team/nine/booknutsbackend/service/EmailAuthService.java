@@ -1,37 +1,27 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import team.nine.booknutsbackend.mail.EmailOutbox;
+import team.nine.booknutsbackend.mail.OutgoingEmail;
 
-import javax.mail.Message;
-import javax.mail.MessagingException;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
+import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.Random;
 
 @RequiredArgsConstructor
 @Service
 public class EmailAuthService {
 
-    @Autowired
-    JavaMailSender javaMailSender;
+    private static final String CODE_CHARACTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int CODE_LENGTH = 8; //인증코드 8자리
+    private static final Duration CODE_VALID_TIME = Duration.ofMinutes(10);
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     private final RedisService redisService;
-
-    //static으로 선언했으지만 db에 컬럼 추가하는 방식으로 변경 예정
-    public String authcode = createKey();
+    private final EmailOutbox emailOutbox;
 
     //메세지 내용 생성
-    private MimeMessage createMessage(String to) throws MessagingException {
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        message.addRecipients(Message.RecipientType.TO, to); //보내는 대상
-        message.setSubject("Booknuts 회원가입 이메일 인증"); //제목
-
+    private String createContent(String authcode) {
         String msgg = "";
         msgg += "<div style='margin:100px;'>";
         msgg += "<h1> 안녕하세요 알차고 고소한 지식 공유 시간, 북넛츠입니다. </h1>";
@@ -46,54 +36,31 @@ public class EmailAuthService {
         msgg += "CODE : <strong>";
         msgg += authcode + "</strong><div><br/> ";
         msgg += "</div>";
-        message.setText(msgg, "utf-8", "html"); //내용
-        message.setFrom(new InternetAddress("!!!!!!!!!!application-email.properties의 email address와 일치시키기!!!!!!!")); //보내는 사람
-        return message;
+        return msgg;
     }
 
-    //인증 코드 발급
+    //인증 코드 발급 (요청마다 새로 생성)
     public static String createKey() {
-        StringBuffer key = new StringBuffer();
-        Random rnd = new Random();
-
-        for (int i = 0; i < 8; i++) { // 인증코드 8자리
-            int index = rnd.nextInt(3); // 0~2 까지 랜덤
-
-            switch (index) {
-                case 0:
-                    key.append((char) ((int) (rnd.nextInt(26)) + 97));
-                    //  a~z  (ex. 1+97=98 => (char)98 = 'b')
-                    break;
-                case 1:
-                    key.append((char) ((int) (rnd.nextInt(26)) + 65));
-                    //  A~Z
-                    break;
-                case 2:
-                    key.append((rnd.nextInt(10)));
-                    // 0~9
-                    break;
-            }
+        StringBuilder key = new StringBuilder(CODE_LENGTH);
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            key.append(CODE_CHARACTERS.charAt(RANDOM.nextInt(CODE_CHARACTERS.length())));
         }
         return key.toString();
     }
 
     //인증코드 이메일 전송
-    public String sendSimpleMessage(String to) throws MessagingException {
-        MimeMessage message = createMessage(to);
-        try {
-            javaMailSender.send(message);
-            redisService.setValues(to, authcode, Duration.ofMillis(600000));
-        } catch (MailException es) {
-            es.printStackTrace();
-            throw new IllegalArgumentException();
-        }
+    //코드는 redis에 저장하고, 메일은 발송 대기열에 넣은 뒤 바로 반환 (실제 발송은 EmailOutbox 워커)
+    public String sendSimpleMessage(String to) {
+        String authcode = createKey();
+        redisService.setValues(to, authcode, CODE_VALID_TIME);
+        emailOutbox.enqueue(new OutgoingEmail(to, "Booknuts 회원가입 이메일 인증", createContent(authcode)));
         return authcode;
     }
 
     //redis 코드와 비교
     public Boolean confirmEmailCode(String email, String code) {
         String redisCode = redisService.getValues(email);
-        return redisCode.equals(code);
+        return redisCode != null && redisCode.equals(code);
     }
 
 }
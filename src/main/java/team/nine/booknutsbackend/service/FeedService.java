@@ -0,0 +1,76 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.Feed;
+import team.nine.booknutsbackend.domain.Follow;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
+import team.nine.booknutsbackend.repository.BoardRepository;
+import team.nine.booknutsbackend.repository.FeedRepository;
+import team.nine.booknutsbackend.repository.FollowRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class FeedService {
+
+    private final FeedRepository feedRepository;
+    private final FollowRepository followRepository;
+    private final BoardRepository boardRepository;
+
+    //구독 피드 조회 (최신순)
+    @Transactional(readOnly = true)
+    public List<Board> getFeed(User owner, CursorRequest cursorRequest) {
+        return feedRepository.findBoardsByOwner(owner, cursorRequest.getCursor(), cursorRequest.getPageable());
+    }
+
+    //게시글 작성 시, 작성자의 모든 팔로워 피드에 추가
+    @Transactional
+    public void pushPost(Board board) {
+        List<Follow> followerList = followRepository.findByFollowing(board.getUser());
+        List<Feed> feeds = new ArrayList<>();
+
+        for (Follow follow : followerList) {
+            feeds.add(new Feed(follow.getFollower(), board));
+        }
+
+        feedRepository.saveAll(feeds);
+    }
+
+    //팔로우 시, 팔로잉 유저의 최근 게시글(50개)을 피드에 추가
+    @Transactional
+    public void backfill(User follower, User following) {
+        List<Board> boards = boardRepository.findTop50ByUserOrderByBoardIdDesc(following);
+        List<Feed> feeds = new ArrayList<>();
+
+        for (Board board : boards) {
+            feeds.add(new Feed(follower, board));
+        }
+
+        feedRepository.saveAll(feeds);
+    }
+
+    //언팔로우 시, 언팔로잉 유저의 게시글을 피드에서 삭제
+    @Transactional
+    public void removeFollowing(User follower, User unfollowing) {
+        feedRepository.deleteAllByOwnerAndWriter(follower, unfollowing);
+    }
+
+    //게시글 삭제 시, 모든 피드에서 삭제
+    @Transactional
+    public void deletePost(Board board) {
+        feedRepository.deleteAllByBoard(board);
+    }
+
+    //회원 탈퇴 시, 피드 삭제
+    @Transactional
+    public void deleteAllFeed(User user) {
+        feedRepository.deleteAllByOwner(user);
+    }
+
+}
@@ -1,6 +1,7 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import team.nine.booknutsbackend.domain.Follow;
@@ -26,6 +27,8 @@ public class FollowService {
 
     private final UserRepository userRepository;
 
+    private final FeedService feedService;
+
     //팔로우
     @Transactional
     public void follow(Long followingUserId, Long followerUserId) {
@@ -41,7 +44,13 @@ public class FollowService {
         follow.setFollowing(followingUser);
         follow.setFollower(followerUser);
 
-        followRepository.save(follow);
+        //동시 요청으로 중복 팔로우가 들어오면 unique 제약에서 걸러짐
+        try {
+            followRepository.saveAndFlush(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyFollowingException();
+        }
+        feedService.backfill(followerUser, followingUser);
     }
 
     //언팔로우
@@ -50,6 +59,7 @@ public class FollowService {
         Follow follow = followRepository.findByFollowingUserIdAndFollowerUserId(unfollowingUserId, followerUserId)
                 .orElseThrow(NotFollowingException::new);
         followRepository.delete(follow);
+        feedService.removeFollowing(follow.getFollower(), follow.getFollowing());
     }
 
     //나의 팔로잉 리스트
@@ -0,0 +1,216 @@
+package team.nine.booknutsbackend.service;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.domain.debate.DebateRoom;
+import team.nine.booknutsbackend.domain.series.Series;
+import team.nine.booknutsbackend.repository.DebateRoomRepository;
+import team.nine.booknutsbackend.repository.SeriesRepository;
+import team.nine.booknutsbackend.repository.UserRepository;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+//업로드된 원본 이미지로 목록용 썸네일(최대 320px, JPEG) 생성
+//트랜잭션 커밋 후 워커 스레드에서 S3의 원본을 읽어 생성, 완료되면 엔티티에 썸네일 주소 저장
+//대기열이 가득 차면 썸네일 없이 원본 이미지를 그대로 사용
+//원본은 헤더의 가로, 세로로 먼저 크기를 확인하고 (maxPixels 초과 시 거부), 썸네일에 필요한 만큼만 건너뛰며 디코딩
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final int THUMBNAIL_SIZE = 320;
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+    private static final String THUMBNAIL_PREFIX = "thumb-";
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    private final AmazonS3 amazonS3;
+    private final DebateRoomRepository debateRoomRepository;
+    private final SeriesRepository seriesRepository;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+
+    public ImageVariantService(AmazonS3 amazonS3, DebateRoomRepository debateRoomRepository,
+                               SeriesRepository seriesRepository, UserRepository userRepository,
+                               @Value("${image.variant.workers:2}") int workers,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity,
+                               @Value("${image.variant.max-pixels:50000000}") long maxPixels) {
+        this.amazonS3 = amazonS3;
+        this.debateRoomRepository = debateRoomRepository;
+        this.seriesRepository = seriesRepository;
+        this.userRepository = userRepository;
+        this.maxPixels = maxPixels;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> log.warn("썸네일 생성 대기열 초과, 원본 이미지 사용"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    //토론장 커버 썸네일
+    public void createDebateCoverThumbnail(DebateRoom room) {
+        Long roomId = room.getDebateRoomId();
+        String imgUrl = room.getCoverImgUrl();
+        submit(imgUrl, thumbnailUrl -> debateRoomRepository.updateCoverThumbnailUrl(roomId, imgUrl, thumbnailUrl));
+    }
+
+    //시리즈 썸네일
+    public void createSeriesThumbnail(Series series) {
+        Long seriesId = series.getSeriesId();
+        String imgUrl = series.getImgUrl();
+        submit(imgUrl, thumbnailUrl -> seriesRepository.updateThumbnailUrl(seriesId, imgUrl, thumbnailUrl));
+    }
+
+    //프로필 썸네일
+    public void createProfileThumbnail(User user) {
+        Long userId = user.getUserId();
+        String imgUrl = user.getProfileImgUrl();
+        submit(imgUrl, thumbnailUrl -> userRepository.updateProfileThumbnailUrl(userId, imgUrl, thumbnailUrl));
+    }
+
+    //트랜잭션 안에서 호출되면 커밋 후 생성 (커밋 전에 썸네일 주소를 저장하지 않도록)
+    private void submit(String imgUrl, Consumer<String> recorder) {
+        if (imgUrl == null || imgUrl.isEmpty()) return;
+
+        Runnable task = () -> {
+            try {
+                recorder.accept(createThumbnail(imgUrl));
+            } catch (IOException | AmazonClientException | IllegalArgumentException e) {
+                log.warn("썸네일 생성 실패 imgUrl = " + imgUrl, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    executor.execute(task);
+                }
+            });
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    //원본 다운로드 -> 축소 -> JPEG 압축 -> 업로드, 썸네일 주소 반환
+    String createThumbnail(String imgUrl) throws IOException {
+        String key = imgUrl.substring(imgUrl.lastIndexOf('/') + 1);
+
+        BufferedImage original;
+        try (S3Object object = amazonS3.getObject(bucketName, key); InputStream inputStream = object.getObjectContent();
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            original = read(imageInputStream);
+        }
+
+        byte[] thumbnail = toJpeg(resize(original));
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(thumbnail.length);
+        metadata.setContentType("image/jpeg");
+
+        String thumbnailKey = THUMBNAIL_PREFIX + key;
+        amazonS3.putObject(new PutObjectRequest(bucketName, thumbnailKey, new ByteArrayInputStream(thumbnail), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return amazonS3.getUrl(bucketName, thumbnailKey).toString();
+    }
+
+    //전체를 디코딩하기 전에 가로, 세로 확인 (압축 폭탄 방지)
+    //긴 변이 썸네일의 2배 이상 남도록 행, 열을 건너뛰며 읽음 (축소 품질 유지, 메모리는 원본 대신 축소본 크기)
+    private BufferedImage read(ImageInputStream input) throws IOException {
+        Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+        if (readers == null || !readers.hasNext()) throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) throw new IllegalArgumentException("이미지가 너무 큽니다. (" + width + "x" + height + ")");
+
+            int period = Math.max(1, Math.max(width, height) / (THUMBNAIL_SIZE * 2));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(period, period, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    //긴 변이 THUMBNAIL_SIZE가 되도록 축소 (작은 이미지는 그대로), 투명 배경은 흰색으로
+    private static BufferedImage resize(BufferedImage original) {
+        double scale = Math.min(1.0, (double) THUMBNAIL_SIZE / Math.max(original.getWidth(), original.getHeight()));
+        int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(THUMBNAIL_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+}
@@ -12,7 +12,6 @@ import team.nine.booknutsbackend.repository.BoardRepository;
 import team.nine.booknutsbackend.repository.HeartRepository;
 import team.nine.booknutsbackend.repository.NutsRepository;
 
-import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -28,11 +27,11 @@ public class ReactionService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFoundException::new);
 
-        List<Long> nutsList = user.getNutsList().stream().map(Nuts::getNutsId).toList();
         Optional<Nuts> targetNuts = nutsRepository.findByBoard_BoardIdAndUser_UserId(board.getBoardId(), user.getUserId());
 
-        if (targetNuts.isPresent() && nutsList.contains(targetNuts.get().getNutsId())) {
+        if (targetNuts.isPresent()) {
             nutsRepository.delete(targetNuts.get());
+            boardRepository.updateNutsCnt(board.getBoardId(), -1);
             return "넛츠 취소";
         }
 
@@ -40,6 +39,7 @@ public class ReactionService {
         nuts.setBoard(board);
         nuts.setUser(user);
         nutsRepository.save(nuts);
+        boardRepository.updateNutsCnt(board.getBoardId(), 1);
         return "넛츠 누름";
     }
 
@@ -48,11 +48,11 @@ public class ReactionService {
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFoundException::new);
 
-        List<Long> hearts = user.getHearts().stream().map(Heart::getHeartId).toList();
         Optional<Heart> targetHeart = heartRepository.findByBoard_BoardIdAndUser_UserId(board.getBoardId(), user.getUserId());
 
-        if (targetHeart.isPresent() && hearts.contains(targetHeart.get().getHeartId())) {
+        if (targetHeart.isPresent()) {
             heartRepository.delete(targetHeart.get());
+            boardRepository.updateHeartCnt(board.getBoardId(), -1);
             return "좋아요 취소";
         }
 
@@ -60,12 +60,15 @@ public class ReactionService {
         heart.setBoard(board);
         heart.setUser(user);
         heartRepository.save(heart);
+        boardRepository.updateHeartCnt(board.getBoardId(), 1);
         return "좋아요 누름";
     }
 
     //회원 탈퇴 시, 모든 넛츠/좋아요 삭제
     @Transactional
     public void deleteAllReaction(User user) {
+        boardRepository.decreaseNutsCntByUser(user);
+        boardRepository.decreaseHeartCntByUser(user);
         nutsRepository.deleteAllByUser(user);
         heartRepository.deleteAllByUser(user);
     }
@@ -2,15 +2,35 @@ package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
+    //값 조회와 삭제를 한 번에 (같은 키를 동시에 가져가도 한 명만 값을 받음)
+    private static final RedisScript<String> GET_AND_DELETE = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if value then redis.call('DEL', KEYS[1]) end " +
+            "return value",
+            String.class);
+
+    //값이 기대한 값일 때만 삭제 (다른 곳에서 다시 설정한 값은 지우지 않음)
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void setValues(String key, String data) {
@@ -23,13 +43,50 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    //키가 없을 때만 저장, 저장했으면 true
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        ValueOperations<String, String> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
     public String getValues(String key) {
         ValueOperations<String, String> values = redisTemplate.opsForValue();
         return values.get(key);
     }
 
+    public String getAndDeleteValues(String key) {
+        return redisTemplate.execute(GET_AND_DELETE, List.of(key));
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
 
+    public boolean deleteValuesIfEquals(String key, String data) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS, List.of(key), data);
+        return deleted != null && deleted > 0;
+    }
+
+    public void deleteValues(Collection<String> keys) {
+        if (!keys.isEmpty()) redisTemplate.delete(keys);
+    }
+
+    //set에 값 추가, set의 만료 시간은 duration으로 연장
+    public void addSetValues(String key, String data, Duration duration) {
+        SetOperations<String, String> values = redisTemplate.opsForSet();
+        values.add(key, data);
+        redisTemplate.expire(key, duration);
+    }
+
+    public Set<String> getSetValues(String key) {
+        SetOperations<String, String> values = redisTemplate.opsForSet();
+        Set<String> members = values.members(key);
+        return members == null ? Collections.emptySet() : members;
+    }
+
+    public void removeSetValues(String key, String data) {
+        SetOperations<String, String> values = redisTemplate.opsForSet();
+        values.remove(key, data);
+    }
+
 }
@@ -0,0 +1,60 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import team.nine.booknutsbackend.config.JwtTokenProvider;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.exception.user.InvalidTokenException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+//refresh token 저장소 (Redis)
+//refresh:{토큰 digest} -> userId, refresh:user:{userId} -> 해당 유저의 토큰 digest 목록 (기기별 로그인)
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final String TOKEN_KEY = "refresh:";
+    private static final String USER_KEY = "refresh:user:";
+
+    private final RedisService redisService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    //refresh token 발급 (토큰 만료 시각까지 보관)
+    public String issue(User user) {
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
+        store(refreshToken, user.getUserId(), Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidTime()));
+        return refreshToken;
+    }
+
+    //재발급에 쓸 토큰을 저장소에서 꺼내고 유저 아이디 반환 (같은 토큰으로 동시에 요청해도 한 번만 성공)
+    //저장소에 없는 토큰 = 폐기되었거나 발급되지 않았거나 이미 사용한 토큰
+    public Long claim(String refreshToken) {
+        String digest = JwtTokenProvider.digest(refreshToken);
+        String userId = redisService.getAndDeleteValues(TOKEN_KEY + digest);
+        if (userId == null) throw new InvalidTokenException();
+
+        redisService.removeSetValues(USER_KEY + userId, digest);
+        return Long.valueOf(userId);
+    }
+
+    //이미 발급된 토큰을 남은 유효 시간 동안 보관 (user 테이블에 저장되어 있던 토큰 이전)
+    public void store(String refreshToken, Long userId, Duration validTime) {
+        String digest = JwtTokenProvider.digest(refreshToken);
+        redisService.setValues(TOKEN_KEY + digest, String.valueOf(userId), validTime);
+        redisService.addSetValues(USER_KEY + userId, digest, validTime);
+    }
+
+    //유저의 모든 기기 토큰 폐기
+    public void revokeAll(Long userId) {
+        Set<String> digests = redisService.getSetValues(USER_KEY + userId);
+        List<String> keys = new ArrayList<>();
+        for (String digest : digests) keys.add(TOKEN_KEY + digest);
+        keys.add(USER_KEY + userId);
+        redisService.deleteValues(keys);
+    }
+
+}
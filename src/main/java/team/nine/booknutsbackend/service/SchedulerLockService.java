@@ -0,0 +1,37 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+//모든 서버에서 실행되는 스케쥴러 작업을 한 번에 한 서버에서만 실행 (Redis 잠금)
+//잠금은 lease가 지나면 자동으로 풀림 (실행 중 서버가 종료되어도 다음 실행은 가능), 작업이 끝나면 자신이 잡은 잠금만 해제
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private static final String LOCK_KEY = "scheduler:lock:";
+
+    private final RedisService redisService;
+
+    //잠금을 잡으면 작업 실행 후 true, 다른 서버가 실행 중이면 실행하지 않고 false
+    public boolean runExclusively(String name, Duration lease, Runnable task) {
+        String owner = UUID.randomUUID().toString();
+        if (!redisService.setValuesIfAbsent(LOCK_KEY + name, owner, lease)) {
+            log.info(name + " 다른 서버에서 실행 중, 건너뜀");
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            redisService.deleteValuesIfEquals(LOCK_KEY + name, owner);
+        }
+    }
+
+}
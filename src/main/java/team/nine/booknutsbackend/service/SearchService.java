@@ -1,58 +1,93 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.debate.DebateRoom;
 import team.nine.booknutsbackend.dto.response.BoardResponse;
 import team.nine.booknutsbackend.dto.response.DebateRoomResponse;
-import team.nine.booknutsbackend.dto.response.UserProfileResponse;
+import team.nine.booknutsbackend.dto.response.UserSearchResponse;
 import team.nine.booknutsbackend.repository.BoardRepository;
 import team.nine.booknutsbackend.repository.DebateRoomRepository;
-import team.nine.booknutsbackend.repository.UserRepository;
+import team.nine.booknutsbackend.repository.FollowRepository;
+import team.nine.booknutsbackend.search.NicknameEntry;
+import team.nine.booknutsbackend.search.SearchIndex;
+import team.nine.booknutsbackend.search.SearchIndexBus;
+import team.nine.booknutsbackend.search.SearchIndexEvent;
 
 import javax.transaction.Transactional;
-import java.util.ArrayList;
-import java.util.List;
-
-import static team.nine.booknutsbackend.service.SearchSpecs.*;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class SearchService {
 
+    private static final int SEARCH_LIMIT = 50; //검색 결과 최대 개수
+
     private final BoardRepository boardRepository;
     private final DebateRoomRepository debateRoomRepository;
-    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final ViewerContextService viewerContextService;
+    private final SearchIndex searchIndex;
+    private final SearchIndexBus searchIndexBus;
+
+    //전체 다시 색인
+    public void loadIndex() {
+        searchIndex.load();
+    }
 
-    @Transactional
-    public List<BoardResponse> searchBoard(String keyword, User user) {
-        Specification<Board> spec = Specification
-                .where(likeTitle(keyword))
-                .or(likeContent(keyword))
-                .or(likeBookTitle(keyword))
-                .or(likeBookAuthor(keyword));
+    //게시글 작성, 수정 시 색인
+    public void indexBoard(Board board) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.BOARD, board.getBoardId()));
+    }
 
-        List<Board> boards = boardRepository.findAll(spec);
-        List<BoardResponse> boardDtoList = new ArrayList<>();
+    //게시글 삭제 시 색인에서 제거
+    public void removeBoard(Long boardId) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.BOARD, boardId));
+    }
 
-        for (Board board : boards) {
-            boardDtoList.add(BoardResponse.boardResponse(board, user));
-        }
+    //회원가입, 프로필 이미지 수정 시 색인
+    public void indexUser(User user) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.USER, user.getUserId()));
+    }
+
+    //회원 탈퇴 시 색인에서 제거
+    public void removeUser(Long userId) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.USER, userId));
+    }
+
+    //토론장 개설 시 색인
+    public void indexRoom(DebateRoom room) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.ROOM, room.getDebateRoomId()));
+    }
 
-        return boardDtoList;
+    //토론장 보관 시 색인에서 제거
+    public void removeRoom(Long roomId) {
+        publishAfterCommit(SearchIndexEvent.of(SearchIndexEvent.Target.ROOM, roomId));
+    }
+
+    @Transactional
+    public List<BoardResponse> searchBoard(String keyword, User user) {
+        List<Long> boardIds = searchIndex.searchBoards(keyword, SEARCH_LIMIT);
+        if (boardIds.isEmpty()) return Collections.emptyList();
+
+        List<Board> boards = sortByIds(boardIds, boardRepository.findByBoardIdIn(boardIds), Board::getBoardId);
+        return viewerContextService.boardResponseList(boards, user);
     }
 
     @Transactional
     public List<DebateRoomResponse> searchRoom(String keyword) {
-        Specification<DebateRoom> spec = Specification
-                .where(likeTopic(keyword))
-                .or(likeBookTitle(keyword))
-                .or(likeBookAuthor(keyword));
+        List<Long> roomIds = searchIndex.searchRooms(keyword, SEARCH_LIMIT);
+        if (roomIds.isEmpty()) return Collections.emptyList();
 
-        List<DebateRoom> rooms = debateRoomRepository.findAll(spec);
+        List<DebateRoom> rooms = sortByIds(roomIds, debateRoomRepository.findAllById(roomIds), DebateRoom::getDebateRoomId);
         List<DebateRoomResponse> roomDtoList = new ArrayList<>();
 
         for (DebateRoom room : rooms) {
@@ -62,16 +97,54 @@ public class SearchService {
         return roomDtoList;
     }
 
+    //닉네임 접두어/중간 일치 (팔로우 여부는 결과 유저에 대해서만 한 번 조회)
     @Transactional
-    public List<UserProfileResponse> searchUser(String keyword, User curUser) {
-        List<User> users = userRepository.findAllByNicknameContaining(keyword);
-        List<UserProfileResponse> userProfileDto = new ArrayList<>();
+    public List<UserSearchResponse> searchUser(String keyword, User curUser) {
+        List<NicknameEntry> entries = searchIndex.searchNicknames(keyword, SEARCH_LIMIT);
+        if (entries.isEmpty()) return Collections.emptyList();
+
+        List<Long> userIds = entries.stream().map(NicknameEntry::getUserId).toList();
+        Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIdsByFollowerAndFollowingIdIn(curUser, userIds));
+        List<UserSearchResponse> userSearchDto = new ArrayList<>();
 
-        for (User targetUser : users) {
-            userProfileDto.add(UserProfileResponse.userProfileResponse(curUser, targetUser));
+        for (NicknameEntry entry : entries) {
+            userSearchDto.add(UserSearchResponse.userSearchResponse(entry, curUser.getUserId(), followingIds.contains(entry.getUserId())));
         }
 
-        return userProfileDto;
+        return userSearchDto;
+    }
+
+    //커밋된 내용을 다시 읽어 반영하도록 커밋 후 발행 (실패해도 요청은 성공 처리)
+    private void publishAfterCommit(SearchIndexEvent event) {
+        Runnable task = () -> {
+            try {
+                searchIndexBus.publish(event);
+            } catch (RuntimeException e) {
+                log.warn("검색 색인 반영 실패 " + event.getTarget() + " id = " + event.getId(), e);
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    //색인의 관련도 순서대로 정렬 (삭제되어 DB에 없는 아이디는 제외)
+    private static <T> List<T> sortByIds(List<Long> ids, List<T> entities, Function<T, Long> idGetter) {
+        Map<Long, T> entityMap = entities.stream().collect(Collectors.toMap(idGetter, Function.identity()));
+        List<T> sorted = new ArrayList<>(entities.size());
+        for (Long id : ids) {
+            T entity = entityMap.get(id);
+            if (entity != null) sorted.add(entity);
+        }
+        return sorted;
     }
 
 }
@@ -3,13 +3,13 @@ package team.nine.booknutsbackend.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 import team.nine.booknutsbackend.domain.Board;
 import team.nine.booknutsbackend.domain.User;
 import team.nine.booknutsbackend.domain.series.Series;
 import team.nine.booknutsbackend.domain.series.SeriesBoard;
+import team.nine.booknutsbackend.dto.request.CursorRequest;
 import team.nine.booknutsbackend.dto.request.SeriesRequest;
-import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.dto.response.BoardListResponse;
 import team.nine.booknutsbackend.dto.response.SeriesResponse;
 import team.nine.booknutsbackend.exception.board.BoardNotFoundException;
 import team.nine.booknutsbackend.exception.series.SeriesDuplicateException;
@@ -20,8 +20,8 @@ import team.nine.booknutsbackend.repository.SeriesBoardRepository;
 import team.nine.booknutsbackend.repository.SeriesRepository;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Service
@@ -32,6 +32,8 @@ public class SeriesService {
     private final BoardRepository boardRepository;
     private final BoardService boardService;
     private final AwsS3Service awsS3Service;
+    private final ImageVariantService imageVariantService;
+    private final ViewerContextService viewerContextService;
 
     //시리즈 조회
     @Transactional(readOnly = true)
@@ -43,25 +45,25 @@ public class SeriesService {
     //특정 유저의 시리즈 목록 조회
     @Transactional(readOnly = true)
     public List<SeriesResponse> getSeriesList(User owner) {
-        List<Series> seriesList = seriesRepository.findAllByOwner(owner);
+        List<Series> seriesList = seriesRepository.findDistinctByOwnerOrderBySeriesIdDesc(owner); //최신순
         List<SeriesResponse> seriesResponseList = new ArrayList<>();
 
         for (Series series : seriesList) {
             seriesResponseList.add(SeriesResponse.seriesResponse(series));
         }
 
-        Collections.reverse(seriesResponseList); //최신순
         return seriesResponseList;
     }
 
-    //시리즈 발행
+    //시리즈 발행 (이미지는 컨트롤러에서 트랜잭션 밖에서 업로드)
     @Transactional
-    public Series createSeries(MultipartFile file, Series series, List<Long> boardIdList) {
-        series.setImgUrl(awsS3Service.uploadImg(file, "series-"));
+    public Series createSeries(String imgUrl, Series series, List<Long> boardIdList) {
+        series.setImgUrl(imgUrl);
         seriesRepository.save(series);
+        imageVariantService.createSeriesThumbnail(series);
 
         for (Long boardId : boardIdList) {
-            if (boardService.getPost(boardId).getUser() != series.getOwner()) continue;
+            if (!Objects.equals(boardService.getPost(boardId).getUser().getUserId(), series.getOwner().getUserId())) continue;
             SeriesBoard seriesBoard = new SeriesBoard();
             seriesBoard.setSeries(series);
             seriesBoard.setBoard(boardService.getPost(boardId));
@@ -73,37 +75,31 @@ public class SeriesService {
 
     //특정 시리즈 내의 게시글 조회
     @Transactional(readOnly = true)
-    public List<BoardResponse> getSeriesBoards(Long seriesId, User user) {
+    public BoardListResponse getSeriesBoards(Long seriesId, User user, CursorRequest cursorRequest) {
         Series series = getSeries(seriesId);
-        List<SeriesBoard> seriesBoards = seriesBoardRepository.findBySeries(series);
-        List<BoardResponse> boardList = new ArrayList<>();
-
-        for (SeriesBoard seriesBoard : seriesBoards) {
-            boardList.add(BoardResponse.boardResponse(seriesBoard.getBoard(), user));
-        }
-
-        Collections.reverse(boardList); //최신순
-        return boardList;
+        List<Board> boards = seriesBoardRepository.findBoardsBySeries(series, cursorRequest.getCursor(), cursorRequest.getPageable());
+        return BoardListResponse.boardListResponse(viewerContextService.boardResponseList(boards, user), cursorRequest.getPageSize());
     }
 
     //시리즈 삭제
     @Transactional
     public void deleteSeries(Long seriesId, User user) {
         Series series = getSeries(seriesId);
-        if (series.getOwner() != user) throw new NoAuthException();
+        if (!Objects.equals(series.getOwner().getUserId(), user.getUserId())) throw new NoAuthException();
 
         List<SeriesBoard> seriesBoards = seriesBoardRepository.findBySeries(series);
         seriesBoardRepository.deleteAll(seriesBoards);
         seriesRepository.delete(series);
 
         awsS3Service.deleteImg(series.getImgUrl());  //기존 이미지 버킷에서 삭제
+        awsS3Service.deleteImg(series.getThumbnailUrl());
     }
 
     //시리즈에 게시글 추가
     @Transactional
     public void addPostToSeries(Long seriesId, Long boardId, User user) {
         Series series = getSeries(seriesId);
-        if (series.getOwner() != user) throw new NoAuthException();
+        if (!Objects.equals(series.getOwner().getUserId(), user.getUserId())) throw new NoAuthException();
 
         Board board = boardRepository.findById(boardId)
                 .orElseThrow(BoardNotFoundException::new);
@@ -123,7 +119,7 @@ public class SeriesService {
     @Transactional
     public Series updateSeries(Long seriesId, SeriesRequest seriesRequest, User user) {
         Series series = getSeries(seriesId);
-        if (series.getOwner() != user) throw new NoAuthException();
+        if (!Objects.equals(series.getOwner().getUserId(), user.getUserId())) throw new NoAuthException();
 
         if (seriesRequest.getTitle() != null) series.setTitle(seriesRequest.getTitle());
         if (seriesRequest.getContent() != null) series.setContent(seriesRequest.getContent());
@@ -139,6 +135,7 @@ public class SeriesService {
             List<SeriesBoard> seriesBoards = seriesBoardRepository.findBySeries(series);
             seriesBoardRepository.deleteAll(seriesBoards);
             awsS3Service.deleteImg(series.getImgUrl());  //기존 이미지 버킷에서 삭제
+            awsS3Service.deleteImg(series.getThumbnailUrl());
         }
         seriesRepository.deleteAll(seriesList);
     }
@@ -1,17 +1,19 @@
 package team.nine.booknutsbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import team.nine.booknutsbackend.config.AuthUser;
 import team.nine.booknutsbackend.config.JwtTokenProvider;
 import team.nine.booknutsbackend.domain.User;
-import team.nine.booknutsbackend.exception.user.InvalidTokenException;
 import team.nine.booknutsbackend.exception.user.PasswordErrorException;
 import team.nine.booknutsbackend.exception.user.UserNotFoundException;
 import team.nine.booknutsbackend.repository.UserRepository;
 
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,6 +26,9 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AwsS3Service awsS3Service;
+    private final SearchService searchService;
+    private final RefreshTokenService refreshTokenService;
+    private final ImageVariantService imageVariantService;
 
     //Todo: UserService와 AuthService 분리 + 이미지 등록 Image(File)Service 분리
     //회원가입
@@ -31,17 +36,18 @@ public class UserService {
     public User join(MultipartFile file, User user) {
 //        user.setProfileImgUrl(awsS3Service.uploadImg(file, user.getNickname() + "-"));
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        User newUser = userRepository.save(user);
+        searchService.indexUser(newUser); //닉네임 검색 색인
+        return newUser;
     }
 
-    //로그인
-    @Transactional
+    //로그인 (refresh token은 RefreshTokenService에서 발급, 유저 정보 수정 X)
+    @Transactional(readOnly = true)
     public User login(String id, String password) {
         User user = findUserByEmail(id);
         if (!passwordEncoder.matches(password, user.getPassword())) throw new PasswordErrorException();
 
-        user.setRefreshToken(jwtTokenProvider.createRefreshToken(user.getEmail()));
-        return userRepository.save(user);
+        return user;
     }
 
     //ID로 유저 정보 조회
@@ -60,6 +66,15 @@ public class UserService {
         return customUserDetailService.loadUserByUsername(id);
     }
 
+    //인증된 현재 유저
+    //토큰으로 인증된 경우 userId로 프록시만 만들고, 엔티티 필드에 접근할 때 조회 (아이디만 쓰는 요청은 DB 조회 없음)
+    @Transactional(readOnly = true)
+    public User findCurrentUser(Principal principal) {
+        if (principal instanceof Authentication authentication && authentication.getPrincipal() instanceof AuthUser authUser)
+            return userRepository.getById(authUser.getUserId());
+        return findUserByEmail(principal.getName());
+    }
+
     //유저 닉네임 중복 체크
     @Transactional(readOnly = true)
     public boolean checkNicknameDuplication(String nickname) {
@@ -73,19 +88,12 @@ public class UserService {
     }
 
     //토큰 재발급
-    @Transactional
+    //저장소에 없는 refresh token(폐기, 재사용)이면 예외, 사용한 refresh token은 폐기하고 새로 발급 (rotation)
+    @Transactional(readOnly = true)
     public Object tokenReIssue(String refreshToken) {
-        User user = userRepository.findByRefreshToken(refreshToken) //db에 해당 refresh token이 존재하지 않는 경우
-                .orElseThrow(InvalidTokenException::new);
-        String accessToken = jwtTokenProvider.createAccessToken(user.getUsername());
-
-        //refresh token 만료 기간 체크 -> 2일 이하로 남은 경우 재발급
-        long validTime = jwtTokenProvider.getValidTime(refreshToken);
-        if (validTime <= 172800000) {
-            refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail());
-            user.setRefreshToken(refreshToken);
-            userRepository.save(user);
-        }
+        User user = findUserById(refreshTokenService.claim(refreshToken));  //기존 토큰은 꺼내는 순간 폐기
+        String accessToken = jwtTokenProvider.createAccessToken(user);
+        refreshToken = refreshTokenService.issue(user);
 
         Map<String, String> map = new HashMap<>();
         map.put("accessToken", accessToken);
@@ -94,12 +102,17 @@ public class UserService {
         return map;
     }
 
-    //프로필 이미지 업데이트
+    //프로필 이미지 업데이트 (새 이미지는 컨트롤러에서 트랜잭션 밖에서 업로드)
     @Transactional
-    public User updateProfileImg(MultipartFile file, User user) {
+    public User updateProfileImg(String profileImgUrl, User user) {
         awsS3Service.deleteImg(user.getProfileImgUrl());  //기존 이미지 버킷에서 삭제
-        user.setProfileImgUrl(awsS3Service.uploadImg(file, "profile-"));
-        return userRepository.save(user);
+        awsS3Service.deleteImg(user.getProfileThumbnailUrl());
+        user.setProfileImgUrl(profileImgUrl);
+        user.setProfileThumbnailUrl(null);
+        User updateUser = userRepository.save(user);
+        imageVariantService.createProfileThumbnail(updateUser);
+        searchService.indexUser(updateUser);
+        return updateUser;
     }
 
     //비밀번호 재설정
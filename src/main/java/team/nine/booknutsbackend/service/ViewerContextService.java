@@ -0,0 +1,61 @@
+package team.nine.booknutsbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import team.nine.booknutsbackend.domain.Board;
+import team.nine.booknutsbackend.domain.User;
+import team.nine.booknutsbackend.dto.ViewerContext;
+import team.nine.booknutsbackend.dto.response.BoardResponse;
+import team.nine.booknutsbackend.repository.ArchiveBoardRepository;
+import team.nine.booknutsbackend.repository.HeartRepository;
+import team.nine.booknutsbackend.repository.NutsRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class ViewerContextService {
+
+    private final NutsRepository nutsRepository;
+    private final HeartRepository heartRepository;
+    private final ArchiveBoardRepository archiveBoardRepository;
+
+    //게시글 목록에 대한 현재 유저의 반응 여부 조회 (반응 종류별로 IN 쿼리 1번)
+    @Transactional(readOnly = true)
+    public ViewerContext getViewerContext(User viewer, List<Board> boards) {
+        List<Long> boardIds = new ArrayList<>();
+        for (Board board : boards) {
+            boardIds.add(board.getBoardId());
+        }
+
+        if (boardIds.isEmpty()) return new ViewerContext(viewer.getUserId(), new HashSet<>(), new HashSet<>(), new HashSet<>());
+
+        return new ViewerContext(viewer.getUserId(),
+                new HashSet<>(nutsRepository.findBoardIdsByUserAndBoardIdIn(viewer, boardIds)),
+                new HashSet<>(heartRepository.findBoardIdsByUserAndBoardIdIn(viewer, boardIds)),
+                new HashSet<>(archiveBoardRepository.findBoardIdsByOwnerAndBoardIdIn(viewer, boardIds)));
+    }
+
+    //게시글 목록 응답 생성
+    @Transactional(readOnly = true)
+    public List<BoardResponse> boardResponseList(List<Board> boards, User viewer) {
+        ViewerContext viewerContext = getViewerContext(viewer, boards);
+        List<BoardResponse> boardDtoList = new ArrayList<>();
+
+        for (Board board : boards) {
+            boardDtoList.add(BoardResponse.boardResponse(board, viewerContext));
+        }
+
+        return boardDtoList;
+    }
+
+    //게시글 한 개 응답 생성
+    @Transactional(readOnly = true)
+    public BoardResponse boardResponse(Board board, User viewer) {
+        return BoardResponse.boardResponse(board, getViewerContext(viewer, List.of(board)));
+    }
+
+}
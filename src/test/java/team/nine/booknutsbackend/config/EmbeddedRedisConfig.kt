@@ -0,0 +1,38 @@
+package team.nine.booknutsbackend.config
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Configuration
+import redis.embedded.RedisServer
+import java.io.IOException
+import java.net.Socket
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+//테스트용 내장 Redis (설정된 포트에 이미 Redis가 떠 있으면 그대로 사용)
+@Configuration
+class EmbeddedRedisConfig(
+    @Value("\${spring.redis.port}") private val port: Int,
+) {
+
+    private var redisServer: RedisServer? = null
+
+    @PostConstruct
+    fun start() {
+        if (isRunning()) return
+        redisServer = RedisServer(port).also { it.start() }
+    }
+
+    @PreDestroy
+    fun stop() {
+        redisServer?.stop()
+    }
+
+    private fun isRunning(): Boolean {
+        return try {
+            Socket("localhost", port).use { true }
+        } catch (e: IOException) {
+            false
+        }
+    }
+
+}
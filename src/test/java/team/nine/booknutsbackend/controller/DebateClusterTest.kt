@@ -0,0 +1,180 @@
+package team.nine.booknutsbackend.controller
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.builder.SpringApplicationBuilder
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.web.server.LocalServerPort
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext
+import org.springframework.context.ConfigurableApplicationContext
+import org.springframework.messaging.converter.MappingJackson2MessageConverter
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
+import org.springframework.messaging.simp.SimpMessageType
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler
+import org.springframework.messaging.simp.stomp.StompFrameHandler
+import org.springframework.messaging.simp.stomp.StompHeaders
+import org.springframework.messaging.simp.stomp.StompSession
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter
+import org.springframework.messaging.support.MessageBuilder
+import org.springframework.web.socket.WebSocketHttpHeaders
+import org.springframework.web.socket.client.standard.StandardWebSocketClient
+import org.springframework.web.socket.messaging.WebSocketStompClient
+import team.nine.booknutsbackend.BooknutsBackendApplication
+import team.nine.booknutsbackend.config.JwtTokenProvider
+import team.nine.booknutsbackend.debate.DebateEventBus
+import team.nine.booknutsbackend.debate.DebateRoomRegistry
+import team.nine.booknutsbackend.debate.RedisDebateEventBus
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.dto.request.DebateMessageRequest
+import team.nine.booknutsbackend.repository.DebateMessageRepository
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import team.nine.booknutsbackend.service.DebateService
+import java.lang.reflect.Type
+import java.time.LocalDateTime
+import java.util.concurrent.BlockingQueue
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+//같은 Redis, 같은 DB를 쓰는 두 애플리케이션 컨텍스트(서버 A, B)에서 하나의 토론장을 공유
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DebateClusterTest @Autowired constructor(
+    private val debateService: DebateService,
+    private val debateEventBus: DebateEventBus,
+    private val simpleBrokerMessageHandler: SimpleBrokerMessageHandler,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val userRepository: UserRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    private val debateMessageRepository: DebateMessageRepository,
+) {
+
+    @LocalServerPort
+    private var port: Int = 0
+
+    private var nodeB: ConfigurableApplicationContext? = null
+
+    private val stompClient = WebSocketStompClient(StandardWebSocketClient()).apply {
+        messageConverter = MappingJackson2MessageConverter()
+    }
+
+    @AfterEach
+    fun clean() {
+        stompClient.stop()
+        nodeB?.close()
+        debateMessageRepository.deleteAllInBatch()
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("다른 서버에 연결된 구독자에게도 참여, 채팅, 상태 변경이 전달된다")
+    fun crossNodeEventsTest() {
+        //given
+        assertThat(debateEventBus).isInstanceOf(RedisDebateEventBus::class.java)
+        val nodeB = startNodeB()
+        val portB = (nodeB as ServletWebServerApplicationContext).webServer.port
+
+        val owner = userRepository.save(user("owner"))
+        val viewer = userRepository.save(user("viewer"))
+        val room = debateRoomRepository.save(room(owner))
+        val roomId = room.debateRoomId
+        val otherRoom = debateRoomRepository.save(room(owner))
+
+        val ownerSession = connect(port, owner) //서버 A
+        val viewerSession = connect(portB, viewer) //서버 B
+        val ownerEvents = subscribe(ownerSession, "/topic/debate/$roomId")
+        val viewerEvents = subscribe(viewerSession, "/topic/debate/$roomId")
+        awaitSubscribers(simpleBrokerMessageHandler, "/topic/debate/$roomId")
+        awaitSubscribers(nodeB.getBean(SimpleBrokerMessageHandler::class.java), "/topic/debate/$roomId")
+
+        //when & then
+        debateService.enterRoom(roomId, owner, true) //서버 A에서 참여
+        val enter = viewerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(enter["type"]).isEqualTo("ENTER")
+        assertThat(enter["curYesUser"]).isEqualTo(1)
+        assertThat(ownerEvents.poll(5, TimeUnit.SECONDS)!!["type"]).isEqualTo("ENTER")
+
+        nodeB.getBean(DebateService::class.java).enterRoom(roomId, viewer, false) //서버 B에서 참여
+        val enterB = ownerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(enterB["nickname"]).isEqualTo("viewer")
+        assertThat(enterB["curYesUser"]).isEqualTo(1)
+        assertThat(enterB["curNoUser"]).isEqualTo(1)
+        viewerEvents.poll(5, TimeUnit.SECONDS)!!
+
+        ownerSession.send("/app/debate/$roomId/chat", DebateMessageRequest("hello")) //서버 A로 전송
+        val chat = viewerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(chat["type"]).isEqualTo("CHAT")
+        assertThat(chat["message"]).isEqualTo("hello")
+        assertThat(ownerEvents.poll(5, TimeUnit.SECONDS)!!["type"]).isEqualTo("CHAT")
+
+        nodeB.getBean(DebateService::class.java).changeStatus(roomId, 1, owner) //서버 B에서 상태 변경
+        val status = ownerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(status["type"]).isEqualTo("STATUS")
+        assertThat(status["status"]).isEqualTo(1)
+
+        //구독자에게 한 번씩만 전달, 메세지는 보낸 서버에서 한 번만 저장
+        assertThat(ownerEvents.poll(300, TimeUnit.MILLISECONDS)).isNull()
+        awaitCondition { debateMessageRepository.count() == 1L }
+        Thread.sleep(300)
+        assertThat(debateMessageRepository.count()).isEqualTo(1L)
+
+        //구독자가 없는 서버는 토론장 상태를 만들지 않음
+        debateService.enterRoom(otherRoom.debateRoomId, viewer, true)
+        assertThat(nodeB.getBean(DebateRoomRegistry::class.java).isTracked(otherRoom.debateRoomId)).isFalse
+    }
+
+    //두 번째 서버: 스키마는 서버 A가 만든 것을 그대로 사용
+    private fun startNodeB(): ConfigurableApplicationContext {
+        return SpringApplicationBuilder(BooknutsBackendApplication::class.java)
+            .properties("server.port=0", "spring.jpa.hibernate.ddl-auto=none")
+            .run()
+            .also { nodeB = it }
+    }
+
+    private fun connect(port: Int, user: User): StompSession {
+        val headers = StompHeaders()
+        headers.add("X-AUTH-TOKEN", jwtTokenProvider.createAccessToken(user))
+        return stompClient.connect("ws://localhost:$port/ws/debate", WebSocketHttpHeaders(), headers,
+            object : StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS)
+    }
+
+    private fun subscribe(session: StompSession, destination: String): BlockingQueue<Map<*, *>> {
+        val queue = LinkedBlockingQueue<Map<*, *>>()
+        session.subscribe(destination, object : StompFrameHandler {
+            override fun getPayloadType(headers: StompHeaders): Type = Map::class.java
+            override fun handleFrame(headers: StompHeaders, payload: Any?) {
+                queue.add(payload as Map<*, *>)
+            }
+        })
+        return queue
+    }
+
+    private fun awaitSubscribers(broker: SimpleBrokerMessageHandler, destination: String) {
+        val accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE)
+        accessor.destination = destination
+        val message = MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders)
+        awaitCondition { broker.subscriptionRegistry.findSubscriptions(message).size == 1 }
+    }
+
+    private fun awaitCondition(condition: () -> Boolean) {
+        val deadline = System.currentTimeMillis() + 5000
+        while (!condition()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline)
+            Thread.sleep(20)
+        }
+    }
+
+    private fun user(name: String) =
+        User(null, name, "password", name, name, "$name@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, null, null, null, null, null)
+
+    private fun room(owner: User) =
+        DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, 4, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now())
+
+}
@@ -0,0 +1,92 @@
+package team.nine.booknutsbackend.controller
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.http.MediaType
+import org.springframework.mock.web.MockMultipartFile
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import team.nine.booknutsbackend.config.JwtTokenProvider
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import java.time.LocalDateTime
+
+//토큰으로 인증한 요청의 @CurrentUser는 지연 로딩 프록시 - 인원 update가 영속성 컨텍스트를 비워도 참여, 나가기, 개설이 동작하는지 확인
+@SpringBootTest
+@AutoConfigureMockMvc
+class DebateControllerTest @Autowired constructor(
+    private val mockMvc: MockMvc,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val userRepository: UserRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+) {
+
+    @AfterEach
+    fun clean() {
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("토큰으로 인증한 유저가 토론장에 참여하고 나간다")
+    fun enterAndExitWithToken() {
+        //given
+        val owner = userRepository.save(user("owner"))
+        val viewer = userRepository.save(user("viewer"))
+        val room = debateRoomRepository.save(room(owner))
+        val token = jwtTokenProvider.createAccessToken(viewer)
+
+        //when & then
+        mockMvc.perform(patch("/debate/enter/${room.debateRoomId}").param("opinion", "true").header("X-AUTH-TOKEN", token))
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.curYesUser").value(1))
+        assertThat(debateUserRepository.findByDebateRoom(room).map { it.user.userId }).containsExactly(viewer.userId)
+
+        mockMvc.perform(patch("/debate/exit/${room.debateRoomId}").header("X-AUTH-TOKEN", token))
+            .andExpect(status().isOk)
+            .andExpect(jsonPath("$.result").value("나가기 완료"))
+        assertThat(debateUserRepository.findByDebateRoom(room)).isEmpty()
+        assertThat(debateRoomRepository.findById(room.debateRoomId).get().curYesUser).isZero
+    }
+
+    @Test
+    @DisplayName("토큰으로 인증한 유저가 토론장을 개설하면 개설자로 참여한다")
+    fun createWithToken() {
+        //given
+        val owner = userRepository.save(user("owner"))
+        val token = jwtTokenProvider.createAccessToken(owner)
+        val request = "{\"bookTitle\":\"bookTitle\",\"bookAuthor\":\"bookAuthor\",\"bookImgUrl\":\"bookImgUrl\",\"bookGenre\":\"bookGenre\"," +
+                "\"topic\":\"topic\",\"type\":0,\"maxUser\":4,\"opinion\":false}"
+
+        //when & then
+        mockMvc.perform(
+            multipart("/debate/create")
+                .file(MockMultipartFile("room", "", MediaType.APPLICATION_JSON_VALUE, request.toByteArray()))
+                .header("X-AUTH-TOKEN", token)
+        )
+            .andExpect(status().isCreated)
+            .andExpect(jsonPath("$.curNoUser").value(1))
+            .andExpect(jsonPath("$.owner").value("owner"))
+        assertThat(debateUserRepository.findAll().map { it.user.userId }).containsExactly(owner.userId)
+    }
+
+    private fun user(name: String) =
+        User(null, name, "password", name, name, "$name@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, null, null, null, null, null)
+
+    private fun room(owner: User) =
+        DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, 4, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now())
+
+}
@@ -0,0 +1,181 @@
+package team.nine.booknutsbackend.controller
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.boot.web.server.LocalServerPort
+import org.springframework.messaging.converter.MappingJackson2MessageConverter
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor
+import org.springframework.messaging.simp.SimpMessageType
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler
+import org.springframework.messaging.simp.stomp.StompFrameHandler
+import org.springframework.messaging.simp.stomp.StompHeaders
+import org.springframework.messaging.simp.stomp.StompSession
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter
+import org.springframework.messaging.support.MessageBuilder
+import org.springframework.web.socket.WebSocketHttpHeaders
+import org.springframework.web.socket.client.standard.StandardWebSocketClient
+import org.springframework.web.socket.messaging.WebSocketStompClient
+import team.nine.booknutsbackend.config.JwtTokenProvider
+import team.nine.booknutsbackend.debate.DebateRoomRegistry
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.dto.request.DebateMessageRequest
+import team.nine.booknutsbackend.repository.DebateMessageRepository
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import team.nine.booknutsbackend.service.DebateMessageService
+import team.nine.booknutsbackend.service.DebateService
+import java.lang.reflect.Type
+import java.time.LocalDateTime
+import java.util.concurrent.BlockingQueue
+import java.util.concurrent.LinkedBlockingQueue
+import java.util.concurrent.TimeUnit
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DebateWebSocketTest @Autowired constructor(
+    private val debateService: DebateService,
+    private val debateMessageService: DebateMessageService,
+    private val debateRoomRegistry: DebateRoomRegistry,
+    private val simpleBrokerMessageHandler: SimpleBrokerMessageHandler,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val userRepository: UserRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    private val debateMessageRepository: DebateMessageRepository,
+) {
+
+    @LocalServerPort
+    private var port: Int = 0
+
+    private val stompClient = WebSocketStompClient(StandardWebSocketClient()).apply {
+        messageConverter = MappingJackson2MessageConverter()
+    }
+
+    @AfterEach
+    fun clean() {
+        stompClient.stop()
+        debateMessageRepository.deleteAllInBatch()
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("참여, 채팅, 상태 변경이 구독자에게 전달되고 채팅은 저장된다")
+    fun roomEventsTest() {
+        //given
+        val owner = userRepository.save(user("owner"))
+        val viewer = userRepository.save(user("viewer"))
+        val room = debateRoomRepository.save(room(owner))
+        val roomId = room.debateRoomId
+
+        val ownerSession = connect(owner)
+        val viewerSession = connect(viewer)
+        val ownerEvents = subscribe(ownerSession, "/topic/debate/$roomId")
+        val viewerEvents = subscribe(viewerSession, "/topic/debate/$roomId")
+        val viewerErrors = subscribe(viewerSession, "/user/queue/errors")
+        awaitSubscribers("/topic/debate/$roomId", 2)
+
+        //when & then
+        val snapshot = subscribe(viewerSession, "/app/debate/$roomId").poll(5, TimeUnit.SECONDS)!!
+        assertThat(snapshot["status"]).isEqualTo(0)
+        assertThat(snapshot["participants"] as List<*>).isEmpty()
+
+        debateService.enterRoom(roomId, owner, true)
+        val enter = viewerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(enter["type"]).isEqualTo("ENTER")
+        assertThat(enter["curYesUser"]).isEqualTo(1)
+        assertThat(ownerEvents.poll(5, TimeUnit.SECONDS)!!["type"]).isEqualTo("ENTER")
+
+        ownerSession.send("/app/debate/$roomId/chat", DebateMessageRequest("hello"))
+        val chat = viewerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(chat["type"]).isEqualTo("CHAT")
+        assertThat(chat["message"]).isEqualTo("hello")
+        assertThat(chat["nickname"]).isEqualTo("owner")
+
+        viewerSession.send("/app/debate/$roomId/chat", DebateMessageRequest("not a participant"))
+        assertThat(viewerErrors.poll(5, TimeUnit.SECONDS)!!["error"]).isEqualTo("DebateUserNotFoundException")
+
+        debateService.changeStatus(roomId, 1, owner)
+        val status = viewerEvents.poll(5, TimeUnit.SECONDS)!!
+        assertThat(status["type"]).isEqualTo("STATUS")
+        assertThat(status["status"]).isEqualTo(1)
+        assertThat(status["curYesUser"]).isEqualTo(1)
+
+        awaitCondition { debateMessageRepository.count() == 1L }
+        assertThat(debateMessageService.getMessages(roomId).map { it.message }).containsExactly("hello")
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 나가면 토론장 상태를 메모리에서 제거한다")
+    fun releaseRoomStateTest() {
+        //given
+        val owner = userRepository.save(user("owner"))
+        val room = debateRoomRepository.save(room(owner))
+        val session = connect(owner)
+        subscribe(session, "/topic/debate/${room.debateRoomId}")
+        awaitCondition { debateRoomRegistry.isTracked(room.debateRoomId) }
+
+        //when
+        session.disconnect()
+
+        //then
+        awaitCondition { !debateRoomRegistry.isTracked(room.debateRoomId) }
+    }
+
+    @Test
+    @DisplayName("토큰 없이 연결하면 거부된다")
+    fun connectWithoutTokenTest() {
+        assertThatThrownBy {
+            stompClient.connect("ws://localhost:$port/ws/debate", WebSocketHttpHeaders(), StompHeaders(),
+                object : StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS)
+        }.isNotNull
+    }
+
+    private fun connect(user: User): StompSession {
+        val headers = StompHeaders()
+        headers.add("X-AUTH-TOKEN", jwtTokenProvider.createAccessToken(user))
+        return stompClient.connect("ws://localhost:$port/ws/debate", WebSocketHttpHeaders(), headers,
+            object : StompSessionHandlerAdapter() {}).get(5, TimeUnit.SECONDS)
+    }
+
+    private fun subscribe(session: StompSession, destination: String): BlockingQueue<Map<*, *>> {
+        val queue = LinkedBlockingQueue<Map<*, *>>()
+        session.subscribe(destination, object : StompFrameHandler {
+            override fun getPayloadType(headers: StompHeaders): Type = Map::class.java
+            override fun handleFrame(headers: StompHeaders, payload: Any?) {
+                queue.add(payload as Map<*, *>)
+            }
+        })
+        return queue
+    }
+
+    //SUBSCRIBE 프레임은 비동기로 처리되므로 브로커에 등록될 때까지 대기
+    private fun awaitSubscribers(destination: String, count: Int) {
+        val accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE)
+        accessor.destination = destination
+        val message = MessageBuilder.createMessage(ByteArray(0), accessor.messageHeaders)
+        awaitCondition { simpleBrokerMessageHandler.subscriptionRegistry.findSubscriptions(message).size == count }
+    }
+
+    private fun awaitCondition(condition: () -> Boolean) {
+        val deadline = System.currentTimeMillis() + 5000
+        while (!condition()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline)
+            Thread.sleep(20)
+        }
+    }
+
+    private fun user(name: String) =
+        User(null, name, "password", name, name, "$name@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, null, null, null, null, null)
+
+    private fun room(owner: User) =
+        DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, 4, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now())
+
+}
@@ -0,0 +1,241 @@
+package team.nine.booknutsbackend.controller
+
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.SessionFactory
+import org.hibernate.stat.Statistics
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.http.MediaType
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import team.nine.booknutsbackend.config.JwtTokenProvider
+import team.nine.booknutsbackend.domain.Board
+import team.nine.booknutsbackend.domain.Comment
+import team.nine.booknutsbackend.domain.Feed
+import team.nine.booknutsbackend.domain.Follow
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.archive.Archive
+import team.nine.booknutsbackend.domain.archive.ArchiveBoard
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.domain.reaction.Heart
+import team.nine.booknutsbackend.domain.reaction.Nuts
+import team.nine.booknutsbackend.domain.series.Series
+import team.nine.booknutsbackend.domain.series.SeriesBoard
+import team.nine.booknutsbackend.repository.*
+import team.nine.booknutsbackend.service.SearchService
+import java.time.LocalDateTime
+import javax.persistence.EntityManagerFactory
+
+//엔드포인트별 SQL 실행 수, 엔티티 로딩 수 상한 검사 (N+1 회귀 방지)
+//인증은 토큰의 claim으로 처리되어 유저 조회 쿼리가 필요한 요청에서만 실행됨
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountTest @Autowired constructor(
+    private val mockMvc: MockMvc,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val entityManagerFactory: EntityManagerFactory,
+    private val userRepository: UserRepository,
+    private val boardRepository: BoardRepository,
+    private val followRepository: FollowRepository,
+    private val feedRepository: FeedRepository,
+    private val nutsRepository: NutsRepository,
+    private val heartRepository: HeartRepository,
+    private val commentRepository: CommentRepository,
+    private val archiveRepository: ArchiveRepository,
+    private val archiveBoardRepository: ArchiveBoardRepository,
+    private val seriesRepository: SeriesRepository,
+    private val seriesBoardRepository: SeriesBoardRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val searchService: SearchService,
+) {
+
+    private val writerCount = 50
+    private val boardPerWriter = 40
+    private val parentCommentCount = 200
+    private val pageSize = 20
+
+    private lateinit var statistics: Statistics
+    private lateinit var token: String
+    private lateinit var viewer: User
+    private lateinit var writers: List<User>
+    private lateinit var boards: List<Board>
+    private lateinit var hotBoard: Board
+    private lateinit var archive: Archive
+    private lateinit var series: Series
+    private lateinit var room: DebateRoom
+
+    @BeforeAll
+    fun seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.isStatisticsEnabled = true  //운영 설정에서는 꺼져 있으므로 테스트에서만 켬
+
+        viewer = userRepository.save(user("perfViewer"))
+        writers = userRepository.saveAll((1..writerCount).map { user("perfWriter$it") })
+        token = jwtTokenProvider.createAccessToken(viewer)
+
+        //게시글 2000개 (4개 중 1개는 독립서적)
+        boards = boardRepository.saveAll((0 until writerCount * boardPerWriter).map {
+            val genre = if (it % 4 == 0) "독립서적" else "bookGenre"
+            Board(null, "boardTitle$it", "boardContent", LocalDateTime.now().toString(), "book${it % 20}", "bookContent", "bookAuthor", genre, writers[it % writerCount], null, null, null, null, 0, 0, 0)
+        })
+        hotBoard = boards.last()
+
+        //서로 팔로우, 구독 피드
+        followRepository.saveAll(writers.map { Follow(null, it, viewer) })
+        followRepository.saveAll(writers.map { Follow(null, viewer, it) })
+        feedRepository.saveAll(boards.map { Feed(viewer, it) })
+
+        //넛츠, 좋아요
+        nutsRepository.saveAll(boards.filterIndexed { i, _ -> i % 4 == 0 }.map { Nuts(null, viewer, it) })
+        heartRepository.saveAll(boards.mapIndexed { i, board -> Heart(null, writers[(i + 1) % writerCount], board) })
+
+        //인기 게시글의 댓글 (부모 댓글 200개, 대댓글 400개)
+        val parents = commentRepository.saveAll((1..parentCommentCount).map {
+            Comment(null, "comment$it", LocalDateTime.now().toString(), writers[it % writerCount], null, null, hotBoard)
+        })
+        commentRepository.saveAll(parents.flatMap { parent ->
+            (1..2).map { Comment(null, "reComment$it", LocalDateTime.now().toString(), writers[it % writerCount], parent, null, hotBoard) }
+        })
+
+        //아카이브, 시리즈 (게시글 300개씩)
+        archive = archiveRepository.save(Archive(null, "archiveTitle", "archiveContent", viewer, null, LocalDateTime.now().toString(), null))
+        archiveBoardRepository.saveAll(boards.take(300).map { ArchiveBoard(archive, it, viewer) })
+        series = seriesRepository.save(Series().apply { title = "seriesTitle"; content = "seriesContent"; owner = viewer })
+        seriesBoardRepository.saveAll(boards.take(300).map { board -> SeriesBoard().apply { this.series = this@QueryCountTest.series; this.board = board } })
+
+        //토론장 100개
+        val rooms = debateRoomRepository.saveAll((1..100).map {
+            DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic$it", "coverImgUrl", null, it % 2, 4, 0, 0, it % 3 % 2, writers[it % writerCount], LocalDateTime.now(), LocalDateTime.now())
+        })
+        room = rooms.first()
+        searchService.loadIndex()
+    }
+
+    @AfterAll
+    fun clean() {
+        feedRepository.deleteAllInBatch()
+        nutsRepository.deleteAllInBatch()
+        heartRepository.deleteAllInBatch()
+        commentRepository.deleteAllInBatch(commentRepository.findAll().filter { it.parent != null })
+        commentRepository.deleteAllInBatch()
+        archiveBoardRepository.deleteAllInBatch()
+        archiveRepository.deleteAllInBatch()
+        seriesBoardRepository.deleteAllInBatch()
+        seriesRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        boardRepository.deleteAllInBatch()
+        followRepository.deleteAllInBatch()
+        userRepository.deleteAll(writers + viewer)
+        searchService.loadIndex()
+    }
+
+    @Test
+    @DisplayName("게시글 API 쿼리 수 상한")
+    fun boardController() {
+        for (type in 0..2) {
+            assertQueryCount(get("/board/list/$type").param("size", "$pageSize"), 8, 60)
+        }
+        assertQueryCount(get("/board/post/${writers[0].userId}").param("size", "$pageSize"), 12, 60)
+        assertQueryCount(get("/board/${hotBoard.boardId}"), 12, 10)
+    }
+
+    @Test
+    @DisplayName("댓글 API 쿼리 수 상한")
+    fun commentController() {
+        //부모 댓글 20개 + 대댓글 40개 + 작성자
+        assertQueryCount(get("/comment/${hotBoard.boardId}").param("size", "$pageSize"), 10, 120)
+        assertQueryCount(
+            post("/comment/${boards[0].boardId}/write").contentType(MediaType.APPLICATION_JSON).content("{\"content\":\"comment\"}"),
+            12, 10
+        )
+    }
+
+    @Test
+    @DisplayName("팔로우 API 쿼리 수 상한")
+    fun followController() {
+        //팔로잉, 팔로워 50명씩
+        assertQueryCount(get("/follow/followinglist/${viewer.userId}"), 10, 120)
+        assertQueryCount(get("/follow/followerlist/${viewer.userId}"), 10, 120)
+    }
+
+    @Test
+    @DisplayName("유저 API 쿼리 수 상한")
+    fun userController() {
+        assertQueryCount(get("/user/info"), 3, 5)
+        assertQueryCount(get("/user/profile/${writers[0].userId}"), 12, 70)
+    }
+
+    @Test
+    @DisplayName("아카이브 API 쿼리 수 상한")
+    fun archiveController() {
+        //아카이브 게시글 300개
+        assertQueryCount(get("/archive/list/${viewer.userId}"), 8, 320)
+        assertQueryCount(get("/archive/${archive.archiveId}").param("size", "$pageSize"), 14, 60)
+    }
+
+    @Test
+    @DisplayName("시리즈 API 쿼리 수 상한")
+    fun seriesController() {
+        //시리즈 게시글 300개 + 게시글
+        assertQueryCount(get("/series/list/${viewer.userId}"), 8, 620)
+        assertQueryCount(get("/series/${series.seriesId}").param("size", "$pageSize"), 14, 60)
+    }
+
+    @Test
+    @DisplayName("검색 API 쿼리 수 상한")
+    fun searchController() {
+        //book7 게시글 100개 중 최대 50개
+        assertQueryCount(get("/search/board").param("keyword", "book7"), 12, 120)
+        assertQueryCount(get("/search/room").param("keyword", "topic"), 8, 200)
+        assertQueryCount(get("/search/user").param("keyword", "perfWriter"), 12, 200)
+    }
+
+    @Test
+    @DisplayName("토론 API 쿼리 수 상한")
+    fun debateController() {
+        assertQueryCount(get("/debate/list/2"), 12, 200)
+        assertQueryCount(get("/debate/${room.debateRoomId}"), 8, 5)
+        assertQueryCount(get("/debate/canenter/${room.debateRoomId}"), 8, 5)
+    }
+
+    @Test
+    @DisplayName("반응 API 쿼리 수 상한")
+    fun reactionController() {
+        //넛츠를 500개 누른 유저도 전체 넛츠 목록을 읽지 않음
+        assertQueryCount(put("/reaction/nuts/${boards[1].boardId}"), 12, 10)
+        assertQueryCount(put("/reaction/heart/${boards[1].boardId}"), 12, 10)
+    }
+
+    @Test
+    @DisplayName("인증 API 쿼리 수 상한")
+    fun authController() {
+        assertQueryCount(get("/auth/checkNickname/perfViewer"), 2, 5)
+        assertQueryCount(get("/auth/checkLoginId/perfViewer"), 2, 5)
+    }
+
+    private fun assertQueryCount(request: MockHttpServletRequestBuilder, maxStatements: Long, maxEntityLoads: Long) {
+        statistics.clear()
+
+        mockMvc.perform(request.header("X-AUTH-TOKEN", token))
+            .andExpect(status().is2xxSuccessful)
+
+        assertThat(statistics.prepareStatementCount).`as`("statements").isLessThanOrEqualTo(maxStatements)
+        assertThat(statistics.entityLoadCount).`as`("entity loads").isLessThanOrEqualTo(maxEntityLoads)
+    }
+
+    private fun user(name: String): User {
+        return User(null, name, "password", name, name, "$name@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList())
+    }
+
+}
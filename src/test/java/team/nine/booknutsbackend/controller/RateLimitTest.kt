@@ -0,0 +1,119 @@
+package team.nine.booknutsbackend.controller
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.http.MediaType
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.header
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder
+import team.nine.booknutsbackend.ratelimit.LocalRateLimiter
+import team.nine.booknutsbackend.ratelimit.RateLimitBucket
+import team.nine.booknutsbackend.ratelimit.RateLimiter
+import team.nine.booknutsbackend.ratelimit.RedisRateLimiter
+import java.time.Duration
+import java.util.UUID
+
+@SpringBootTest
+@AutoConfigureMockMvc
+//기본 저장소(redis)는 테스트 실행 간에도 버킷이 남으므로 이메일, ip를 매번 새로 만듦
+class RateLimitTest @Autowired constructor(
+    private val mockMvc: MockMvc,
+    private val redisTemplate: RedisTemplate<String, String>,
+) {
+
+    @Test
+    @DisplayName("토큰 버킷은 capacity만큼 허용하고, 이후에는 대기 시간을 반환한다")
+    fun localTokenBucket() {
+        //given
+        val rateLimiter = LocalRateLimiter(4, 16)
+
+        //when
+        val results = (1..4).map { rateLimiter.tryAcquire("key", 3, Duration.ofMinutes(1)) }
+
+        //then
+        assertThat(results.take(3)).containsOnly(0L)
+        assertThat(results[3]).isPositive
+        assertThat(rateLimiter.tryAcquire("otherKey", 3, Duration.ofMinutes(1))).isZero
+    }
+
+    @Test
+    @DisplayName("여러 버킷 중 하나라도 비어 있으면 어느 버킷의 토큰도 사용하지 않는다")
+    fun acquireAllOrNothing() {
+        listOf(LocalRateLimiter(4, 16), RedisRateLimiter(redisTemplate)).forEach { rateLimiter ->
+            //given
+            val id = UUID.randomUUID().toString()
+            val wide = RateLimitBucket("$id:wide", 3, Duration.ofMinutes(1))
+            val narrow = RateLimitBucket("$id:narrow", 1, Duration.ofMinutes(1))
+
+            //when
+            val first = rateLimiter.tryAcquire(listOf(wide, narrow))
+            val rejected = (1..3).map { rateLimiter.tryAcquire(listOf(wide, narrow)) }
+
+            //then (wide는 처음 한 번만 사용됨)
+            assertThat(first).isZero
+            assertThat(rejected).allMatch { it > 0 }
+            assertThat(rateLimiter.check(listOf(wide))).isZero
+            assertAcquired(rateLimiter, wide, 2)
+        }
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 인증 코드 확인을 반복하면 429 응답")
+    fun confirmEmailCodeLimitedByEmail() {
+        //given (이메일당 10분에 5번)
+        val email = "${UUID.randomUUID()}@naver.com"
+        val ip = randomIp()
+
+        //when & then
+        repeat(5) { mockMvc.perform(confirmEmailCode(email, ip)).andExpect(status().isOk) }
+        mockMvc.perform(confirmEmailCode(email.uppercase() + " ", ip))
+            .andExpect(status().isTooManyRequests)
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.error").value("TooManyRequestsException"))
+        mockMvc.perform(confirmEmailCode("${UUID.randomUUID()}@naver.com", ip)).andExpect(status().isOk)
+    }
+
+    @Test
+    @DisplayName("끝에 '/'를 붙여도 같은 경로로 제한")
+    fun trailingSlashLimited() {
+        //given
+        val email = "${UUID.randomUUID()}@naver.com"
+        val ip = randomIp()
+
+        //when & then
+        repeat(5) { mockMvc.perform(confirmEmailCode(email, ip, "/auth/confirmEmailCode/")).andExpect(status().isOk) }
+        mockMvc.perform(confirmEmailCode(email, ip)).andExpect(status().isTooManyRequests)
+    }
+
+    @Test
+    @DisplayName("제한 대상 경로의 body가 최대 크기를 넘으면 읽지 않고 413 응답")
+    fun bodyTooLarge() {
+        //given
+        val content = "{\"email\":\"" + "a".repeat(20 * 1024) + "\"}"
+
+        //when & then
+        mockMvc.perform(post("/auth/confirmEmailCode").contentType(MediaType.APPLICATION_JSON).content(content).with { it.remoteAddr = randomIp(); it })
+            .andExpect(status().isPayloadTooLarge)
+            .andExpect(jsonPath("$.error").value("RequestBodyTooLargeException"))
+    }
+
+    private fun assertAcquired(rateLimiter: RateLimiter, bucket: RateLimitBucket, count: Int) {
+        repeat(count) { assertThat(rateLimiter.tryAcquire(listOf(bucket))).isZero }
+        assertThat(rateLimiter.tryAcquire(listOf(bucket))).isPositive
+    }
+
+    private fun confirmEmailCode(email: String, ip: String, path: String = "/auth/confirmEmailCode"): MockHttpServletRequestBuilder =
+        post(path).contentType(MediaType.APPLICATION_JSON).content("{\"email\":\"$email\",\"code\":\"wrong\"}")
+            .with { it.remoteAddr = ip; it }
+
+    private fun randomIp() = "10.${(0..255).random()}.${(0..255).random()}.${(1..254).random()}"
+
+}
@@ -0,0 +1,81 @@
+package team.nine.booknutsbackend.debate
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+//목록을 만드는 동안 동시에 온 요청 처리 (리포지토리는 mock)
+class DebateLobbyCacheTest {
+
+    private val debateRoomRepository = mock(DebateRoomRepository::class.java)
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 동시에 요청해도 목록은 한 번만 만든다")
+    fun singleFlightRebuild() {
+        //given
+        val cache = DebateLobbyCache(debateRoomRepository, ObjectMapper(), 50, 10000)
+        val building = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        `when`(debateRoomRepository.findByTypeAndStatusOrderByDebateRoomIdDesc(anyInt(), anyInt(), any())).thenAnswer {
+            building.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            emptyList<Any>()
+        }
+        val count = 16
+
+        //when
+        val executor = Executors.newFixedThreadPool(count)
+        val results = (0 until count).map { executor.submit<ByteArray> { cache.getLobby(0) } }
+        assertThat(building.await(10, TimeUnit.SECONDS)).isTrue
+        Thread.sleep(100) //나머지 요청이 만드는 중인 목록을 기다리도록
+        release.countDown()
+        val lobbies = results.map { it.get(10, TimeUnit.SECONDS) }
+        executor.shutdown()
+
+        //then
+        verify(debateRoomRepository, times(2)).findByTypeAndStatusOrderByDebateRoomIdDesc(anyInt(), anyInt(), any()) //진행 중, 대기 중
+        assertThat(lobbies.distinct()).hasSize(1)
+    }
+
+    @Test
+    @DisplayName("비운 뒤에 온 요청은 비우기 전부터 만들던 목록을 받지 않는다")
+    fun rebuildAfterInvalidate() {
+        //given
+        val cache = DebateLobbyCache(debateRoomRepository, ObjectMapper(), 50, 10000)
+        val building = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        var calls = 0
+        `when`(debateRoomRepository.findByTypeAndStatusOrderByDebateRoomIdDesc(anyInt(), anyInt(), any())).thenAnswer {
+            if (++calls == 1) {
+                building.countDown()
+                release.await(10, TimeUnit.SECONDS)
+            }
+            emptyList<Any>()
+        }
+
+        //when
+        val executor = Executors.newSingleThreadExecutor()
+        val stale = executor.submit<ByteArray> { cache.getLobby(0) }
+        assertThat(building.await(10, TimeUnit.SECONDS)).isTrue
+        cache.invalidate()
+        cache.getLobby(0)
+        release.countDown()
+        stale.get(10, TimeUnit.SECONDS)
+        executor.shutdown()
+
+        //then
+        verify(debateRoomRepository, times(4)).findByTypeAndStatusOrderByDebateRoomIdDesc(anyInt(), anyInt(), any())
+    }
+
+}
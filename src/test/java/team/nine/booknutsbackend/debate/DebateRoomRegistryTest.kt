@@ -0,0 +1,78 @@
+package team.nine.booknutsbackend.debate
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.`when`
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import java.time.LocalDateTime
+import java.util.Optional
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+//첫 구독 시 DB 조회 중에 도착한 이벤트 처리 (리포지토리는 mock)
+class DebateRoomRegistryTest {
+
+    private val debateRoomRepository = mock(DebateRoomRepository::class.java)
+    private val debateUserRepository = mock(DebateUserRepository::class.java)
+    private val registry = DebateRoomRegistry(debateRoomRepository, debateUserRepository)
+
+    private val owner = user(1)
+    private val room = DebateRoom(1L, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, 4, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now())
+
+    @Test
+    @DisplayName("토론장을 불러오는 동안 도착한 참여, 나가기 이벤트는 불러온 상태에 반영된다")
+    fun bufferEventsDuringLoad() {
+        //given
+        val loading = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        `when`(debateRoomRepository.findById(1L)).thenAnswer {
+            loading.countDown()
+            release.await(10, TimeUnit.SECONDS)
+            Optional.of(room)
+        }
+        `when`(debateUserRepository.findByDebateRoom(room)).thenReturn(emptyList())
+
+        //when
+        val executor = Executors.newSingleThreadExecutor()
+        val subscribed = executor.submit { registry.subscribe("session", "sub-0", 1L) }
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue
+        val buffered = listOf(
+            registry.apply(DebateEvent.enter(1L, user(2), true)),
+            registry.apply(DebateEvent.enter(1L, user(3), false)),
+            registry.apply(DebateEvent.exit(1L, user(3))),
+        )
+        release.countDown()
+        subscribed.get(10, TimeUnit.SECONDS)
+        executor.shutdown()
+
+        //then
+        val snapshot = registry.find(1L).snapshot()
+        assertThat(buffered).containsOnlyNulls()
+        assertThat(registry.isTracked(1L)).isTrue
+        assertThat(snapshot.participants.map { it.userId }).containsExactly(2L)
+        assertThat(snapshot.curYesUser).isEqualTo(1)
+        assertThat(snapshot.curNoUser).isEqualTo(0)
+        assertThat(registry.apply(DebateEvent.exit(1L, user(2)))!!.curYesUser).isEqualTo(0)
+    }
+
+    @Test
+    @DisplayName("구독 중이 아니고 불러오는 중도 아닌 토론장의 이벤트는 버린다")
+    fun dropUntrackedEvents() {
+        //when
+        val applied = registry.apply(DebateEvent.enter(2L, user(2), true))
+
+        //then
+        assertThat(applied).isNull()
+        assertThat(registry.isTracked(2L)).isFalse
+    }
+
+    private fun user(i: Int) =
+        User(i.toLong(), "loginId$i", "password", "name$i", "nickname$i", "user$i@naver.com", null, null, null, true, null, null, null, null, null, null)
+
+}
@@ -0,0 +1,81 @@
+package team.nine.booknutsbackend.mail
+
+import com.icegreen.greenmail.util.GreenMail
+import com.icegreen.greenmail.util.ServerSetupTest
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.mail.javamail.JavaMailSenderImpl
+import team.nine.booknutsbackend.exception.email.EmailQueueFullException
+
+//인메모리 SMTP 서버(GreenMail)로 발송 대기열 검증
+class EmailOutboxTest {
+
+    private lateinit var greenMail: GreenMail
+    private val mailSender = JavaMailSenderImpl().apply {
+        host = "localhost"
+        port = ServerSetupTest.SMTP.port
+        defaultEncoding = "UTF-8"
+    }
+
+    @BeforeEach
+    fun start() {
+        greenMail = GreenMail(ServerSetupTest.SMTP).also { it.start() }
+    }
+
+    @AfterEach
+    fun stop() {
+        greenMail.stop()
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일이 모두 발송된다")
+    fun sendAll() {
+        //given
+        val outbox = EmailOutbox(mailSender, "booknuts@naver.com", 100, 2, 10, 3, 10)
+
+        //when
+        (1..30).forEach { outbox.enqueue(OutgoingEmail("user$it@naver.com", "subject", "<p>code$it</p>")) }
+
+        //then
+        assertThat(greenMail.waitForIncomingEmail(10000, 30)).isTrue
+        assertThat(greenMail.receivedMessages.map { it.allRecipients[0].toString() }).contains("user1@naver.com", "user30@naver.com")
+        outbox.shutdown()
+    }
+
+    @Test
+    @DisplayName("SMTP 서버가 잠시 내려가 있어도 재시도하여 발송된다")
+    fun retryWithBackoff() {
+        //given
+        greenMail.stop()
+        val outbox = EmailOutbox(mailSender, "booknuts@naver.com", 100, 1, 10, 5, 200)
+
+        //when
+        outbox.enqueue(OutgoingEmail("retry@naver.com", "subject", "<p>code</p>"))
+        Thread.sleep(100)
+        greenMail = GreenMail(ServerSetupTest.SMTP).also { it.start() }
+
+        //then
+        assertThat(greenMail.waitForIncomingEmail(10000, 1)).isTrue
+        assertThat(outbox.stats["retried"]).isPositive
+        outbox.shutdown()
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 예외가 발생한다")
+    fun queueFull() {
+        //given
+        val outbox = EmailOutbox(mailSender, "booknuts@naver.com", 1, 1, 1, 1, 10)
+        outbox.shutdown() //워커 없이 대기열만 확인
+
+        //when & then
+        outbox.enqueue(OutgoingEmail("user1@naver.com", "subject", "<p>code</p>"))
+        assertThatThrownBy { outbox.enqueue(OutgoingEmail("user2@naver.com", "subject", "<p>code</p>")) }
+            .isInstanceOf(EmailQueueFullException::class.java)
+        assertThat(outbox.stats["rejected"]).isEqualTo(1L)
+    }
+
+}
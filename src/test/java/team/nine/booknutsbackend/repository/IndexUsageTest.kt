@@ -0,0 +1,285 @@
+package team.nine.booknutsbackend.repository
+
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.resource.jdbc.spi.StatementInspector
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.DynamicTest
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestFactory
+import org.junit.jupiter.api.TestInstance
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.context.ApplicationContext
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.repository.support.Repositories
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import team.nine.booknutsbackend.domain.Board
+import team.nine.booknutsbackend.domain.Comment
+import team.nine.booknutsbackend.domain.Follow
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.archive.Archive
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.domain.debate.DebateUser
+import team.nine.booknutsbackend.domain.reaction.Heart
+import team.nine.booknutsbackend.domain.reaction.Nuts
+import team.nine.booknutsbackend.domain.series.Series
+import java.lang.reflect.Modifier
+import java.time.LocalDateTime
+import java.util.concurrent.CopyOnWriteArrayList
+import javax.sql.DataSource
+
+//조회 경로별 실행 계획 검사 - 리포지토리 메서드가 실행한 SQL을 그대로 EXPLAIN (H2, MySQL 모드)
+//조건 없이 테이블이나 인덱스 전체를 읽는 계획이 있으면 실패
+//리포지토리에 선언된 메서드는 모두 queries(검사) 또는 fullScanAllowed(전체 조회가 의도된 메서드, 사유)에 있어야 함
+@SpringBootTest(properties = ["spring.jpa.properties.hibernate.session_factory.statement_inspector=team.nine.booknutsbackend.repository.IndexUsageTest\$SqlRecorder"])
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IndexUsageTest @Autowired constructor(
+    private val applicationContext: ApplicationContext,
+    transactionManager: PlatformTransactionManager,
+    private val dataSource: DataSource,
+    private val userRepository: UserRepository,
+    private val boardRepository: BoardRepository,
+    private val followRepository: FollowRepository,
+    private val nutsRepository: NutsRepository,
+    private val heartRepository: HeartRepository,
+    private val commentRepository: CommentRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    private val debateMessageRepository: DebateMessageRepository,
+    private val feedRepository: FeedRepository,
+    private val archiveRepository: ArchiveRepository,
+    private val archiveBoardRepository: ArchiveBoardRepository,
+    private val seriesRepository: SeriesRepository,
+    private val seriesBoardRepository: SeriesBoardRepository,
+    private val imageDeleteTaskRepository: ImageDeleteTaskRepository,
+) {
+
+    private val page = PageRequest.of(0, 20)
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+
+    private lateinit var users: List<User>
+    private lateinit var boards: List<Board>
+    private lateinit var parents: List<Comment>
+    private lateinit var rooms: List<DebateRoom>
+    private lateinit var archive: Archive
+    private lateinit var series: Series
+
+    //Hibernate가 실행하는 SQL 기록
+    class SqlRecorder : StatementInspector {
+        override fun inspect(sql: String): String {
+            statements.add(sql)
+            return sql
+        }
+
+        companion object {
+            val statements = CopyOnWriteArrayList<String>()
+        }
+    }
+
+    //전체 조회가 의도된 메서드 (검사 제외)
+    private val fullScanAllowed = mapOf(
+        "UserRepository.findAllNicknameEntries" to "서버 시작 시 닉네임 검색 색인 적재 (전체 유저)",
+        "UserRepository.findAllByEnabledAndRequestedDeleteAtBetween" to "하루 한 번 실행하는 탈퇴 처리 배치",
+    )
+
+    //리포지토리 메서드별 실행 (변경 쿼리는 롤백)
+    private val queries = linkedMapOf(
+        query("UserRepository.findByEmail") { userRepository.findByEmail(users[0].email) },
+        query("UserRepository.findByLoginId") { userRepository.findByLoginId(users[0].loginId) },
+        query("UserRepository.existsByNickname") { userRepository.existsByNickname(users[0].nickname) },
+        query("UserRepository.existsByLoginId") { userRepository.existsByLoginId(users[0].loginId) },
+        query("UserRepository.findNicknameEntry") { userRepository.findNicknameEntry(users[0].userId) },
+        query("UserRepository.updateProfileThumbnailUrl") { userRepository.updateProfileThumbnailUrl(users[0].userId, "imgUrl", "thumbnailUrl") },
+
+        query("FollowRepository.findByFollowingUserIdAndFollowerUserId") { followRepository.findByFollowingUserIdAndFollowerUserId(users[1].userId, users[0].userId) },
+        query("FollowRepository.findByFollower") { followRepository.findByFollower(users[0]) },
+        query("FollowRepository.findByFollowing") { followRepository.findByFollowing(users[1]) },
+        query("FollowRepository.deleteAllByFollower") { followRepository.deleteAllByFollower(users[0]) },
+        query("FollowRepository.findFollowingIdsByFollowerAndFollowingIdIn") {
+            followRepository.findFollowingIdsByFollowerAndFollowingIdIn(users[0], users.take(10).map { it.userId })
+        },
+
+        query("NutsRepository.findByBoard_BoardIdAndUser_UserId") { nutsRepository.findByBoard_BoardIdAndUser_UserId(boards[0].boardId, users[0].userId) },
+        query("NutsRepository.deleteAllByUser") { nutsRepository.deleteAllByUser(users[0]) },
+        query("NutsRepository.findBoardIdsByUserAndBoardIdIn") { nutsRepository.findBoardIdsByUserAndBoardIdIn(users[0], boardIds()) },
+        query("HeartRepository.findByBoard_BoardIdAndUser_UserId") { heartRepository.findByBoard_BoardIdAndUser_UserId(boards[0].boardId, users[0].userId) },
+        query("HeartRepository.deleteAllByUser") { heartRepository.deleteAllByUser(users[0]) },
+        query("HeartRepository.findBoardIdsByUserAndBoardIdIn") { heartRepository.findBoardIdsByUserAndBoardIdIn(users[0], boardIds()) },
+
+        query("CommentRepository.findByBoard") { commentRepository.findByBoard(boards[0]) },
+        query("CommentRepository.findParentsByBoard") { commentRepository.findParentsByBoard(boards[0], 0L, page) },
+        query("CommentRepository.findChildrenByParentIn") { commentRepository.findChildrenByParentIn(parents.take(20)) },
+
+        query("BoardRepository.findByBoardIdLessThanOrderByBoardIdDesc") { boardRepository.findByBoardIdLessThanOrderByBoardIdDesc(Long.MAX_VALUE, page) },
+        query("BoardRepository.findByBookGenreAndBoardIdLessThanOrderByBoardIdDesc") {
+            boardRepository.findByBookGenreAndBoardIdLessThanOrderByBoardIdDesc("genre0", Long.MAX_VALUE, page)
+        },
+        query("BoardRepository.findByUserAndBoardIdLessThanOrderByBoardIdDesc") {
+            boardRepository.findByUserAndBoardIdLessThanOrderByBoardIdDesc(users[0], Long.MAX_VALUE, page)
+        },
+        query("BoardRepository.findByBoardIdIn") { boardRepository.findByBoardIdIn(boardIds()) },
+        query("BoardRepository.findTop50ByUserOrderByBoardIdDesc") { boardRepository.findTop50ByUserOrderByBoardIdDesc(users[0]) },
+        query("BoardRepository.updateNutsCnt") { boardRepository.updateNutsCnt(boards[0].boardId, 1) },
+        query("BoardRepository.updateHeartCnt") { boardRepository.updateHeartCnt(boards[0].boardId, 1) },
+        query("BoardRepository.updateArchiveCnt") { boardRepository.updateArchiveCnt(boards[0].boardId, 1) },
+        query("BoardRepository.decreaseNutsCntByUser") { boardRepository.decreaseNutsCntByUser(users[0]) },
+        query("BoardRepository.decreaseHeartCntByUser") { boardRepository.decreaseHeartCntByUser(users[0]) },
+        query("BoardRepository.decreaseArchiveCntByArchive") { boardRepository.decreaseArchiveCntByArchive(archive) },
+        query("BoardRepository.decreaseArchiveCntByOwner") { boardRepository.decreaseArchiveCntByOwner(users[0]) },
+        query("BoardRepository.findMaxBoardId") { boardRepository.findMaxBoardId() },
+        query("BoardRepository.reconcileCount") { boardRepository.reconcileCount(boards[0].boardId, boards[19].boardId) },
+
+        query("FeedRepository.findBoardsByOwner") { feedRepository.findBoardsByOwner(users[0], Long.MAX_VALUE, page) },
+        query("FeedRepository.deleteAllByOwnerAndWriter") { feedRepository.deleteAllByOwnerAndWriter(users[0], users[1]) },
+        query("FeedRepository.deleteAllByBoard") { feedRepository.deleteAllByBoard(boards[0]) },
+        query("FeedRepository.deleteAllByOwner") { feedRepository.deleteAllByOwner(users[0]) },
+
+        query("ArchiveRepository.findAllByOwner") { archiveRepository.findAllByOwner(users[0]) },
+        query("ArchiveRepository.findDistinctByOwnerOrderByArchiveIdDesc") { archiveRepository.findDistinctByOwnerOrderByArchiveIdDesc(users[0]) },
+        query("ArchiveBoardRepository.findByArchive") { archiveBoardRepository.findByArchive(archive) },
+        query("ArchiveBoardRepository.findByArchiveAndBoard") { archiveBoardRepository.findByArchiveAndBoard(archive, boards[0]) },
+        query("ArchiveBoardRepository.findByBoardAndOwner") { archiveBoardRepository.findByBoardAndOwner(boards[0], users[0]) },
+        query("ArchiveBoardRepository.findBoardsByArchive") { archiveBoardRepository.findBoardsByArchive(archive, Long.MAX_VALUE, page) },
+        query("ArchiveBoardRepository.findBoardIdsByOwnerAndBoardIdIn") { archiveBoardRepository.findBoardIdsByOwnerAndBoardIdIn(users[0], boardIds()) },
+
+        query("SeriesRepository.findAllByOwner") { seriesRepository.findAllByOwner(users[0]) },
+        query("SeriesRepository.findDistinctByOwnerOrderBySeriesIdDesc") { seriesRepository.findDistinctByOwnerOrderBySeriesIdDesc(users[0]) },
+        query("SeriesRepository.updateThumbnailUrl") { seriesRepository.updateThumbnailUrl(series.seriesId, "imgUrl", "thumbnailUrl") },
+        query("SeriesBoardRepository.findBySeries") { seriesBoardRepository.findBySeries(series) },
+        query("SeriesBoardRepository.findByBoardAndSeries") { seriesBoardRepository.findByBoardAndSeries(boards[0], series) },
+        query("SeriesBoardRepository.findBoardsBySeries") { seriesBoardRepository.findBoardsBySeries(series, Long.MAX_VALUE, page) },
+
+        query("DebateRoomRepository.findByTypeAndStatusOrderByDebateRoomIdDesc") { debateRoomRepository.findByTypeAndStatusOrderByDebateRoomIdDesc(0, 0, page) },
+        query("DebateRoomRepository.findByStatusOrderByDebateRoomIdDesc") { debateRoomRepository.findByStatusOrderByDebateRoomIdDesc(1, page) },
+        query("DebateRoomRepository.updateCoverThumbnailUrl") { debateRoomRepository.updateCoverThumbnailUrl(rooms[0].debateRoomId, "coverImgUrl", "thumbnailUrl") },
+        query("DebateRoomRepository.increaseYesUser") { debateRoomRepository.increaseYesUser(rooms[0].debateRoomId) },
+        query("DebateRoomRepository.increaseNoUser") { debateRoomRepository.increaseNoUser(rooms[0].debateRoomId) },
+        query("DebateRoomRepository.decreaseYesUser") { debateRoomRepository.decreaseYesUser(rooms[0].debateRoomId) },
+        query("DebateRoomRepository.decreaseNoUser") { debateRoomRepository.decreaseNoUser(rooms[0].debateRoomId) },
+        query("DebateRoomRepository.findSweepTargets") {
+            debateRoomRepository.findSweepTargets(0, 0, LocalDateTime.now(), LocalDateTime.of(2000, 1, 1, 0, 0), 0L, page)
+        },
+        query("DebateRoomRepository.closeRooms") { debateRoomRepository.closeRooms(rooms.take(10).map { it.debateRoomId }, 0, LocalDateTime.now()) },
+        query("DebateUserRepository.findByDebateRoomAndUser") { debateUserRepository.findByDebateRoomAndUser(rooms[0], users[1]) },
+        query("DebateUserRepository.findByDebateRoom") { debateUserRepository.findByDebateRoom(rooms[0]) },
+        query("DebateUserRepository.findByDebateRoomIn") { debateUserRepository.findByDebateRoomIn(rooms.take(10)) },
+        query("DebateMessageRepository.findByDebateRoomIdOrderByMessageIdDesc") { debateMessageRepository.findByDebateRoomIdOrderByMessageIdDesc(rooms[0].debateRoomId, page) },
+
+        query("ImageDeleteTaskRepository.findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc") {
+            imageDeleteTaskRepository.findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc(LocalDateTime.now())
+        },
+        query("ImageDeleteTaskRepository.claim") { imageDeleteTaskRepository.claim(listOf(1L, 2L), LocalDateTime.now(), LocalDateTime.now().plusMinutes(10), "claimToken") },
+        query("ImageDeleteTaskRepository.findByClaimToken") { imageDeleteTaskRepository.findByClaimToken("claimToken") },
+        query("ImageDeleteTaskRepository.deleteClaimed") { imageDeleteTaskRepository.deleteClaimed(listOf(1L, 2L), "claimToken") },
+        query("ImageDeleteTaskRepository.reschedule") { imageDeleteTaskRepository.reschedule(1L, 1, LocalDateTime.now(), "claimToken") },
+    )
+
+    @BeforeAll
+    fun seed() {
+        users = userRepository.saveAll((1..30).map { user(it) })
+        boards = boardRepository.saveAll((0 until 120).map {
+            Board(null, "boardTitle$it", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "genre${it % 6}", users[it % users.size], null, null, null, null, 0, 0, 0)
+        })
+        followRepository.saveAll((1 until users.size).map { Follow(null, users[it], users[0]) })
+        nutsRepository.saveAll(boards.map { Nuts(null, users[it.boardId.toInt() % users.size], it) })
+        heartRepository.saveAll(boards.map { Heart(null, users[(it.boardId.toInt() + 1) % users.size], it) })
+        parents = commentRepository.saveAll((1..50).map {
+            Comment(null, "comment$it", LocalDateTime.now().toString(), users[it % users.size], null, null, boards[it % 5])
+        })
+        commentRepository.saveAll(parents.map { Comment(null, "reComment", LocalDateTime.now().toString(), users[0], it, null, it.board) })
+        rooms = debateRoomRepository.saveAll((0 until 60).map {
+            DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic$it", "coverImgUrl", null, it % 3, 4, 0, 0, it % 3 % 2, users[it % users.size], LocalDateTime.now().minusHours(it.toLong()), LocalDateTime.now().minusHours(it.toLong()))
+        })
+        debateUserRepository.saveAll(rooms.map { room -> DebateUser().apply { user = users[1]; debateRoom = room; opinion = true } })
+        archive = archiveRepository.save(Archive(null, "title", "content", users[0], null, LocalDateTime.now().toString(), null))
+        series = seriesRepository.save(Series().apply { title = "title"; content = "content"; owner = users[0] })
+    }
+
+    @AfterAll
+    fun clean() {
+        seriesRepository.deleteAllInBatch()
+        archiveRepository.deleteAllInBatch()
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        commentRepository.deleteAllInBatch(commentRepository.findAll().filter { it.parent != null })
+        commentRepository.deleteAllInBatch()
+        heartRepository.deleteAllInBatch()
+        nutsRepository.deleteAllInBatch()
+        followRepository.deleteAllInBatch()
+        boardRepository.deleteAllInBatch()
+        userRepository.deleteAll(users)
+    }
+
+    @Test
+    @DisplayName("리포지토리에 선언된 메서드는 모두 실행 계획 검사 대상이다")
+    fun coverAllRepositoryMethods() {
+        //given
+        val repositories = Repositories(applicationContext)
+
+        //when
+        val declared = repositories.mapNotNull { repositories.getRepositoryInformationFor(it).orElse(null)?.repositoryInterface }
+            .filter { it.packageName == javaClass.packageName }
+            .flatMap { repository ->
+                repository.declaredMethods
+                    .filterNot { it.isDefault || it.isSynthetic || Modifier.isStatic(it.modifiers) }
+                    .map { "${repository.simpleName}.${it.name}" }
+            }
+
+        //then
+        assertThat(declared).containsExactlyInAnyOrderElementsOf(queries.keys + fullScanAllowed.keys)
+    }
+
+    @TestFactory
+    @DisplayName("리포지토리 메서드는 인덱스를 사용한다")
+    fun indexUsageTest() = queries.map { (name, query) -> DynamicTest.dynamicTest(name) { assertIndexed(name, query) } }
+
+    //쿼리가 실행한 select, update, delete 문마다 실행 계획 확인 (트랜잭션은 롤백)
+    private fun assertIndexed(name: String, query: () -> Unit) {
+        SqlRecorder.statements.clear()
+        transactionTemplate.executeWithoutResult { status ->
+            status.setRollbackOnly()
+            query()
+        }
+        val statements = SqlRecorder.statements.filter { sql -> listOf("select", "update", "delete").any { sql.trimStart().startsWith(it, ignoreCase = true) } }
+        assertThat(statements).withFailMessage("$name: 실행된 쿼리가 없습니다.").isNotEmpty
+
+        statements.forEach { sql ->
+            val plan = explain(sql)
+            assertThat(fullScans(plan)).withFailMessage("$name: 전체 스캔\n$plan").isEmpty()
+        }
+    }
+
+    //파라미터는 실행 계획에 영향을 주지 않으므로 null로 바인딩
+    private fun explain(sql: String): String {
+        dataSource.connection.use { connection ->
+            connection.prepareStatement("EXPLAIN $sql").use { statement ->
+                for (i in 1..statement.parameterMetaData.parameterCount) statement.setObject(i, null)
+                statement.executeQuery().use { result ->
+                    result.next()
+                    return result.getString(1)
+                }
+            }
+        }
+    }
+
+    //H2 계획의 테이블별 주석: /* PUBLIC.인덱스: 조건 */ - tableScan 이거나 조건 없이 인덱스만 있으면 전체 스캔
+    //min, max 집계는 인덱스 끝 값만 읽음 (/* direct lookup */)
+    private fun fullScans(plan: String): List<String> {
+        if (plan.contains("/* direct lookup */")) return emptyList()
+        return Regex("""/\* (PUBLIC\.[^*]+?) \*/""").findAll(plan)
+            .map { it.groupValues[1] }
+            .filter { it.endsWith(".tableScan") || !it.contains(':') }
+            .toList()
+    }
+
+    private fun boardIds() = boards.take(20).map { it.boardId }
+
+    private fun query(name: String, query: () -> Unit) = name to query
+
+    private fun user(i: Int) =
+        User(null, "indexUser$i", "password", "name$i", "indexNickname$i", "indexUser$i@naver.com", null, null, null, true, null, null, null, null, null, null)
+
+}
@@ -0,0 +1,72 @@
+package team.nine.booknutsbackend.repository
+
+import org.assertj.core.api.Assertions.assertThat
+import org.flywaydb.core.Flyway
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.sql.Connection
+import java.sql.DriverManager
+
+//인덱스가 없던 기존 스키마에 V2 마이그레이션 적용 (애플리케이션과 분리된 H2 DB)
+class LookupIndexMigrationTest {
+
+    private val url = "jdbc:h2:mem:migrationtest;MODE=MySQL;DB_CLOSE_DELAY=-1"
+
+    @Test
+    @DisplayName("기존 스키마는 baseline 후 인덱스를 추가하고, 중복 반응은 하나만 남기고, 토론장 상태 변경 시각은 개설 시각으로, 게시글 반응 수는 실제 반응 수로 채운다")
+    fun migrateLegacySchemaTest() {
+        //given
+        DriverManager.getConnection(url, "sa", "").use { connection ->
+            connection.createStatement().use { statement ->
+                statement.execute("create table heart (heart_id bigint auto_increment primary key, user bigint, board bigint)")
+                statement.execute("create table follow (follow_id bigint auto_increment primary key, following bigint, follower bigint)")
+                statement.execute("insert into heart (user, board) values (1, 1), (1, 1), (2, 1)")
+                statement.execute("insert into follow (following, follower) values (1, 2), (2, 1)")
+                statement.execute("create table debate_room (debate_room_id bigint auto_increment primary key, type integer, status integer, created_at datetime(6))")
+                statement.execute("insert into debate_room (type, status, created_at) values (0, 2, '2022-05-01 10:00:00')")
+                statement.execute("create table board (board_id bigint auto_increment primary key, title varchar(100))")
+                statement.execute("insert into board (title) values ('reacted'), ('quiet')")
+            }
+        }
+
+        //when
+        val result = flyway().migrate()
+        val rerun = flyway().migrate()
+
+        //then
+        assertThat(result.migrationsExecuted).isEqualTo(3)
+        assertThat(rerun.migrationsExecuted).isEqualTo(0)
+        DriverManager.getConnection(url, "sa", "").use { connection ->
+            assertThat(indexNames(connection, "HEART")).contains("UK_HEART_BOARD_USER", "IDX_HEART_USER_BOARD")
+            assertThat(indexNames(connection, "FOLLOW")).contains("UK_FOLLOW_FOLLOWER_FOLLOWING", "IDX_FOLLOW_FOLLOWING")
+            assertThat(indexNames(connection, "DEBATE_ROOM"))
+                .contains("IDX_DEBATE_ROOM_TYPE_STATUS_CHANGED")
+                .doesNotContain("IDX_DEBATE_ROOM_TYPE_STATUS_CREATED")
+            connection.createStatement().use { statement ->
+                statement.executeQuery("select count(*) from heart").use { it.next(); assertThat(it.getInt(1)).isEqualTo(2) }
+                statement.executeQuery("select count(*) from follow").use { it.next(); assertThat(it.getInt(1)).isEqualTo(2) }
+                statement.executeQuery("select count(*) from debate_room where status_changed_at = created_at").use { it.next(); assertThat(it.getInt(1)).isEqualTo(1) }
+                //좋아요는 중복 정리 후 2개, nuts, archive_board 테이블은 없음
+                statement.executeQuery("select heart_cnt, nuts_cnt, archive_cnt from board order by board_id").use {
+                    it.next(); assertThat(listOf(it.getInt(1), it.getInt(2), it.getInt(3))).containsExactly(2, 0, 0)
+                    it.next(); assertThat(listOf(it.getInt(1), it.getInt(2), it.getInt(3))).containsExactly(0, 0, 0)
+                }
+            }
+        }
+    }
+
+    private fun flyway() = Flyway.configure()
+        .dataSource(url, "sa", "")
+        .locations("classpath:team/nine/booknutsbackend/migration")
+        .baselineOnMigrate(true)
+        .load()
+
+    private fun indexNames(connection: Connection, table: String): List<String> {
+        val names = mutableListOf<String>()
+        connection.metaData.getIndexInfo(null, null, table, false, false).use { indexes ->
+            while (indexes.next()) names.add(indexes.getString("INDEX_NAME"))
+        }
+        return names
+    }
+
+}
@@ -0,0 +1,117 @@
+package team.nine.booknutsbackend.resolver
+
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.Hibernate
+import org.hibernate.SessionFactory
+import org.hibernate.proxy.HibernateProxy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.ArgumentMatchers.any
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.core.MethodParameter
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.support.TransactionTemplate
+import org.springframework.web.context.request.ServletWebRequest
+import team.nine.booknutsbackend.config.JwtTokenProvider
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import team.nine.booknutsbackend.service.DebateService
+import team.nine.booknutsbackend.service.UserService
+import java.security.Principal
+import java.time.LocalDateTime
+import javax.persistence.EntityManagerFactory
+
+@SpringBootTest
+class CurrentUserArgumentResolverTest @Autowired constructor(
+    private val currentUserArgumentResolver: CurrentUserArgumentResolver,
+    private val userService: UserService,
+    private val debateService: DebateService,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val entityManagerFactory: EntityManagerFactory,
+    private val userRepository: UserRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    transactionManager: PlatformTransactionManager,
+) {
+
+    private val transactionTemplate = TransactionTemplate(transactionManager)
+    private val parameter = MethodParameter(javaClass.getDeclaredMethod("handler", User::class.java), 0)
+
+    @Suppress("UNUSED_PARAMETER")
+    private fun handler(@CurrentUser user: User) {
+    }
+
+    @AfterEach
+    fun clean() {
+        SecurityContextHolder.clearContext()
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 다시 찾으면 요청 속성의 유저를 재사용하고, claim 토큰은 유저 조회 쿼리를 실행하지 않는다")
+    fun resolveOncePerRequest() {
+        //given
+        val user = userRepository.save(user("viewer"))
+        SecurityContextHolder.getContext().authentication = jwtTokenProvider.getAuthetication(jwtTokenProvider.createAccessToken(user))
+        val countingUserService = mock(UserService::class.java)
+        `when`(countingUserService.findCurrentUser(any(Principal::class.java))).thenAnswer { userService.findCurrentUser(it.getArgument(0)) }
+        val resolver = CurrentUserArgumentResolver(countingUserService)
+        val webRequest = ServletWebRequest(MockHttpServletRequest())
+        val statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.isStatisticsEnabled = true  //운영 설정에서는 꺼져 있으므로 테스트에서만 켬
+        statistics.clear()
+
+        //when
+        val first = resolver.resolveArgument(parameter, null, webRequest, null)
+        val second = resolver.resolveArgument(parameter, null, webRequest, null)
+
+        //then
+        assertThat(Hibernate.isInitialized(first)).isFalse
+        assertThat(second).isSameAs(first)
+        assertThat((first as HibernateProxy).hibernateLazyInitializer.identifier).isEqualTo(user.userId)
+        assertThat(statistics.prepareStatementCount).isZero
+        verify(countingUserService, times(1)).findCurrentUser(any(Principal::class.java))
+    }
+
+    @Test
+    @DisplayName("@CurrentUser의 지연 로딩 프록시로 토론장에 참여하고 나간다")
+    fun enterAndExitWithProxy() {
+        //given
+        val owner = userRepository.save(user("owner"))
+        val viewer = userRepository.save(user("viewer"))
+        val room = debateRoomRepository.save(DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, 4, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now()))
+        SecurityContextHolder.getContext().authentication = jwtTokenProvider.getAuthetication(jwtTokenProvider.createAccessToken(viewer))
+
+        //when (요청 하나의 영속성 컨텍스트 안에서 유저를 찾고 참여, 나가기)
+        val (entered, initialized) = transactionTemplate.execute {
+            val current = currentUserArgumentResolver.resolveArgument(parameter, null, ServletWebRequest(MockHttpServletRequest()), null)
+            val initialized = Hibernate.isInitialized(current)
+            val entered = debateService.enterRoom(room.debateRoomId, current, true)
+            debateService.exitRoom(debateService.getRoom(room.debateRoomId), current)
+            entered to initialized
+        }!!
+
+        //then
+        assertThat(initialized).isFalse
+        assertThat(entered.curYesUser).isEqualTo(1)
+        assertThat(debateUserRepository.findByDebateRoom(room)).isEmpty()
+        assertThat(debateRoomRepository.findById(room.debateRoomId).get().curYesUser).isZero
+    }
+
+    private fun user(name: String) =
+        User(null, name, "password", name, name, "$name@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, null, null, null, null, null)
+
+}
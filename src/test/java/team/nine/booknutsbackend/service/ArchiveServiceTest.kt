@@ -12,6 +12,7 @@ import team.nine.booknutsbackend.domain.User
 import team.nine.booknutsbackend.domain.archive.Archive
 import team.nine.booknutsbackend.domain.archive.ArchiveBoard
 import team.nine.booknutsbackend.dto.request.ArchiveRequest
+import team.nine.booknutsbackend.dto.request.CursorRequest
 import team.nine.booknutsbackend.exception.archive.ArchiveDuplicateException
 import team.nine.booknutsbackend.repository.ArchiveBoardRepository
 import team.nine.booknutsbackend.repository.ArchiveRepository
@@ -90,12 +91,12 @@ class ArchiveServiceTest @Autowired constructor(
     fun getArchiveBoards() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val archive = archiveRepository.save(Archive(1L, "title", "content", user, null, LocalDateTime.now().toString(), null))
-        archiveBoardRepository.save(ArchiveBoard(archive, board, user))
+        archiveService.addPostToArchive(archive.archiveId, board.boardId, user)
 
         //when
-        val results = archiveService.getArchiveBoards(archive.archiveId, user)
+        val results = archiveService.getArchiveBoards(archive.archiveId, user, CursorRequest(null, null)).boards
 
         //then
         assertThat(results).hasSize(1)
@@ -108,7 +109,7 @@ class ArchiveServiceTest @Autowired constructor(
     fun addPostToArchiveTest() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val archive = archiveRepository.save(Archive(1L, "title", "content", user, null, LocalDateTime.now().toString(), null))
 
         //when
@@ -126,7 +127,7 @@ class ArchiveServiceTest @Autowired constructor(
     fun addPostToArchiveExceptionTest() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val archive = archiveRepository.save(Archive(1L, "title", "content", user, null, LocalDateTime.now().toString(), null))
         archiveBoardRepository.save(ArchiveBoard(archive, board, user))
 
@@ -142,7 +143,7 @@ class ArchiveServiceTest @Autowired constructor(
     fun deleteArchiveTest() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val archive = archiveRepository.save(Archive(1L, "title", "content", user, null, LocalDateTime.now().toString(), null))
         archiveBoardRepository.save(ArchiveBoard(archive, board, user))
 
@@ -161,7 +162,7 @@ class ArchiveServiceTest @Autowired constructor(
     fun deleteArchivePostTest() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val archive = archiveRepository.save(Archive(1L, "title", "content", user, null, LocalDateTime.now().toString(), null))
         archiveBoardRepository.save(ArchiveBoard(archive, board, user))
 
@@ -0,0 +1,193 @@
+package team.nine.booknutsbackend.service
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider
+import com.amazonaws.auth.AnonymousAWSCredentials
+import com.amazonaws.client.builder.AwsClientBuilder
+import com.amazonaws.services.s3.AmazonS3
+import com.amazonaws.services.s3.AmazonS3ClientBuilder
+import com.amazonaws.services.s3.model.MultiObjectDeleteException
+import com.amazonaws.services.s3.transfer.TransferManager
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder
+import io.findify.s3mock.S3Mock
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import org.mockito.ArgumentCaptor
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.ArgumentMatchers.anyList
+import org.mockito.ArgumentMatchers.anyLong
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.reset
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import org.springframework.mock.web.MockMultipartFile
+import org.springframework.test.util.ReflectionTestUtils
+import team.nine.booknutsbackend.domain.ImageDeleteTask
+import team.nine.booknutsbackend.repository.ImageDeleteTaskRepository
+import java.time.LocalDateTime
+
+//인메모리 S3(S3Mock)로 업로드 검증
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AwsS3ServiceTest {
+
+    private val port = 8001
+    private val bucket = "booknuts-test"
+    private val threshold = 5L * 1024 * 1024 //S3 최소 part 크기
+
+    private lateinit var s3Mock: S3Mock
+    private lateinit var amazonS3: AmazonS3
+    private lateinit var transferManager: TransferManager
+    private lateinit var awsS3Service: AwsS3Service
+    private val imageDeleteTaskRepository = mock(ImageDeleteTaskRepository::class.java)
+    private val claimToken = "claim-token"
+
+    @BeforeAll
+    fun start() {
+        s3Mock = S3Mock.Builder().withPort(port).withInMemoryBackend().build()
+        s3Mock.start()
+
+        amazonS3 = AmazonS3ClientBuilder.standard()
+            .withPathStyleAccessEnabled(true)
+            .withEndpointConfiguration(AwsClientBuilder.EndpointConfiguration("http://localhost:$port", "ap-northeast-2"))
+            .withCredentials(AWSStaticCredentialsProvider(AnonymousAWSCredentials()))
+            .build()
+        amazonS3.createBucket(bucket)
+
+        transferManager = TransferManagerBuilder.standard()
+            .withS3Client(amazonS3)
+            .withMultipartUploadThreshold(threshold)
+            .withMinimumUploadPartSize(threshold)
+            .build()
+        awsS3Service = AwsS3Service(amazonS3, transferManager, imageDeleteTaskRepository)
+        ReflectionTestUtils.setField(awsS3Service, "bucketName", bucket)
+    }
+
+    @AfterAll
+    fun stop() {
+        transferManager.shutdownNow(false)
+        s3Mock.shutdown()
+    }
+
+    @Test
+    @DisplayName("작은 이미지는 한 번에 업로드된다")
+    fun uploadSmallImage() {
+        //given
+        val file = MockMultipartFile("file", "cover.png", "image/png", ByteArray(1024) { it.toByte() })
+
+        //when
+        val url = awsS3Service.uploadImg(file, "debate-")
+
+        //then
+        val key = url.substringAfterLast("/")
+        assertThat(key).startsWith("debate-")
+        assertThat(amazonS3.getObject(bucket, key).objectContent.use { it.readBytes() }).isEqualTo(file.bytes)
+    }
+
+    @Test
+    @DisplayName("multipart threshold 이상의 이미지는 part로 나눠 업로드된다")
+    fun uploadLargeImage() {
+        //given
+        val file = MockMultipartFile("file", "profile.png", "image/png", ByteArray(threshold.toInt() * 2 + 1024) { (it % 251).toByte() })
+
+        //when
+        val url = awsS3Service.uploadImg(file, "profile-")
+
+        //then
+        val key = url.substringAfterLast("/")
+        assertThat(amazonS3.getObjectMetadata(bucket, key).contentLength).isEqualTo(file.size)
+        assertThat(amazonS3.getObject(bucket, key).objectContent.use { it.readBytes() }).isEqualTo(file.bytes)
+    }
+
+    @Test
+    @DisplayName("파일이 없으면 빈 주소를 반환한다")
+    fun uploadEmptyImage() {
+        assertThat(awsS3Service.uploadImg(null, "series-")).isEmpty()
+    }
+
+    @Test
+    @DisplayName("삭제 대기열의 이미지가 한 번에 삭제된다")
+    fun deleteQueuedImages() {
+        //given
+        reset(imageDeleteTaskRepository)
+        val keys = (1..5).map { "series-delete-$it" }
+        keys.forEach { amazonS3.putObject(bucket, it, "image") }
+        val tasks = keys.mapIndexed { i, key -> task(i + 1L, key, 0) }
+        claim(tasks)
+
+        //when
+        awsS3Service.deleteQueuedImages()
+
+        //then
+        keys.forEach { assertThat(amazonS3.doesObjectExist(bucket, it)).isFalse }
+        verify(imageDeleteTaskRepository).deleteClaimed(listOf(1L, 2L, 3L, 4L, 5L), claimToken)
+        verify(imageDeleteTaskRepository, never()).reschedule(anyLong(), anyInt(), any(), anyString())
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 이미지는 backoff 후 재시도하고, 최대 횟수를 넘기면 포기한다")
+    fun retryFailedDeletes() {
+        //given
+        reset(imageDeleteTaskRepository)
+        val failingS3 = mock(AmazonS3::class.java)
+        val errors = listOf("profile-retry", "profile-retry-again", "profile-give-up").map { key ->
+            MultiObjectDeleteException.DeleteError().apply { this.key = key; code = "InternalError" }
+        }
+        `when`(failingS3.deleteObjects(any())).thenThrow(MultiObjectDeleteException(errors, emptyList()))
+        val service = AwsS3Service(failingS3, transferManager, imageDeleteTaskRepository)
+        ReflectionTestUtils.setField(service, "bucketName", bucket)
+        claim(listOf(
+            task(1L, "profile-deleted", 0),
+            task(2L, "profile-retry", 0),
+            task(3L, "profile-retry-again", 3),
+            task(4L, "profile-give-up", 9),
+        ))
+        val before = LocalDateTime.now()
+
+        //when
+        service.deleteQueuedImages()
+
+        //then
+        val nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime::class.java)
+        verify(imageDeleteTaskRepository).reschedule(eq(2L), eq(1), nextAttemptAt.capture(), eq(claimToken))
+        verify(imageDeleteTaskRepository).reschedule(eq(3L), eq(4), nextAttemptAt.capture(), eq(claimToken))
+        assertThat(nextAttemptAt.allValues[0]).isBetween(before.plusMinutes(1), LocalDateTime.now().plusMinutes(1))
+        assertThat(nextAttemptAt.allValues[1]).isBetween(before.plusMinutes(8), LocalDateTime.now().plusMinutes(8))
+        verify(imageDeleteTaskRepository).deleteClaimed(listOf(1L, 4L), claimToken)
+        verify(imageDeleteTaskRepository, never()).saveAll(anyList<ImageDeleteTask>())
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 선점한 작업은 처리하지 않는다")
+    fun skipTasksClaimedByOtherNode() {
+        //given
+        reset(imageDeleteTaskRepository)
+        val tasks = listOf(task(1L, "series-other-node", 0))
+        `when`(imageDeleteTaskRepository.findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc(any())).thenReturn(tasks)
+        `when`(imageDeleteTaskRepository.claim(anyList(), any(), any(), anyString())).thenReturn(0)
+
+        //when
+        awsS3Service.deleteQueuedImages()
+
+        //then
+        verify(imageDeleteTaskRepository, never()).findByClaimToken(anyString())
+        verify(imageDeleteTaskRepository, never()).deleteClaimed(anyList(), anyString())
+    }
+
+    //조회한 작업을 모두 선점한 것으로 설정
+    private fun claim(tasks: List<ImageDeleteTask>) {
+        `when`(imageDeleteTaskRepository.findTop1000ByNextAttemptAtLessThanEqualOrderByTaskIdAsc(any())).thenReturn(tasks)
+        `when`(imageDeleteTaskRepository.claim(anyList(), any(), any(), anyString())).thenReturn(tasks.size)
+        `when`(imageDeleteTaskRepository.findByClaimToken(anyString())).thenReturn(tasks)
+    }
+
+    private fun task(id: Long, key: String, attempts: Int) =
+        ImageDeleteTask(key).apply { taskId = id; this.attempts = attempts; this.claimToken = this@AwsS3ServiceTest.claimToken }
+
+}
@@ -1,6 +1,8 @@
 package team.nine.booknutsbackend.service
 
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.tuple
+import org.hibernate.SessionFactory
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -9,22 +11,37 @@ import org.springframework.boot.test.context.SpringBootTest
 import team.nine.booknutsbackend.domain.Board
 import team.nine.booknutsbackend.domain.Follow
 import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.reaction.Heart
+import team.nine.booknutsbackend.domain.reaction.Nuts
 import team.nine.booknutsbackend.dto.request.BoardRequest
+import team.nine.booknutsbackend.dto.request.CursorRequest
 import team.nine.booknutsbackend.repository.BoardRepository
+import team.nine.booknutsbackend.repository.FeedRepository
 import team.nine.booknutsbackend.repository.FollowRepository
+import team.nine.booknutsbackend.repository.HeartRepository
+import team.nine.booknutsbackend.repository.NutsRepository
 import team.nine.booknutsbackend.repository.UserRepository
 import java.time.LocalDateTime
+import javax.persistence.EntityManagerFactory
 
 @SpringBootTest
 class BoardServiceTest @Autowired constructor(
     private val userRepository: UserRepository,
     private val boardRepository: BoardRepository,
     private val followRepository: FollowRepository,
+    private val feedRepository: FeedRepository,
+    private val nutsRepository: NutsRepository,
+    private val heartRepository: HeartRepository,
     private val boardService: BoardService,
+    private val followService: FollowService,
+    private val entityManagerFactory: EntityManagerFactory,
 ){
 
     @AfterEach
     fun clean() {
+        feedRepository.deleteAll()
+        heartRepository.deleteAll()
+        nutsRepository.deleteAll()
         boardRepository.deleteAll()
         followRepository.deleteAll()
         userRepository.deleteAll()
@@ -35,7 +52,7 @@ class BoardServiceTest @Autowired constructor(
     fun getPost() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
 
         //when
         val result = boardService.getPost(board.boardId)
@@ -68,15 +85,34 @@ class BoardServiceTest @Autowired constructor(
         val userA = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
         val userB = userRepository.save(User(2L, "userB", "password", "userB", "nicknameB", "ss@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
         followRepository.save(Follow(1L, userA, userB))
-        boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null))
-        boardRepository.save(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "bookGenre", userA, null, null, null, null))
+        boardService.writePost(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+        boardService.writePost(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "bookGenre", userA, null, null, null, null, 0, 0, 0))
 
         //when
-        val result = boardService.getBoard(userB, 0)
+        val result = boardService.getBoard(userB, 0, CursorRequest(null, null)).boards
 
         //then
         assertThat(result).hasSize(2)
-        assertThat(result).extracting("title").containsExactlyInAnyOrder("boardTitle1", "boardTitle2")
+        assertThat(result).extracting("title").containsExactly("boardTitle2", "boardTitle1")
+    }
+
+    @Test
+    @DisplayName("팔로우 이전 게시글은 피드에 채워지고, 언팔로우 시 피드에서 제외")
+    fun getBoardMySubscribeAfterFollowAndUnfollow() {
+        //given
+        val userA = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val userB = userRepository.save(User(2L, "userB", "password", "userB", "nicknameB", "ss@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        boardService.writePost(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+
+        //when
+        followService.follow(userA.userId, userB.userId)
+        val followResult = boardService.getBoard(userB, 0, CursorRequest(null, null)).boards
+        followService.unfollow(userA.userId, userB.userId)
+        val unfollowResult = boardService.getBoard(userB, 0, CursorRequest(null, null)).boards
+
+        //then
+        assertThat(followResult).extracting("title").containsExactly("boardTitle1")
+        assertThat(unfollowResult).isEmpty()
     }
 
     @Test
@@ -84,11 +120,11 @@ class BoardServiceTest @Autowired constructor(
     fun getBoardTodayRecommend() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
-        val board2 = boardRepository.save(Board(2L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "독립서적", user, null, null, null, null))
+        boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        val board2 = boardRepository.save(Board(2L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "독립서적", user, null, null, null, null, 0, 0, 0))
 
         //when
-        val result = boardService.getBoard(user, 2)
+        val result = boardService.getBoard(user, 2, CursorRequest(null, null)).boards
 
         //then
         assertThat(result).hasSize(1)
@@ -100,23 +136,82 @@ class BoardServiceTest @Autowired constructor(
     fun getBoardList() {
         //given
         val userA = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null))
-        boardRepository.save(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "bookGenre", userA, null, null, null, null))
+        boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+        boardRepository.save(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor2", "bookGenre", userA, null, null, null, null, 0, 0, 0))
 
         //when
-        val result = boardService.getBoardList(userA)
+        val result = boardService.getBoardList(userA, CursorRequest(null, null)).boards
 
         //then
         assertThat(result).hasSize(2)
         assertThat(result).extracting("title").containsExactlyInAnyOrder("boardTitle1", "boardTitle2")
     }
 
+    @Test
+    @DisplayName("게시글 목록을 커서로 나누어 최신순 조회")
+    fun getBoardListWithCursor() {
+        //given
+        val userA = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+        boardRepository.save(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+        boardRepository.save(Board(3L, "boardTitle3", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", userA, null, null, null, null, 0, 0, 0))
+
+        //when
+        val firstPage = boardService.getBoard(userA, 1, CursorRequest(null, 2))
+        val secondPage = boardService.getBoard(userA, 1, CursorRequest(firstPage.nextCursor, 2))
+
+        //then
+        assertThat(firstPage.boards).extracting("title").containsExactly("boardTitle3", "boardTitle2")
+        assertThat(secondPage.boards).extracting("title").containsExactly("boardTitle1")
+        assertThat(secondPage.nextCursor).isNull()
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 현재 유저의 넛츠 여부가 정상 반영")
+    fun getBoardWithViewerReaction() {
+        //given
+        val user = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val board1 = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        boardRepository.save(Board(2L, "boardTitle2", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        nutsRepository.save(Nuts(1L, user, board1))
+
+        //when
+        val result = boardService.getBoard(user, 1, CursorRequest(null, null)).boards
+
+        //then
+        assertThat(result).extracting("title", "isNuts", "isHeart", "curUser")
+            .containsExactly(tuple("boardTitle2", false, false, true), tuple("boardTitle1", true, false, true))
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 작성자 수와 관계없이 쿼리 수가 일정")
+    fun getBoardStatementCount() {
+        //given
+        val viewer = userRepository.save(User(1L, "viewer", "password", "viewer", "viewer", "viewer@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        for (i in 1..20) {
+            val writer = userRepository.save(User(null, "writer$i", "password", "writer$i", "nickname$i", "writer$i@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+            boardRepository.save(Board(null, "boardTitle$i", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", writer, null, null, null, null, 0, 0, 0))
+        }
+        val statistics = entityManagerFactory.unwrap(SessionFactory::class.java).statistics
+        statistics.isStatisticsEnabled = true
+        statistics.clear()
+
+        //when
+        val result = boardService.getBoard(viewer, 1, CursorRequest(null, 20)).boards
+
+        //then
+        //게시글+작성자 1, 작성자 권한 1, 넛츠/하트/아카이브 여부 3
+        assertThat(result).hasSize(20)
+        assertThat(result.map { it.writer }).doesNotContainNull()
+        assertThat(statistics.prepareStatementCount).isLessThanOrEqualTo(5)
+    }
+
     @Test
     @DisplayName("게시글 수정이 정상 작동")
     fun updatePost() {
         //given
         val user = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val boardRequest = BoardRequest("updateTitle", null, "bookTitle", "bookAuthor", "bookImgUrl", "bookGenre")
 
         //when
@@ -132,7 +227,7 @@ class BoardServiceTest @Autowired constructor(
     fun deletePost() {
         //given
         val user = userRepository.save(User(1L, "userA", "password", "userA", "nicknameA", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
 
         //when
         boardService.deletePost(board.boardId, user)
@@ -142,4 +237,26 @@ class BoardServiceTest @Autowired constructor(
         assertThat(results).hasSize(0)
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("반응 수 보정 시 어긋난 넛츠, 좋아요, 아카이브 수를 실제 반응 수로 되돌린다")
+    fun reconcileReactionCount() {
+        //given
+        val writer = userRepository.save(User(null, "writer", "password", "writer", "writer", "writer@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val reader = userRepository.save(User(null, "reader", "password", "reader", "reader", "reader@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val drifted = boardRepository.save(Board(null, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", writer, null, null, null, null, 5, 0, 2))
+        val accurate = boardRepository.save(Board(null, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", writer, null, null, null, null, 1, 0, 0))
+        nutsRepository.save(Nuts(null, reader, drifted))
+        heartRepository.save(Heart(null, writer, drifted))
+        heartRepository.save(Heart(null, reader, drifted))
+        nutsRepository.save(Nuts(null, reader, accurate))
+
+        //when
+        boardService.reconcileReactionCount()
+
+        //then
+        val result = boardRepository.findAllById(listOf(drifted.boardId, accurate.boardId)).associateBy { it.boardId }
+        assertThat(result[drifted.boardId]).extracting("nutsCnt", "heartCnt", "archiveCnt").containsExactly(1, 2, 0)
+        assertThat(result[accurate.boardId]).extracting("nutsCnt", "heartCnt", "archiveCnt").containsExactly(1, 0, 0)
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.boot.test.context.SpringBootTest
 import team.nine.booknutsbackend.domain.Board
 import team.nine.booknutsbackend.domain.Comment
 import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.dto.request.CommentCursorRequest
 import team.nine.booknutsbackend.dto.request.CommentRequest
 import team.nine.booknutsbackend.exception.comment.CommentNotFoundException
 import team.nine.booknutsbackend.exception.comment.NotNewCommentCreateException
@@ -39,7 +40,7 @@ class CommentServiceTest @Autowired constructor(
     fun writeComment() {
         //given
         val commentRequest = CommentRequest("commentContent")
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
 
         //when
         commentService.writeComment(board.boardId, commentRequest, user)
@@ -54,7 +55,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun writeReComment() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val parentComment = commentRepository.save(Comment(1L, "부모댓글!", LocalDateTime.now().toString(), user, null, null, board))
         val reComment = CommentRequest("commentContent")
 
@@ -70,7 +71,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun writeReCommentAboutDeletedParentCommentException() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val reComment = CommentRequest("commentContent")
 
         //when & then
@@ -84,7 +85,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun getComment() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val comment = commentRepository.save(Comment(1L, "댓글!!", LocalDateTime.now().toString(), user, null, null, board))
 
         //when
@@ -99,24 +100,43 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun getCommentList() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val parentComment1 = commentRepository.save(Comment(1L, "부모댓글!", LocalDateTime.now().toString(), user, null, null, board))
         val reComment = commentRepository.save(Comment(2L, "대댓글!", LocalDateTime.now().toString(), user, parentComment1, null, board))
         val parentComment2 = commentRepository.save(Comment(3L, "부모댓글2!", LocalDateTime.now().toString(), user, null, null, board))
 
         //when
-        val results = commentService.getCommentList(board.boardId)
+        val results = commentService.getCommentList(board.boardId, CommentCursorRequest(null, null)).comments
 
         //then
         assertThat(results).hasSize(3)
-        assertThat(results).extracting("commentId").containsExactlyInAnyOrder(parentComment1.commentId, parentComment2.commentId, reComment.commentId)
+        assertThat(results).extracting("commentId").containsExactly(parentComment1.commentId, reComment.commentId, parentComment2.commentId)
+    }
+
+    @DisplayName("게시글 별 댓글 리스트 커서 페이징이 부모 댓글 기준으로 정상 작동")
+    @Test
+    fun getCommentListWithCursor() {
+        //given
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        val parentComment1 = commentRepository.save(Comment(1L, "부모댓글1", LocalDateTime.now().toString(), user, null, null, board))
+        val parentComment2 = commentRepository.save(Comment(2L, "부모댓글2", LocalDateTime.now().toString(), user, null, null, board))
+        val reComment1 = commentRepository.save(Comment(3L, "대댓글1", LocalDateTime.now().toString(), user, parentComment1, null, board))
+        val reComment2 = commentRepository.save(Comment(4L, "대댓글2", LocalDateTime.now().toString(), user, parentComment2, null, board))
+
+        //when
+        val firstPage = commentService.getCommentList(board.boardId, CommentCursorRequest(null, 1))
+        val secondPage = commentService.getCommentList(board.boardId, CommentCursorRequest(firstPage.nextCursor, 1))
+
+        //then
+        assertThat(firstPage.comments).extracting("commentId").containsExactly(parentComment1.commentId, reComment1.commentId)
+        assertThat(secondPage.comments).extracting("commentId").containsExactly(parentComment2.commentId, reComment2.commentId)
     }
     
     @DisplayName("댓글 수정이 정상적으로 작동")
     @Test
     fun updateComment() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val comment = commentRepository.save(Comment(1L, "댓글!", LocalDateTime.now().toString(), user, null, null, board))
         val updateComment = CommentRequest("update Comment")
 
@@ -132,7 +152,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun updateCommentContentIsNull() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val comment = commentRepository.save(Comment(1L, "댓글!", LocalDateTime.now().toString(), user, null, null, board))
         val updateComment = CommentRequest(null)
 
@@ -147,7 +167,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun deleteSoloComment() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val comment = commentRepository.save(Comment(1L, "부모댓글!", LocalDateTime.now().toString(), user, null, null, board))
 
         //when
@@ -162,7 +182,7 @@ class CommentServiceTest @Autowired constructor(
     @Test
     fun deleteParentComment() {
         //given
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTItle", "bookCotent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val parentComment = commentRepository.save(Comment(1L, "부모댓글!", LocalDateTime.now().toString(), user, null, null, board))
         val reComment = commentRepository.save(Comment(2L, "대댓글!", LocalDateTime.now().toString(), user, parentComment, null, board))
 
@@ -0,0 +1,148 @@
+package team.nine.booknutsbackend.service
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateMessage
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.domain.debate.DebateRoomHistory
+import team.nine.booknutsbackend.domain.debate.DebateUser
+import team.nine.booknutsbackend.domain.debate.DebateUserHistory
+import team.nine.booknutsbackend.repository.*
+import java.time.Duration
+import java.time.LocalDateTime
+
+//batch-size=2 로 여러 batch에 걸친 keyset 조회 확인
+@SpringBootTest(properties = ["debate.cleanup.batch-size=2"])
+class DebateCleanupServiceTest @Autowired constructor(
+    private val debateCleanupService: DebateCleanupService,
+    private val debateMessageService: DebateMessageService,
+    private val userRepository: UserRepository,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    private val debateMessageRepository: DebateMessageRepository,
+    private val debateRoomHistoryRepository: DebateRoomHistoryRepository,
+    private val debateUserHistoryRepository: DebateUserHistoryRepository,
+    private val redisService: RedisService,
+) {
+
+    @AfterEach
+    fun clean() {
+        debateMessageRepository.deleteAllInBatch()
+        debateUserHistoryRepository.deleteAllInBatch()
+        debateRoomHistoryRepository.deleteAllInBatch()
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("오래 대기 중이거나 진행 중인 토론만 종료한다")
+    fun closeIdleRoomsTest() {
+        //given
+        val owner = userRepository.save(user())
+        val now = LocalDateTime.now()
+        val staleWaiting = debateRoomRepository.saveAll((0 until 5).map { room(owner, it % 2, 0, now.minusHours(7).plusMinutes(it.toLong())) })
+        val staleInProgress = debateRoomRepository.saveAll((0 until 3).map { room(owner, it % 2, 1, now.minusHours(25)) })
+        val fresh = debateRoomRepository.saveAll(listOf(room(owner, 0, 0, now.minusHours(1)), room(owner, 1, 1, now.minusHours(23))))
+
+        //when
+        debateCleanupService.closeIdleRooms()
+
+        //then
+        val statuses = debateRoomRepository.findAll().associate { it.debateRoomId to it.status }
+        (staleWaiting + staleInProgress).forEach { assertThat(statuses[it.debateRoomId]).isEqualTo(2) }
+        assertThat(statuses[fresh[0].debateRoomId]).isEqualTo(0)
+        assertThat(statuses[fresh[1].debateRoomId]).isEqualTo(1)
+        assertThat(debateRoomRepository.findById(staleWaiting[0].debateRoomId).get().statusChangedAt).isAfter(now.minusMinutes(1))
+    }
+
+    @Test
+    @DisplayName("개설은 오래되었어도 최근에 시작한 토론은 종료하지 않는다")
+    fun closeByStatusChangedAtTest() {
+        //given
+        val owner = userRepository.save(user())
+        val now = LocalDateTime.now()
+        val recentlyStarted = debateRoomRepository.save(room(owner, 0, 1, now.minusHours(2), createdAt = now.minusHours(30)))
+        val longRunning = debateRoomRepository.save(room(owner, 0, 1, now.minusHours(25), createdAt = now.minusHours(30)))
+
+        //when
+        debateCleanupService.closeIdleRooms()
+
+        //then
+        assertThat(debateRoomRepository.findById(recentlyStarted.debateRoomId).get().status).isEqualTo(1)
+        assertThat(debateRoomRepository.findById(longRunning.debateRoomId).get().status).isEqualTo(2)
+    }
+
+    @Test
+    @DisplayName("다른 서버가 실행 중이면 정리 작업을 건너뛴다")
+    fun skipWhenLockedTest() {
+        //given
+        val owner = userRepository.save(user())
+        val stale = debateRoomRepository.save(room(owner, 0, 0, LocalDateTime.now().minusHours(7)))
+        redisService.setValuesIfAbsent("scheduler:lock:debate-close", "other-node", Duration.ofMinutes(1))
+
+        //when
+        try {
+            debateCleanupService.closeIdleRooms()
+        } finally {
+            redisService.deleteValues("scheduler:lock:debate-close")
+        }
+
+        //then
+        assertThat(debateRoomRepository.findById(stale.debateRoomId).get().status).isEqualTo(0)
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 종료 토론장과 참여자를 기록 테이블로 옮긴다")
+    fun archiveFinishedRoomsTest() {
+        //given
+        val owner = userRepository.save(user())
+        val now = LocalDateTime.now()
+        val old = debateRoomRepository.saveAll((0 until 5).map { room(owner, it % 2, 2, now.minusDays(8)) })
+        val recent = debateRoomRepository.save(room(owner, 0, 2, now.minusDays(1)))
+        val waiting = debateRoomRepository.save(room(owner, 0, 0, now.minusDays(8)))
+        val debateUsers = (old + recent).map { debateUserRepository.save(debateUser(owner, it)) }
+        debateMessageRepository.save(message(owner, old[0]))
+        debateRoomHistoryRepository.save(DebateRoomHistory.of(old[1], now)) //겹쳐 실행된 이전 작업이 먼저 기록한 토론장
+        debateUserHistoryRepository.save(DebateUserHistory.of(debateUsers[1]))
+
+        //when
+        debateCleanupService.archiveFinishedRooms()
+
+        //then
+        assertThat(debateRoomRepository.findAll().map { it.debateRoomId })
+            .containsExactlyInAnyOrder(recent.debateRoomId, waiting.debateRoomId)
+        assertThat(debateRoomHistoryRepository.findAll().map { it.debateRoomId })
+            .containsExactlyInAnyOrderElementsOf(old.map { it.debateRoomId })
+        assertThat(debateUserRepository.count()).isEqualTo(1)
+        assertThat(debateUserHistoryRepository.findAll().map { it.debateRoomId })
+            .containsExactlyInAnyOrderElementsOf(old.map { it.debateRoomId })
+        assertThat(debateMessageService.getMessages(old[0].debateRoomId).map { it.message }).containsExactly("hello")
+    }
+
+    private fun user() =
+        User(null, "owner", "password", "owner", "owner", "owner@naver.com", null, null, null, true, null, null, null, null, null, null)
+
+    private fun room(owner: User, type: Int, status: Int, statusChangedAt: LocalDateTime, createdAt: LocalDateTime = statusChangedAt) =
+        DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, type, 4, 0, 0, status, owner, createdAt, statusChangedAt)
+
+    private fun debateUser(user: User, room: DebateRoom) = DebateUser().apply {
+        this.user = user
+        this.debateRoom = room
+        this.opinion = true
+    }
+
+    private fun message(user: User, room: DebateRoom) = DebateMessage().apply {
+        this.user = user
+        this.debateRoomId = room.debateRoomId
+        this.opinion = true
+        this.content = "hello"
+        this.createdAt = LocalDateTime.now()
+    }
+
+}
@@ -0,0 +1,183 @@
+package team.nine.booknutsbackend.service
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import team.nine.booknutsbackend.debate.DebateLobbyCache
+import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.domain.debate.DebateRoom
+import team.nine.booknutsbackend.exception.debate.CannotEnterException
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.DebateUserRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import java.time.LocalDateTime
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+@SpringBootTest
+class DebateServiceTest @Autowired constructor(
+    private val debateService: DebateService,
+    private val debateRoomRepository: DebateRoomRepository,
+    private val debateUserRepository: DebateUserRepository,
+    private val userRepository: UserRepository,
+    private val debateLobbyCache: DebateLobbyCache,
+    private val objectMapper: ObjectMapper,
+) {
+
+    @AfterEach
+    fun clean() {
+        debateUserRepository.deleteAllInBatch()
+        debateRoomRepository.deleteAllInBatch()
+        userRepository.deleteAll()
+    }
+
+    @Test
+    @DisplayName("동시에 참여해도 한쪽 정원을 넘지 않는다")
+    fun concurrentEnterTest() {
+        //given
+        val users = userRepository.saveAll((1..200).map { user(it) })
+        val room = debateRoomRepository.save(room(users[0], 8))
+
+        //when
+        val entered = AtomicInteger()
+        runConcurrently(users.size) { i ->
+            try {
+                debateService.enterRoom(room.debateRoomId, users[i], i % 2 == 0)
+                entered.incrementAndGet()
+            } catch (e: CannotEnterException) {
+            }
+        }
+
+        //then
+        val result = debateRoomRepository.findById(room.debateRoomId).get()
+        assertThat(entered.get()).isEqualTo(8)
+        assertThat(result.curYesUser).isEqualTo(4)
+        assertThat(result.curNoUser).isEqualTo(4)
+        assertThat(debateUserRepository.count()).isEqualTo(8)
+    }
+
+    @Test
+    @DisplayName("같은 유저가 동시에 참여해도 한 번만 참여된다")
+    fun concurrentDuplicateEnterTest() {
+        //given
+        val user = userRepository.save(user(1))
+        val room = debateRoomRepository.save(room(user, 8))
+
+        //when
+        val entered = AtomicInteger()
+        runConcurrently(50) { i ->
+            try {
+                debateService.enterRoom(room.debateRoomId, user, i % 2 == 0)
+                entered.incrementAndGet()
+            } catch (e: CannotEnterException) {
+            }
+        }
+
+        //then
+        val result = debateRoomRepository.findById(room.debateRoomId).get()
+        assertThat(entered.get()).isEqualTo(1)
+        assertThat(result.curYesUser + result.curNoUser).isEqualTo(1)
+        assertThat(debateUserRepository.count()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("토론 나가기 후 자리가 반납된다")
+    fun exitRoomTest() {
+        //given
+        val users = userRepository.saveAll((1..2).map { user(it) })
+        val room = debateRoomRepository.save(room(users[0], 2))
+        debateService.enterRoom(room.debateRoomId, users[0], true)
+        assertThatThrownBy { debateService.enterRoom(room.debateRoomId, users[1], true) }
+            .isInstanceOf(CannotEnterException::class.java)
+
+        //when
+        debateService.exitRoom(debateService.getRoom(room.debateRoomId), users[0])
+        val result = debateService.enterRoom(room.debateRoomId, users[1], true)
+
+        //then
+        assertThat(result.curYesUser).isEqualTo(1)
+        assertThat(debateUserRepository.count()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("대기 중이 아닌 토론에는 참여할 수 없다")
+    fun enterClosedRoomTest() {
+        //given
+        val user = userRepository.save(user(1))
+        val room = room(user, 4)
+        room.status = 1
+        debateRoomRepository.save(room)
+
+        //when & then
+        assertThatThrownBy { debateService.enterRoom(room.debateRoomId, user, true) }
+            .isInstanceOf(CannotEnterException::class.java)
+            .hasMessage("참여할 수 없는 토론 상태입니다.")
+        assertThat(debateRoomRepository.findById(room.debateRoomId).get().curYesUser).isEqualTo(0)
+    }
+
+    @Test
+    @DisplayName("토론 목록은 캐시되고, 참여와 상태 변경 시 다시 만들어진다")
+    fun lobbyCacheTest() {
+        //given
+        val user = userRepository.save(user(1))
+        val room = debateRoomRepository.save(room(user, 4))
+        debateLobbyCache.invalidate()
+
+        //when
+        val first = debateLobbyCache.getLobby(0)
+        val cached = debateLobbyCache.getLobby(0)
+        debateService.enterRoom(room.debateRoomId, user, true)
+        val entered = lobby(debateLobbyCache.getLobby(0))
+        debateService.changeStatus(room.debateRoomId, 1, user)
+        val started = lobby(debateLobbyCache.getLobby(2))
+
+        //then
+        assertThat(cached).isSameAs(first)
+        assertThat(lobby(first)["현재 대기 중인 토론"]!![0]["curYesUser"]).isEqualTo(0)
+        assertThat(entered["맞춤 토론"]!![0]["curYesUser"]).isEqualTo(1)
+        assertThat(entered["현재 대기 중인 토론"]!![0]["curYesUser"]).isEqualTo(1)
+        assertThat(started["현재 대기 중인 토론"]).isEmpty()
+        assertThat(started["현재 진행 중인 토론"]!![0]["roomId"]).isEqualTo(room.debateRoomId.toInt())
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun lobby(json: ByteArray) =
+        objectMapper.readValue(json, Map::class.java) as Map<String, List<Map<String, Any>>>
+
+    //작업마다 스레드 하나, 모든 스레드가 대기한 뒤 한 번에 시작
+    private fun runConcurrently(count: Int, task: (Int) -> Unit) {
+        val executor = Executors.newFixedThreadPool(count)
+        val waiting = CountDownLatch(count)
+        val start = CountDownLatch(1)
+        val done = CountDownLatch(count)
+        for (i in 0 until count) {
+            executor.execute {
+                try {
+                    waiting.countDown()
+                    start.await()
+                    task(i)
+                } finally {
+                    done.countDown()
+                }
+            }
+        }
+        assertThat(waiting.await(30, TimeUnit.SECONDS)).isTrue
+        start.countDown()
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue
+        executor.shutdown()
+    }
+
+    private fun user(i: Int) =
+        User(null, "loginId$i", "password", "name$i", "nickname$i", "user$i@naver.com", null, null, null, true, null, null, null, null, null, null)
+
+    private fun room(owner: User, maxUser: Int) =
+        DebateRoom(null, "bookTitle", "bookAuthor", null, "bookGenre", "topic", "coverImgUrl", null, 0, maxUser, 0, 0, 0, owner, LocalDateTime.now(), LocalDateTime.now())
+
+}
@@ -0,0 +1,129 @@
+package team.nine.booknutsbackend.service
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider
+import com.amazonaws.auth.AnonymousAWSCredentials
+import com.amazonaws.client.builder.AwsClientBuilder
+import com.amazonaws.services.s3.AmazonS3
+import com.amazonaws.services.s3.AmazonS3ClientBuilder
+import com.amazonaws.services.s3.model.ObjectMetadata
+import io.findify.s3mock.S3Mock
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterAll
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestInstance
+import org.mockito.Mockito.mock
+import org.springframework.test.util.ReflectionTestUtils
+import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.SeriesRepository
+import team.nine.booknutsbackend.repository.UserRepository
+import java.awt.image.BufferedImage
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import javax.imageio.ImageIO
+
+//인메모리 S3(S3Mock)로 썸네일 생성 검증
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ImageVariantServiceTest {
+
+    private val port = 8002
+    private val bucket = "booknuts-test"
+
+    private lateinit var s3Mock: S3Mock
+    private lateinit var amazonS3: AmazonS3
+    private lateinit var imageVariantService: ImageVariantService
+
+    @BeforeAll
+    fun start() {
+        s3Mock = S3Mock.Builder().withPort(port).withInMemoryBackend().build()
+        s3Mock.start()
+
+        amazonS3 = AmazonS3ClientBuilder.standard()
+            .withPathStyleAccessEnabled(true)
+            .withEndpointConfiguration(AwsClientBuilder.EndpointConfiguration("http://localhost:$port", "ap-northeast-2"))
+            .withCredentials(AWSStaticCredentialsProvider(AnonymousAWSCredentials()))
+            .build()
+        amazonS3.createBucket(bucket)
+
+        imageVariantService = ImageVariantService(amazonS3, mock(DebateRoomRepository::class.java),
+            mock(SeriesRepository::class.java), mock(UserRepository::class.java), 1, 10, 4_000_000)
+        ReflectionTestUtils.setField(imageVariantService, "bucketName", bucket)
+    }
+
+    @AfterAll
+    fun stop() {
+        imageVariantService.shutdown()
+        s3Mock.shutdown()
+    }
+
+    @Test
+    @DisplayName("긴 변이 320px인 JPEG 썸네일이 생성된다")
+    fun createThumbnail() {
+        //given
+        val imgUrl = upload("debate-cover", 1200, 800)
+
+        //when
+        val thumbnailUrl = imageVariantService.createThumbnail(imgUrl)
+
+        //then
+        val key = thumbnailUrl.substringAfterLast("/")
+        val thumbnail = amazonS3.getObject(bucket, key).objectContent.use { ImageIO.read(it) }
+        assertThat(key).isEqualTo("thumb-debate-cover")
+        assertThat(amazonS3.getObjectMetadata(bucket, key).contentType).isEqualTo("image/jpeg")
+        assertThat(thumbnail.width).isEqualTo(320)
+        assertThat(thumbnail.height).isEqualTo(213)
+    }
+
+    @Test
+    @DisplayName("썸네일보다 작은 이미지는 크기를 유지한다")
+    fun keepSmallImage() {
+        //given
+        val imgUrl = upload("profile-small", 100, 50)
+
+        //when
+        val thumbnailUrl = imageVariantService.createThumbnail(imgUrl)
+
+        //then
+        val thumbnail = amazonS3.getObject(bucket, thumbnailUrl.substringAfterLast("/")).objectContent.use { ImageIO.read(it) }
+        assertThat(thumbnail.width).isEqualTo(100)
+        assertThat(thumbnail.height).isEqualTo(50)
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 건너뛰며 디코딩해도 비율이 유지된다")
+    fun subsampleLargeImage() {
+        //given
+        val imgUrl = upload("series-large", 1920, 1440)
+
+        //when
+        val thumbnailUrl = imageVariantService.createThumbnail(imgUrl)
+
+        //then
+        val thumbnail = amazonS3.getObject(bucket, thumbnailUrl.substringAfterLast("/")).objectContent.use { ImageIO.read(it) }
+        assertThat(thumbnail.width).isEqualTo(320)
+        assertThat(thumbnail.height).isEqualTo(240)
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한을 넘는 이미지는 디코딩하지 않고 거부한다")
+    fun rejectOversizedImage() {
+        //given
+        val imgUrl = upload("profile-huge", 2500, 2000)
+
+        //when, then
+        assertThatThrownBy { imageVariantService.createThumbnail(imgUrl) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+            .hasMessageContaining("2500x2000")
+        assertThat(amazonS3.doesObjectExist(bucket, "thumb-profile-huge")).isFalse
+    }
+
+    private fun upload(key: String, width: Int, height: Int): String {
+        val bytes = ByteArrayOutputStream().also { ImageIO.write(BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", it) }.toByteArray()
+        val metadata = ObjectMetadata().apply { contentLength = bytes.size.toLong(); contentType = "image/png" }
+        amazonS3.putObject(bucket, key, ByteArrayInputStream(bytes), metadata)
+        return amazonS3.getUrl(bucket, key).toString()
+    }
+
+}
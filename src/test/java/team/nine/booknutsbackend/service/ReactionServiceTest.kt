@@ -38,13 +38,14 @@ class ReactionServiceTest @Autowired constructor(
     fun clickNuts() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
 
         //when
         val result = reactionService.clickNuts(board.boardId, user)
 
         //then
         assertThat(result).isEqualTo("넛츠 누름")
+        assertThat(boardRepository.findById(board.boardId).get().nutsCnt).isEqualTo(1)
     }
 
     @DisplayName("넛츠(유익해요) 클릭이 게시글에 정상적으로 취소")
@@ -52,7 +53,7 @@ class ReactionServiceTest @Autowired constructor(
     fun clickNutsToCancel() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val nuts = nutsRepository.save(Nuts(1L, user, board))
         user.nutsList = listOf(nuts)
         userRepository.save(user)
@@ -69,13 +70,14 @@ class ReactionServiceTest @Autowired constructor(
     fun clickHeart() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
 
         //when
         val result = reactionService.clickHeart(board.boardId, user)
 
         //then
         assertThat(result).isEqualTo("좋아요 누름")
+        assertThat(boardRepository.findById(board.boardId).get().heartCnt).isEqualTo(1)
     }
 
     @DisplayName("하트(좋아요) 클릭이 게시글에 정상적으로 반영")
@@ -83,7 +85,7 @@ class ReactionServiceTest @Autowired constructor(
     fun clickHeartToCancel() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val heart = heartRepository.save(Heart(1L, user, board))
         user.hearts = listOf(heart)
         userRepository.save(user)
@@ -100,7 +102,7 @@ class ReactionServiceTest @Autowired constructor(
     fun deleteAllReaction() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle1", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
         val heart = heartRepository.save(Heart(1L, user, board))
         val nuts = nutsRepository.save(Nuts(1L, user, board))
         user.nutsList = listOf(nuts)
@@ -1,17 +1,27 @@
 package team.nine.booknutsbackend.service
 
+import com.fasterxml.jackson.databind.ObjectMapper
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.tuple
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.data.redis.core.RedisTemplate
 import team.nine.booknutsbackend.domain.Board
+import team.nine.booknutsbackend.domain.Follow
 import team.nine.booknutsbackend.domain.User
 import team.nine.booknutsbackend.domain.debate.DebateRoom
 import team.nine.booknutsbackend.repository.BoardRepository
 import team.nine.booknutsbackend.repository.DebateRoomRepository
+import team.nine.booknutsbackend.repository.FollowRepository
 import team.nine.booknutsbackend.repository.UserRepository
+import team.nine.booknutsbackend.search.NgramIndex
+import team.nine.booknutsbackend.search.NicknameEntry
+import team.nine.booknutsbackend.search.NicknameIndex
+import team.nine.booknutsbackend.search.RedisSearchIndexBus
+import team.nine.booknutsbackend.search.SearchIndexEvent
 import java.time.LocalDateTime
 
 //Todo: 각 search board, debate, user service로 옮기기?!
@@ -20,11 +30,16 @@ class SearchServiceTest @Autowired constructor(
     private val boardRepository: BoardRepository,
     private val debateRoomRepository: DebateRoomRepository,
     private val userRepository: UserRepository,
-    private val searchService: SearchService
+    private val followRepository: FollowRepository,
+    private val searchService: SearchService,
+    private val boardService: BoardService,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val objectMapper: ObjectMapper,
 ){
 
     @AfterEach
     fun deleteAll() {
+        followRepository.deleteAll()
         debateRoomRepository.deleteAll()
         boardRepository.deleteAll()
         userRepository.deleteAll()
@@ -35,7 +50,8 @@ class SearchServiceTest @Autowired constructor(
     fun searchBoard() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null))
+        val board = boardRepository.save(Board(1L, "boardTitle", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        searchService.loadIndex()
 
         //when
         val result = searchService.searchBoard("board", user)
@@ -45,12 +61,32 @@ class SearchServiceTest @Autowired constructor(
         assertThat(result[0].boardId).isEqualTo(board.boardId)
     }
 
+    @Test
+    @DisplayName("게시글 검색 결과가 한글 부분 일치, 관련도 순으로 정상 작동")
+    fun searchBoardKoreanRanking() {
+        //given
+        val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        searchService.loadIndex()
+        val contentMatch = boardService.writePost(Board(1L, "오늘의 기록", "데미안을 다시 읽었다", LocalDateTime.now().toString(), "데미안", "bookContent", "헤르만 헤세", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        val titleMatch = boardService.writePost(Board(2L, "데미안 독후감", "boardContent", LocalDateTime.now().toString(), "데미안", "bookContent", "헤르만 헤세", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        val deleted = boardService.writePost(Board(3L, "데미안 메모", "boardContent", LocalDateTime.now().toString(), "데미안", "bookContent", "헤르만 헤세", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        boardService.writePost(Board(4L, "어린 왕자", "boardContent", LocalDateTime.now().toString(), "어린 왕자", "bookContent", "생텍쥐페리", "bookGenre", user, null, null, null, null, 0, 0, 0))
+        boardService.deletePost(deleted.boardId, user)
+
+        //when
+        val result = searchService.searchBoard("데미안", user)
+
+        //then
+        assertThat(result).extracting("boardId").containsExactly(titleMatch.boardId, contentMatch.boardId)
+    }
+
     @Test
     @DisplayName("채팅방 관련 키워드로 채팅방 검색이 정상 작동")
     fun searchRoom() {
         //given
         val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
-        val debate = debateRoomRepository.save(DebateRoom(1L, "bookTitle", "bookAuthor", "bookImg", "genre", "topic", "coverImg", 0, 4, 0, 1, 0, user, LocalDateTime.now()))
+        val debate = debateRoomRepository.save(DebateRoom(1L, "bookTitle", "bookAuthor", "bookImg", "genre", "topic", "coverImg", null, 0, 4, 0, 1, 0, user, LocalDateTime.now(), LocalDateTime.now()))
+        searchService.loadIndex()
 
         //when
         val result = searchService.searchRoom("book")
@@ -66,6 +102,7 @@ class SearchServiceTest @Autowired constructor(
         //given
         val loginUser = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
         val targetUser = userRepository.save(User(2L, "targetId", "password", "targetName", "targetNick", "target@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        searchService.loadIndex()
 
         //when
         val result = searchService.searchUser("target", loginUser)
@@ -74,4 +111,110 @@ class SearchServiceTest @Autowired constructor(
         assertThat(result).hasSize(1)
         assertThat(result[0].userId).isEqualTo(targetUser.userId)
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("닉네임 검색이 접두어 일치 먼저, 중간 일치 다음 순서로 정상 작동")
+    fun searchUserPrefixAndInfix() {
+        //given
+        val loginUser = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val infixUser = userRepository.save(User(2L, "userA", "password", "userA", "밤의책방", "a@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val prefixUser = userRepository.save(User(3L, "userB", "password", "userB", "책방지기", "b@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        userRepository.save(User(4L, "userC", "password", "userC", "책벌레", "c@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        followRepository.save(Follow(1L, infixUser, loginUser))
+        searchService.loadIndex()
+
+        //when
+        val result = searchService.searchUser("책방", loginUser)
+
+        //then
+        assertThat(result).extracting("userId", "isFollow")
+            .containsExactly(tuple(prefixUser.userId, false), tuple(infixUser.userId, true))
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 작성, 삭제한 게시글이 이 서버 검색에 반영")
+    fun searchBoardChangedOnOtherNode() {
+        //given
+        val user = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        searchService.loadIndex()
+        val board = boardRepository.save(Board(1L, "다른 서버의 글", "boardContent", LocalDateTime.now().toString(), "bookTitle", "bookContent", "bookAuthor", "bookGenre", user, null, null, null, null, 0, 0, 0))
+
+        //when & then
+        publishFromOtherNode(board.boardId)
+        awaitCondition { searchService.searchBoard("서버", user).map { it.boardId } == listOf(board.boardId) }
+
+        boardRepository.delete(board)
+        publishFromOtherNode(board.boardId)
+        awaitCondition { searchService.searchBoard("서버", user).isEmpty() }
+    }
+
+    @Test
+    @DisplayName("한 글자 닉네임 검색은 그 글자가 들어간 유저만 확인한다")
+    fun searchUserSingleCharacter() {
+        //given
+        val index = NicknameIndex()
+        index.put(NicknameEntry(1L, "책방지기", null))
+        index.put(NicknameEntry(2L, "밤의책방", null))
+        index.put(NicknameEntry(3L, "독서왕", null))
+
+        //when
+        val result = index.search("책", 10)
+        index.remove(2L)
+
+        //then
+        assertThat(result.map { it.userId }).containsExactly(1L, 2L)
+        assertThat(index.search("방", 10).map { it.userId }).containsExactly(1L)
+        assertThat(index.search("왕", 10).map { it.userId }).containsExactly(3L)
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 가입, 탈퇴한 유저가 이 서버 닉네임 검색에 반영")
+    fun searchUserChangedOnOtherNode() {
+        //given
+        val loginUser = userRepository.save(User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        searchService.loadIndex()
+        val joined = userRepository.save(User(2L, "otherId", "password", "otherName", "다른서버유저", "other@naver.com", null, null, null, true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+
+        //when & then
+        publishFromOtherNode(joined.userId, SearchIndexEvent.Target.USER)
+        awaitCondition { searchService.searchUser("서버", loginUser).map { it.userId } == listOf(joined.userId) }
+
+        joined.nickname = null
+        joined.isEnabled = false
+        userRepository.save(joined)
+        publishFromOtherNode(joined.userId, SearchIndexEvent.Target.USER)
+        awaitCondition { searchService.searchUser("서버", loginUser).isEmpty() }
+    }
+
+    @Test
+    @DisplayName("색인 상한을 넘으면 오래된 문서부터 제거")
+    fun ngramIndexBound() {
+        //given
+        val index = NgramIndex(10, 3)
+
+        //when
+        index.put(1L, NgramIndex.Document().field("abc", 1)) //a, ab, b, bc, c
+        index.put(2L, NgramIndex.Document().field("defghijk", 1)) //앞 3글자만 색인 : d, de, e, ef, f
+        index.put(3L, NgramIndex.Document().field("xyz", 1))
+
+        //then
+        assertThat(index.size()).isEqualTo(2)
+        assertThat(index.search("ab", 10)).isEmpty()
+        assertThat(index.search("de", 10)).containsExactly(2L)
+        assertThat(index.search("gh", 10)).isEmpty()
+        assertThat(index.search("yz", 10)).containsExactly(3L)
+    }
+
+    private fun publishFromOtherNode(boardId: Long, target: SearchIndexEvent.Target = SearchIndexEvent.Target.BOARD) {
+        val event = SearchIndexEvent(target, boardId, "other-node")
+        redisTemplate.convertAndSend(RedisSearchIndexBus.CHANNEL, objectMapper.writeValueAsString(event))
+    }
+
+    private fun awaitCondition(condition: () -> Boolean) {
+        val deadline = System.currentTimeMillis() + 5000
+        while (!condition()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline)
+            Thread.sleep(20)
+        }
+    }
+}
@@ -1,22 +1,38 @@
 package team.nine.booknutsbackend.service
 
+import io.jsonwebtoken.Jwts
 import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
 import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.mock.web.MockHttpServletRequest
 import org.springframework.security.crypto.password.PasswordEncoder
+import team.nine.booknutsbackend.config.AuthUser
+import team.nine.booknutsbackend.config.JwtTokenProvider
 import team.nine.booknutsbackend.dto.request.UserRequest
+import team.nine.booknutsbackend.exception.user.InvalidTokenException
 import team.nine.booknutsbackend.exception.user.PasswordErrorException
 import team.nine.booknutsbackend.repository.UserRepository
 import team.nine.booknutsbackend.domain.User
+import team.nine.booknutsbackend.migration.LegacyRefreshTokenImporter
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 
 @SpringBootTest
 class UserServiceTest @Autowired constructor(
     private val userRepository: UserRepository,
     private val userService: UserService,
     private val passwordEncoder: PasswordEncoder,
+    private val jwtTokenProvider: JwtTokenProvider,
+    private val refreshTokenService: RefreshTokenService,
+    private val legacyRefreshTokenImporter: LegacyRefreshTokenImporter,
+    private val jdbcTemplate: JdbcTemplate,
 ) {
 
     private val userRequest = UserRequest("loginId", "password", "name", "nickname", "ss@naver.com", null)
@@ -98,4 +114,128 @@ class UserServiceTest @Autowired constructor(
     }
 
     //Todo: profileImage update 테스트 필요 (s3 연결 후에)
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("access token의 claim만으로 인증 정보가 정상 생성된다")
+    fun authenticationFromTokenClaims() {
+        //given
+        val user = userRepository.save(User(null, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val token = jwtTokenProvider.createAccessToken(user)
+        userRepository.deleteAll() //DB 조회 없이 인증되는지 확인
+
+        //when
+        val authentication = jwtTokenProvider.getAuthetication(token)
+
+        //then
+        val authUser = authentication.principal as AuthUser
+        assertThat(authUser.userId).isEqualTo(user.userId)
+        assertThat(authentication.name).isEqualTo(user.email)
+        assertThat(authentication.authorities).extracting("authority").containsExactly("ROLE_USER")
+    }
+
+    @Test
+    @DisplayName("한 요청에서 토큰은 한 번만 파싱되고, 위조된 토큰은 거부된다")
+    fun resolveClaimsOncePerRequest() {
+        //given
+        val user = User(1L, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList())
+        val token = jwtTokenProvider.createAccessToken(user)
+        val request = MockHttpServletRequest().apply { addHeader("X-AUTH-TOKEN", token) }
+        val forged = MockHttpServletRequest().apply { addHeader("X-AUTH-TOKEN", token.dropLast(2) + "xx") }
+
+        //when
+        val first = jwtTokenProvider.resolveClaims(request)
+        val second = jwtTokenProvider.resolveClaims(request)
+
+        //then
+        assertThat(second).isSameAs(first)
+        assertThat(first!!.subject).isEqualTo(user.email)
+        assertThat(jwtTokenProvider.getValidTime(token)).isPositive
+        assertThatThrownBy { jwtTokenProvider.resolveClaims(forged) }.isInstanceOf(InvalidTokenException::class.java)
+    }
+
+    @Test
+    @DisplayName("refresh token 재발급 시 기존 토큰은 폐기되고, 탈퇴 시 모든 기기의 토큰이 폐기된다")
+    fun refreshTokenRotationAndRevocation() {
+        //given
+        val user = userRepository.save(User(null, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val phone = refreshTokenService.issue(user)
+        val laptop = refreshTokenService.issue(user)
+
+        //when
+        @Suppress("UNCHECKED_CAST")
+        val reissued = userService.tokenReIssue(phone) as Map<String, String>
+
+        //then
+        assertThat(reissued["refreshToken"]).isNotEqualTo(phone)
+        assertThatThrownBy { userService.tokenReIssue(phone) }.isInstanceOf(InvalidTokenException::class.java)
+        @Suppress("UNCHECKED_CAST")
+        val latest = userService.tokenReIssue(reissued["refreshToken"]!!) as Map<String, String>
+
+        refreshTokenService.revokeAll(user.userId)
+        assertThatThrownBy { refreshTokenService.claim(laptop) }.isInstanceOf(InvalidTokenException::class.java)
+        assertThatThrownBy { refreshTokenService.claim(latest["refreshToken"]!!) }.isInstanceOf(InvalidTokenException::class.java)
+    }
+
+    @Test
+    @DisplayName("같은 refresh token으로 동시에 재발급하면 한 요청만 성공한다")
+    fun concurrentTokenReIssue() {
+        //given
+        val user = userRepository.save(User(null, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val refreshToken = refreshTokenService.issue(user)
+        val count = 16
+        val succeeded = AtomicInteger()
+        val rejected = AtomicInteger()
+
+        //when
+        val executor = Executors.newFixedThreadPool(count)
+        val ready = CountDownLatch(1)
+        val done = CountDownLatch(count)
+        repeat(count) {
+            executor.execute {
+                try {
+                    ready.await()
+                    userService.tokenReIssue(refreshToken)
+                    succeeded.incrementAndGet()
+                } catch (e: InvalidTokenException) {
+                    rejected.incrementAndGet()
+                } finally {
+                    done.countDown()
+                }
+            }
+        }
+        ready.countDown()
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue
+        executor.shutdown()
+
+        //then
+        assertThat(succeeded.get()).isEqualTo(1)
+        assertThat(rejected.get()).isEqualTo(count - 1)
+        refreshTokenService.revokeAll(user.userId)
+    }
+
+    @Test
+    @DisplayName("user 테이블에 남아 있던 refresh token은 Redis 저장소로 이전되고, 만료된 토큰은 버려진다")
+    fun importLegacyRefreshTokens() {
+        //given
+        val user = userRepository.save(User(null, "loginId", "password", "name", "nickname", "ss2@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val other = userRepository.save(User(null, "loginId2", "password", "name2", "nickname2", "ss3@naver.com", null, null, mutableListOf("ROLE_USER"), true, null, emptyList(), emptyList(), emptyList(), emptyList(), emptyList()))
+        val legacyToken = jwtTokenProvider.createRefreshToken(user.email)
+        val expiredToken = jwtTokenProvider.createToken(Jwts.claims().setSubject(other.email), -1000L)
+        jdbcTemplate.execute("alter table user add column refresh_token varchar(300)")
+        try {
+            jdbcTemplate.update("update user set refresh_token = ? where user_id = ?", legacyToken, user.userId)
+            jdbcTemplate.update("update user set refresh_token = ? where user_id = ?", expiredToken, other.userId)
+
+            //when
+            legacyRefreshTokenImporter.importTokens()
+
+            //then
+            assertThat(refreshTokenService.claim(legacyToken)).isEqualTo(user.userId)
+            assertThatThrownBy { refreshTokenService.claim(expiredToken) }.isInstanceOf(InvalidTokenException::class.java)
+            assertThat(jdbcTemplate.queryForObject("select count(*) from user where refresh_token is not null", Int::class.java)).isEqualTo(0)
+        } finally {
+            jdbcTemplate.execute("alter table user drop column refresh_token")
+            refreshTokenService.revokeAll(user.userId)
+        }
+    }
+}